@@ -0,0 +1,49 @@
+package com.makersworld.civic_sights_main.config;
+
+import java.util.concurrent.TimeUnit;
+
+import com.makersworld.civic_sights_main.model.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 카테고리 경로 변수 변환 비용 측정
+ *
+ * value 일치(적중) 경로와, 선형 탐색 후 toUpperCase().replace()로 enum 이름을 찾는 미스 경로를 비교합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=CategoryConverterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryConverterBenchmark {
+
+	private final CategoryConverter converter = new CategoryConverter();
+
+	// 필드로 두어 상수 폴딩 방지
+	private String pathValue = "civic-engagement";
+	private String enumName = "MEGATRENDS";
+
+	@Benchmark
+	public Category converterValueHit() {
+		return converter.convert(pathValue);
+	}
+
+	@Benchmark
+	public Category converterEnumNameMiss() {
+		return converter.convert(enumName);
+	}
+
+	@Benchmark
+	public Category fromValueHit() {
+		return Category.fromValue(pathValue);
+	}
+
+	@Benchmark
+	public Category fromValueEnumNameMiss() {
+		return Category.fromValue(enumName);
+	}
+}
@@ -0,0 +1,100 @@
+package com.makersworld.civic_sights_main.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * GatewayOnlyFilter 요청당 비용 측정
+ *
+ * 통과 경로(직접 접속, X-Forwarded-For 경유, 우회 경로)의 지연과
+ * gc 프로파일러의 gc.alloc.rate.norm(요청당 할당 바이트)을 함께 확인합니다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GatewayOnlyFilterBenchmark {
+
+	private static final String TOKEN = "civic-insights-gateway-v1";
+
+	private GatewayOnlyFilter filter;
+	private MockHttpServletRequest directRequest;
+	private MockHttpServletRequest forwardedRequest;
+	private MockHttpServletRequest ipv6Request;
+	private MockHttpServletRequest bypassRequest;
+	private MockHttpServletResponse response;
+	private FilterChain chain;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SecurityProperties properties = new SecurityProperties();
+		properties.setGatewayOnly(true);
+		properties.setGatewayToken(TOKEN);
+		properties.setAllowedNetworks(List.of("127.0.0.1/32", "::1/128", "10.0.0.0/8", "fd00::/8"));
+		filter = new GatewayOnlyFilter(properties, new SimpleMeterRegistry());
+
+		directRequest = request("/api/articles/free/42", "127.0.0.1");
+		directRequest.addHeader("X-Gateway-Internal", TOKEN);
+
+		forwardedRequest = request("/api/articles", "172.17.0.5");
+		forwardedRequest.addHeader("X-Gateway-Internal", TOKEN);
+		forwardedRequest.addHeader("X-Forwarded-For", " 10.20.30.40, 172.17.0.1, 172.17.0.5");
+
+		ipv6Request = request("/api/articles/category/basic-income", "fd00::12:34");
+		ipv6Request.addHeader("X-Gateway-Internal", TOKEN);
+
+		bypassRequest = request("/api/articles/health", "203.0.113.9");
+
+		response = new MockHttpServletResponse();
+	}
+
+	@Benchmark
+	public void directRequest(Blackhole blackhole) throws ServletException, IOException {
+		filter.doFilter(directRequest, response, chain(blackhole));
+	}
+
+	@Benchmark
+	public void forwardedRequest(Blackhole blackhole) throws ServletException, IOException {
+		filter.doFilter(forwardedRequest, response, chain(blackhole));
+	}
+
+	@Benchmark
+	public void ipv6Request(Blackhole blackhole) throws ServletException, IOException {
+		filter.doFilter(ipv6Request, response, chain(blackhole));
+	}
+
+	@Benchmark
+	public void bypassPath(Blackhole blackhole) throws ServletException, IOException {
+		filter.doFilter(bypassRequest, response, chain(blackhole));
+	}
+
+	private FilterChain chain(Blackhole blackhole) {
+		if (chain == null) {
+			chain = (request, response) -> blackhole.consume(request);
+		}
+		return chain;
+	}
+
+	private static MockHttpServletRequest request(String uri, String remoteAddr) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		request.setRemoteAddr(remoteAddr);
+		return request;
+	}
+}
@@ -0,0 +1,89 @@
+package com.makersworld.civic_sights_main.controller;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.makersworld.civic_sights_main.config.ImageProperties;
+import com.makersworld.civic_sights_main.image.ImageSourceFetcher;
+import com.makersworld.civic_sights_main.image.ImageVariantLinks;
+import com.makersworld.civic_sights_main.image.ImageVariantsJsonModule;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 목록 응답(25건 페이지) Jackson 직렬화 비용 측정
+ *
+ * 본문을 포함한 Page&lt;NewsArticle&gt;과 실제 목록 응답 형태인 Page&lt;NewsArticleSummary&gt;를 비교합니다.
+ * gc 프로파일러의 gc.alloc.rate.norm으로 응답당 할당 바이트도 함께 확인합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=ArticlePageSerializationBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticlePageSerializationBenchmark {
+
+	private static final int PAGE_SIZE = 25;
+
+	private ObjectMapper objectMapper;
+	private Page<NewsArticle> articlePage;
+	private Page<NewsArticleSummary> summaryPage;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// 애플리케이션 ObjectMapper와 같은 날짜 형식 (JavaTimeModule, ISO 문자열)과 목록 응답의 images 필드
+		objectMapper = JsonMapper.builder()
+				.findAndAddModules()
+				.addModule(new ImageVariantsJsonModule(new ImageVariantLinks(new ImageSourceFetcher(new ImageProperties()))))
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.build();
+
+		List<NewsArticle> articles = new ArrayList<>(PAGE_SIZE);
+		LocalDateTime base = LocalDateTime.of(2025, 8, 8, 9, 0);
+		Category[] categories = Category.values();
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			articles.add(NewsArticle.builder()
+					.id(1000L - i)
+					.title("시민 참여와 기본소득 정책 분석 " + i)
+					.mainImg("https://picsum.photos/800/400?random=" + i)
+					.author("작성자 " + i)
+					.createDate(base.minusHours(i))
+					.updateDate(base.minusHours(i))
+					.content("기사 본문 ".repeat(300))
+					.category(categories[i % categories.length])
+					.isPremium(i % 4 == 0)
+					.version(0L)
+					.build());
+		}
+		PageRequest pageable = PageRequest.of(0, PAGE_SIZE);
+		articlePage = new PageImpl<>(articles, pageable, 4_000);
+		summaryPage = new PageImpl<>(articles.stream().map(NewsArticleSummary::from).toList(), pageable, 4_000);
+	}
+
+	@Benchmark
+	public byte[] articlePage() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(articlePage);
+	}
+
+	@Benchmark
+	public byte[] summaryPage() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(summaryPage);
+	}
+}
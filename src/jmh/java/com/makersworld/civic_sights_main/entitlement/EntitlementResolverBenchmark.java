@@ -0,0 +1,55 @@
+package com.makersworld.civic_sights_main.entitlement;
+
+import java.util.concurrent.TimeUnit;
+
+import com.makersworld.civic_sights_main.config.EntitlementProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 유료 역할 헤더(X-User-Roles) 해석 비용 측정
+ *
+ * 같은 헤더 값이 반복되는 일반적인 경우(캐시 적중)와 캐시 없이 매번 파싱하는 경우를 비교합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=EntitlementResolverBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntitlementResolverBenchmark {
+
+	private EntitlementResolver cachedResolver;
+	private EntitlementResolver uncachedResolver;
+
+	private String paidHeader = "USER, ROLE_PAID_USER";
+	private String freeHeader = "USER,ADMIN";
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		cachedResolver = new EntitlementResolver(new EntitlementProperties());
+
+		EntitlementProperties uncached = new EntitlementProperties();
+		uncached.setCacheSize(0);
+		uncachedResolver = new EntitlementResolver(uncached);
+	}
+
+	@Benchmark
+	public boolean paidHeaderCached() {
+		return cachedResolver.resolve(paidHeader).has(Entitlement.PREMIUM_CONTENT);
+	}
+
+	@Benchmark
+	public boolean freeHeaderCached() {
+		return cachedResolver.resolve(freeHeader).has(Entitlement.PREMIUM_CONTENT);
+	}
+
+	@Benchmark
+	public boolean paidHeaderParsed() {
+		return uncachedResolver.resolve(paidHeader).has(Entitlement.PREMIUM_CONTENT);
+	}
+}
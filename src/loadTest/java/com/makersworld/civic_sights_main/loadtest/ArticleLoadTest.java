@@ -0,0 +1,270 @@
+package com.makersworld.civic_sights_main.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.makersworld.civic_sights_main.CivicSightsMainApplication;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.service.ArticleCounterRegistry;
+import com.makersworld.civic_sights_main.service.FrontPageSnapshots;
+
+/**
+ * 기사 API 종단 간 부하 측정 (릴리스 전 처리량 / 꼬리 지연 확인용)
+ *
+ * 애플리케이션을 MySQL 호환 모드 내장 H2로 띄우고 합성 기사 아카이브를 적재한 뒤,
+ * 가상 스레드 클라이언트들이 목록/상세/카테고리/쓰기 요청을 설정한 비율로 쉬지 않고 보냅니다. (closed-loop)
+ * 요청에는 게이트웨이 헤더(X-Gateway-Internal, 유료 상세는 X-User-Roles)를 붙이며,
+ * 엔드포인트별 지연은 HdrHistogram(마이크로초, 유효 숫자 3자리)으로 기록해 p50/p99/p999와 처리량을 출력하고
+ * 백분위 분포를 load.output-dir 아래 .hgrm 파일로 저장합니다. 외부 서비스 없이 한 대에서 실행됩니다.
+ *
+ * closed-loop 측정이므로 서버가 느려지면 요청 수도 줄어듭니다(coordinated omission).
+ * 꼬리 지연은 동시 접속 수를 바꿔 가며 비교하는 용도로 사용합니다.
+ *
+ * 실행: ./gradlew loadTest -Pload.articles=1000000 -Pload.concurrency=400
+ *
+ * 설정 (시스템 프로퍼티):
+ * - load.articles     시드 기사 수 (기본 100000)
+ * - load.concurrency  동시 클라이언트 수 (기본 200)
+ * - load.warmup       워밍업 시간 (기본 PT10S, 기록하지 않음)
+ * - load.duration     측정 시간 (기본 PT60S)
+ * - load.mix          엔드포인트별 가중치 (기본 list=40,detail=35,category=15,create=5,patch=5)
+ * - load.output-dir   .hgrm 저장 위치 (기본 build/reports/load-test)
+ */
+public final class ArticleLoadTest {
+
+	private static final String GATEWAY_TOKEN = "article-load-test";
+	private static final int PAGE_SIZE = 25;
+	private static final int MAX_PAGE = 10;
+
+	/**
+	 * 측정 대상 엔드포인트 (mix 키 = 소문자 이름)
+	 */
+	enum Endpoint {
+		LIST,
+		DETAIL,
+		CATEGORY,
+		CREATE,
+		PATCH
+	}
+
+	private final int articles = Integer.getInteger("load.articles", 100_000);
+	private final int concurrency = Integer.getInteger("load.concurrency", 200);
+	private final Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+	private final Duration duration = Duration.parse(System.getProperty("load.duration", "PT60S"));
+	private final Path outputDir = Path.of(System.getProperty("load.output-dir", "build/reports/load-test"));
+	private final Map<Endpoint, Integer> mix = parseMix(
+			System.getProperty("load.mix", "list=40,detail=35,category=15,create=5,patch=5"));
+	private final int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+
+	public static void main(String[] args) throws Exception {
+		new ArticleLoadTest().run();
+	}
+
+	private void run() throws Exception {
+		try (ConfigurableApplicationContext context = start()) {
+			long seedStart = System.nanoTime();
+			SyntheticArchive.seed(context.getBean(JdbcTemplate.class), articles);
+			// 기동 시 빈 DB로 초기화된 카운터/첫 페이지 스냅샷을 시드 기준으로 다시 구성
+			context.getBean(ArticleCounterRegistry.class).reconcile();
+			context.getBean(FrontPageSnapshots.class).rebuildAll();
+			System.out.printf("seeded %d articles in %.1fs%n", articles, (System.nanoTime() - seedStart) / 1e9);
+
+			int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+			String baseUrl = "http://127.0.0.1:" + port + "/api/articles";
+
+			drive(baseUrl, warmup);
+			Map<Endpoint, LatencyStats> results = drive(baseUrl, duration);
+			report(results);
+		}
+	}
+
+	private ConfigurableApplicationContext start() {
+		// 명령행 인자로 넘겨 application.properties / 프로필 설정보다 우선 적용
+		String[] args = {
+				"--spring.datasource.url=jdbc:h2:mem:load-test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.jpa.hibernate.ddl-auto=create",
+				"--spring.jpa.show-sql=false",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"--spring.flyway.enabled=false",
+				"--server.port=0",
+				"--app.security.gateway-token=" + GATEWAY_TOKEN,
+				// 단일 노드 측정이며 Flyway를 끈 H2에는 아웃박스 테이블이 없음
+				"--app.outbox.enabled=false",
+				"--logging.level.root=WARN",
+				"--logging.level.org.hibernate.SQL=WARN",
+				"--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+				"--logging.level.com.makersworld.civic_sights_main.config.GatewayOnlyFilter=WARN"
+		};
+		return new SpringApplicationBuilder(CivicSightsMainApplication.class).run(args);
+	}
+
+	/**
+	 * 지정 시간 동안 가상 스레드 클라이언트 concurrency개가 쉬지 않고 요청을 보냄
+	 * 클라이언트마다 독립 히스토그램에 기록하고 끝난 뒤 합칩니다.
+	 */
+	private Map<Endpoint, LatencyStats> drive(String baseUrl, Duration length) throws InterruptedException {
+		List<Map<Endpoint, LatencyStats>> perClient = new ArrayList<>(concurrency);
+		long deadline = System.nanoTime() + length.toNanos();
+
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			HttpClient httpClient = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.connectTimeout(Duration.ofSeconds(10))
+					.executor(clients)
+					.build();
+			for (int i = 0; i < concurrency; i++) {
+				Map<Endpoint, LatencyStats> stats = newStats();
+				perClient.add(stats);
+				clients.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						Endpoint endpoint = nextEndpoint();
+						call(httpClient, request(baseUrl, endpoint), stats.get(endpoint));
+					}
+				});
+			}
+		}
+
+		Map<Endpoint, LatencyStats> merged = newStats();
+		for (Map<Endpoint, LatencyStats> stats : perClient) {
+			stats.forEach((endpoint, client) -> merged.get(endpoint).add(client));
+		}
+		return merged;
+	}
+
+	private Endpoint nextEndpoint() {
+		int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+			pick -= entry.getValue();
+			if (pick < 0) {
+				return entry.getKey();
+			}
+		}
+		throw new IllegalStateException("Empty mix");
+	}
+
+	private HttpRequest request(String baseUrl, Endpoint endpoint) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		HttpRequest.Builder builder = switch (endpoint) {
+			case LIST -> HttpRequest.newBuilder(URI.create(
+					baseUrl + "?page=" + random.nextInt(MAX_PAGE) + "&size=" + PAGE_SIZE)).GET();
+			case CATEGORY -> HttpRequest.newBuilder(URI.create(baseUrl + "/category/"
+					+ SyntheticArchive.category(random.nextLong(articles)).getValue()
+					+ "?page=" + random.nextInt(MAX_PAGE) + "&size=" + PAGE_SIZE)).GET();
+			case DETAIL -> {
+				long id = random.nextLong(1, articles + 1);
+				yield SyntheticArchive.isPremium(id)
+						? HttpRequest.newBuilder(URI.create(baseUrl + "/premium/" + id)).header("X-User-Roles", "PAID_USER").GET()
+						: HttpRequest.newBuilder(URI.create(baseUrl + "/free/" + id)).GET();
+			}
+			case CREATE -> HttpRequest.newBuilder(URI.create(baseUrl))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(articleJson(random)));
+			case PATCH -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + random.nextLong(1, articles + 1)))
+					.header("Content-Type", "application/json")
+					.method("PATCH", HttpRequest.BodyPublishers.ofString(
+							"{\"title\":\"Patched title " + random.nextInt(1_000_000) + "\"}"));
+		};
+		return builder
+				.header("X-Gateway-Internal", GATEWAY_TOKEN)
+				.timeout(Duration.ofSeconds(30))
+				.build();
+	}
+
+	private static String articleJson(ThreadLocalRandom random) {
+		Category category = Category.values()[random.nextInt(Category.values().length)];
+		return "{\"title\":\"Load test article " + random.nextInt(1_000_000) + "\","
+				+ "\"mainImg\":\"https://example.com/images/load.jpg\","
+				+ "\"author\":\"Load tester\","
+				+ "\"content\":\"" + "Load test content ".repeat(50) + "\","
+				+ "\"category\":\"" + category.name() + "\","
+				+ "\"isPremium\":" + random.nextBoolean() + "}";
+	}
+
+	private static void call(HttpClient httpClient, HttpRequest request, LatencyStats stats) {
+		long start = System.nanoTime();
+		try {
+			HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+			if (response.statusCode() / 100 == 2) {
+				stats.record(System.nanoTime() - start);
+			} else {
+				stats.recordError();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			stats.recordError();
+		}
+	}
+
+	private void report(Map<Endpoint, LatencyStats> results) throws IOException {
+		Files.createDirectories(outputDir);
+		double seconds = duration.toMillis() / 1000.0;
+		LatencyStats total = new LatencyStats();
+
+		System.out.printf("%narticles=%d, concurrency=%d, duration=%s, mix=%s%n", articles, concurrency, duration, mix);
+		System.out.println(LatencyStats.header("endpoint"));
+		for (Map.Entry<Endpoint, LatencyStats> entry : results.entrySet()) {
+			LatencyStats stats = entry.getValue();
+			if (!mix.containsKey(entry.getKey())) {
+				continue;
+			}
+			total.add(stats);
+			System.out.println(stats.row(entry.getKey().name().toLowerCase(Locale.ROOT), seconds));
+			try (PrintStream out = new PrintStream(Files.newOutputStream(
+					outputDir.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm")))) {
+				stats.writeDistribution(out);
+			}
+		}
+		System.out.println(total.row("total", seconds));
+		System.out.printf("percentile distributions: %s%n", outputDir.toAbsolutePath());
+	}
+
+	private static Map<Endpoint, Integer> parseMix(String spec) {
+		Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+		for (String part : spec.split(",")) {
+			String[] pair = part.trim().split("=");
+			if (pair.length != 2) {
+				throw new IllegalArgumentException("Invalid load.mix entry: " + part);
+			}
+			int weight = Integer.parseInt(pair[1].trim());
+			if (weight > 0) {
+				mix.put(Endpoint.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+			}
+		}
+		if (mix.isEmpty()) {
+			throw new IllegalArgumentException("load.mix has no positive weights: " + spec);
+		}
+		return mix;
+	}
+
+	private static Map<Endpoint, LatencyStats> newStats() {
+		Map<Endpoint, LatencyStats> stats = new EnumMap<>(Endpoint.class);
+		for (Endpoint endpoint : Endpoint.values()) {
+			stats.put(endpoint, new LatencyStats());
+		}
+		return stats;
+	}
+}
@@ -0,0 +1,56 @@
+package com.makersworld.civic_sights_main.loadtest;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 획득 직후 고정 지연을 주입하는 DataSource 래퍼
+ *
+ * 내장 H2는 응답이 너무 빨라 스레드가 JDBC에서 "막히는" 상황이 재현되지 않으므로,
+ * 실제 MySQL 왕복 시간만큼 커넥션을 점유한 채 대기하여 블로킹 I/O를 흉내냅니다.
+ * (Thread.sleep 은 가상 스레드에서 캐리어 스레드를 반납하므로 실제 소켓 대기와 동일하게 동작)
+ */
+class LatencyInjectingDataSource extends DelegatingDataSource {
+
+	private volatile long latencyMillis;
+
+	LatencyInjectingDataSource(DataSource target) {
+		super(target);
+	}
+
+	/**
+	 * 시드 데이터 적재가 끝난 뒤 지연 주입 시작
+	 */
+	void setLatencyMillis(long latencyMillis) {
+		this.latencyMillis = latencyMillis;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return delay(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return delay(super.getConnection(username, password));
+	}
+
+	private Connection delay(Connection connection) throws SQLException {
+		long millis = latencyMillis;
+		if (millis > 0) {
+			try {
+				TimeUnit.MILLISECONDS.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				connection.close();
+				throw new SQLException("Interrupted while simulating JDBC latency", e);
+			}
+		}
+		return connection;
+	}
+}
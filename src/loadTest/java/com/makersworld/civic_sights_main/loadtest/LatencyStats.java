@@ -0,0 +1,58 @@
+package com.makersworld.civic_sights_main.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 응답 지연 히스토그램(마이크로초, 유효 숫자 3자리)과 오류 수
+ *
+ * 클라이언트 스레드 하나만 기록하므로 동기화하지 않으며, 측정이 끝난 뒤 {@link #add(LatencyStats)}로 합칩니다.
+ * 기록 수와 관계없이 메모리 사용량이 일정하고 1분을 넘는 지연은 1분으로 기록합니다.
+ */
+final class LatencyStats {
+
+	private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+
+	private final Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+	private long errors;
+
+	void record(long nanos) {
+		histogram.recordValue(Math.min(nanos / 1_000, HIGHEST_TRACKABLE_MICROS));
+	}
+
+	void recordError() {
+		errors++;
+	}
+
+	void add(LatencyStats other) {
+		histogram.add(other.histogram);
+		errors += other.errors;
+	}
+
+	/**
+	 * 이름, 요청 수, 초당 요청 수, p50/p99/p999/최대(ms), 오류 수 한 줄 ({@link #header(String)}과 같은 열)
+	 */
+	String row(String name, double seconds) {
+		return String.format("%-10s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d",
+				name, histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+				millis(50), millis(99), millis(99.9), histogram.getMaxValue() / 1000.0, errors);
+	}
+
+	static String header(String name) {
+		return String.format("%-10s %10s %10s %10s %10s %10s %10s %8s",
+				name, "requests", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors");
+	}
+
+	/**
+	 * 백분위 분포 출력 (.hgrm, 밀리초 단위)
+	 */
+	void writeDistribution(PrintStream out) {
+		histogram.outputPercentileDistribution(out, 1000.0);
+	}
+
+	private double millis(double percentile) {
+		return histogram.getValueAtPercentile(percentile) / 1000.0;
+	}
+}
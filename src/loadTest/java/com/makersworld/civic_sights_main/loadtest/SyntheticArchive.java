@@ -0,0 +1,71 @@
+package com.makersworld.civic_sights_main.loadtest;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.CompressedTextConverter;
+
+/**
+ * 부하 측정용 합성 기사 아카이브
+ *
+ * id 1..N을 분 간격 createDate로 적재하며, 카테고리는 id 순으로 돌아가며 배정하고 5의 배수 id는 유료로 둡니다.
+ * 요청 생성기는 같은 규칙으로 id만 보고 무료/유료 경로를 고릅니다.
+ * 스키마는 내장 H2에 엔티티로 생성(ddl-auto=create)하므로 DB 기본값이 없는 version 컬럼도 직접 채웁니다.
+ */
+final class SyntheticArchive {
+
+	private static final int PREMIUM_EVERY = 5;
+	private static final int CHUNK_SIZE = 5_000;
+	private static final Category[] CATEGORIES = Category.values();
+
+	private SyntheticArchive() {
+	}
+
+	static boolean isPremium(long id) {
+		return id % PREMIUM_EVERY == 0;
+	}
+
+	static Category category(long id) {
+		return CATEGORIES[(int) (id % CATEGORIES.length)];
+	}
+
+	/**
+	 * 기사 N건과 압축 본문 적재 (청크 단위 JDBC 배치, 100만 건도 청크 크기만큼만 메모리 사용)
+	 */
+	static void seed(JdbcTemplate jdbcTemplate, int articles) {
+		LocalDateTime base = LocalDateTime.now().minusMinutes(articles + 1L);
+		CompressedTextConverter bodyConverter = new CompressedTextConverter();
+		List<Object[]> rows = new ArrayList<>(CHUNK_SIZE);
+		List<Object[]> bodies = new ArrayList<>(CHUNK_SIZE);
+		for (long id = 1; id <= articles; id++) {
+			Timestamp created = Timestamp.valueOf(base.plusMinutes(id));
+			rows.add(new Object[] {
+					id,
+					"Synthetic article " + id,
+					"https://example.com/images/" + id + ".jpg",
+					"Author " + (id % 50),
+					created,
+					created,
+					category(id).name(),
+					isPremium(id),
+					0L
+			});
+			bodies.add(new Object[] {id, bodyConverter.convertToDatabaseColumn("Synthetic content ".repeat(100) + id)});
+			if (rows.size() == CHUNK_SIZE || id == articles) {
+				jdbcTemplate.batchUpdate("INSERT INTO news_articles "
+						+ "(id, title, main_img, author, create_date, update_date, category, is_premium, version) "
+						+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+				jdbcTemplate.batchUpdate("INSERT INTO news_article_contents (article_id, body) VALUES (?, ?)", bodies);
+				rows.clear();
+				bodies.clear();
+			}
+		}
+		// 새 기사 ID가 시드 구간과 겹치지 않도록 풀링 시퀀스 이동 (읽은 값이 구간 상한이므로 50 여유, V3 마이그레이션과 동일)
+		jdbcTemplate.execute("ALTER SEQUENCE news_articles_seq RESTART WITH " + (articles + 51L));
+	}
+}
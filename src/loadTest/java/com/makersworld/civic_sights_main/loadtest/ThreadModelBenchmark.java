@@ -0,0 +1,193 @@
+package com.makersworld.civic_sights_main.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.makersworld.civic_sights_main.CivicSightsMainApplication;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리 비교 부하 측정
+ *
+ * 같은 애플리케이션을 두 번(플랫폼 스레드 Tomcat, spring.threads.virtual.enabled=true) 띄우고
+ * 동일한 동시 접속 수로 목록(2페이지 이후, 스냅샷 미적용)과 상세 조회를 섞어 호출합니다.
+ * DB는 MySQL 호환 모드의 내장 H2를 쓰되, 커넥션마다 지연을 주입해 JDBC 블로킹을 재현합니다.
+ * 지연은 부하 측정(ArticleLoadTest)과 같은 HdrHistogram으로 기록해 p50/p99/p999/최대와 처리량을 출력합니다.
+ *
+ * 실행: ./gradlew threadModelBenchmark -Pbench.concurrency=2000 -Pbench.jdbc-latency-ms=20
+ *
+ * 설정 (시스템 프로퍼티):
+ * - bench.modes            측정할 모드 (기본 platform,virtual)
+ * - bench.concurrency      동시 클라이언트 수 (기본 1000)
+ * - bench.warmup           워밍업 시간 (기본 PT10S)
+ * - bench.duration         측정 시간 (기본 PT30S)
+ * - bench.jdbc-latency-ms  커넥션당 주입 지연 (기본 20)
+ * - bench.pool-size        커넥션 풀 크기, 두 모드 공통 (기본 100)
+ * - bench.platform-threads 플랫폼 모드 Tomcat 최대 스레드 수 (기본 200)
+ * - bench.articles         시드 기사 수 (기본 5000)
+ * - bench.detail-ratio     상세 조회 비율 (기본 0.5)
+ */
+public final class ThreadModelBenchmark {
+
+	private static final String GATEWAY_TOKEN = "thread-model-benchmark";
+	private static final int PAGE_SIZE = 20;
+
+	private final int concurrency = Integer.getInteger("bench.concurrency", 1000);
+	private final Duration warmup = Duration.parse(System.getProperty("bench.warmup", "PT10S"));
+	private final Duration duration = Duration.parse(System.getProperty("bench.duration", "PT30S"));
+	private final long jdbcLatencyMillis = Long.getLong("bench.jdbc-latency-ms", 20);
+	private final int poolSize = Integer.getInteger("bench.pool-size", 100);
+	private final int platformThreads = Integer.getInteger("bench.platform-threads", 200);
+	private final int articles = Integer.getInteger("bench.articles", 5000);
+	private final double detailRatio = Double.parseDouble(System.getProperty("bench.detail-ratio", "0.5"));
+
+	public static void main(String[] args) throws Exception {
+		ThreadModelBenchmark benchmark = new ThreadModelBenchmark();
+		List<String> results = new ArrayList<>();
+		for (String mode : System.getProperty("bench.modes", "platform,virtual").split(",")) {
+			results.add(benchmark.run(mode.trim()));
+		}
+
+		System.out.printf("%nconcurrency=%d, jdbcLatency=%dms, poolSize=%d, platformThreads=%d, duration=%s%n",
+				benchmark.concurrency, benchmark.jdbcLatencyMillis, benchmark.poolSize,
+				benchmark.platformThreads, benchmark.duration);
+		System.out.println(LatencyStats.header("mode"));
+		results.forEach(System.out::println);
+	}
+
+	private String run(String mode) throws Exception {
+		boolean virtual = switch (mode) {
+			case "platform" -> false;
+			case "virtual" -> true;
+			default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+		};
+
+		try (ConfigurableApplicationContext context = start(mode, virtual)) {
+			LatencyInjectingDataSource dataSource = context.getBean("primaryDataSource", LatencyInjectingDataSource.class);
+			SyntheticArchive.seed(new JdbcTemplate(dataSource), articles);
+			dataSource.setLatencyMillis(jdbcLatencyMillis);
+
+			int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+			String baseUrl = "http://127.0.0.1:" + port + "/api/articles";
+
+			drive(baseUrl, warmup);
+			return drive(baseUrl, duration).row(mode, duration.toMillis() / 1000.0);
+		}
+	}
+
+	private ConfigurableApplicationContext start(String mode, boolean virtual) {
+		// 명령행 인자로 넘겨 application.properties / 프로필 설정보다 우선 적용
+		String[] args = {
+				"--spring.datasource.url=jdbc:h2:mem:bench-" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+				"--spring.jpa.hibernate.ddl-auto=create",
+				"--spring.jpa.show-sql=false",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"--spring.flyway.enabled=false",
+				"--spring.threads.virtual.enabled=" + virtual,
+				"--server.port=0",
+				"--server.tomcat.threads.max=" + platformThreads,
+				"--app.security.gateway-token=" + GATEWAY_TOKEN,
+				// 캐시 적중으로 JDBC를 건너뛰지 않도록 기사 캐시 비활성화
+				"--app.cache.article.maximum-size=0",
+				"--app.cache.remote.type=none",
+				// 단일 노드 측정이며 Flyway를 끈 H2에는 아웃박스 테이블이 없음
+				"--app.outbox.enabled=false",
+				"--logging.level.root=WARN",
+				"--logging.level.org.hibernate.SQL=WARN",
+				"--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+				"--logging.level.com.makersworld.civic_sights_main.config.GatewayOnlyFilter=WARN"
+		};
+		return new SpringApplicationBuilder(CivicSightsMainApplication.class)
+				.initializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+					@Override
+					public Object postProcessAfterInitialization(Object bean, String beanName) {
+						// 라우팅/지연 연결 프록시가 아닌 실제 풀(primary)에만 지연 주입
+						return "primaryDataSource".equals(beanName) && bean instanceof DataSource dataSource
+								? new LatencyInjectingDataSource(dataSource)
+								: bean;
+					}
+				}))
+				.run(args);
+	}
+
+	/**
+	 * 지정 시간 동안 가상 스레드 클라이언트 concurrency개가 쉬지 않고 요청을 보냄
+	 */
+	private LatencyStats drive(String baseUrl, Duration length) throws InterruptedException {
+		List<LatencyStats> perClient = new ArrayList<>(concurrency);
+		long deadline = System.nanoTime() + length.toNanos();
+
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			HttpClient httpClient = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.connectTimeout(Duration.ofSeconds(10))
+					.executor(clients)
+					.build();
+			for (int i = 0; i < concurrency; i++) {
+				LatencyStats stats = new LatencyStats();
+				perClient.add(stats);
+				clients.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						call(httpClient, nextRequest(baseUrl), stats);
+					}
+				});
+			}
+		}
+		LatencyStats merged = new LatencyStats();
+		perClient.forEach(merged::add);
+		return merged;
+	}
+
+	private HttpRequest nextRequest(String baseUrl) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		String path;
+		if (random.nextDouble() < detailRatio) {
+			long id = random.nextLong(1, articles + 1);
+			path = "/free/" + (SyntheticArchive.isPremium(id) ? id - 1 : id);
+		} else {
+			// 0페이지는 스냅샷에서 응답되므로 1페이지 이후만 요청
+			int lastPage = Math.max(1, Math.min(50, articles / PAGE_SIZE - 1));
+			path = "?page=" + random.nextInt(1, lastPage + 1) + "&size=" + PAGE_SIZE;
+		}
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.header("X-Gateway-Internal", GATEWAY_TOKEN)
+				.timeout(Duration.ofSeconds(30))
+				.GET()
+				.build();
+	}
+
+	private static void call(HttpClient httpClient, HttpRequest request, LatencyStats stats) {
+		long start = System.nanoTime();
+		try {
+			HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+			if (response.statusCode() == 200) {
+				stats.record(System.nanoTime() - start);
+			} else {
+				stats.recordError();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			stats.recordError();
+		}
+	}
+}
@@ -2,12 +2,21 @@ package com.makersworld.civic_sights_main;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CivicSightsMainApplication {
 
+	// 기동 단계 기록 상한 (빈 하나당 수 개의 단계가 기록됨, 넘치면 이후 단계는 버려짐)
+	private static final int STARTUP_STEP_CAPACITY = 10_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(CivicSightsMainApplication.class, args);
+		SpringApplication application = new SpringApplication(CivicSightsMainApplication.class);
+		// 기동 단계별 시간 기록 (StartupTimingReport 로그, /actuator/startup)
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,85 @@
+package com.makersworld.civic_sights_main.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.makersworld.civic_sights_main.config.RemoteCacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 프로세스 내 원격 캐시 계층 (app.cache.remote.type=embedded, 단일 노드 및 테스트용)
+ *
+ * 항목마다 저장 시 지정한 TTL로 만료됩니다. 테스트에서는 인스턴스 하나를 여러 노드 구성에 공유해
+ * 노드 간 공유 저장소를 흉내 낼 수 있습니다.
+ * 버전 비교는 키 단위 compute로 원자적으로 수행하며, 무효화 표시는 값이 없는 항목으로 남깁니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.remote.type", havingValue = "embedded")
+public class EmbeddedRemoteCache implements RemoteCache {
+
+    /**
+     * 저장 항목 (value가 null이면 무효화 표시, 만료 시각은 거부된 저장이 TTL을 늘리지 않도록 절대 시각)
+     */
+    private record Entry(byte[] value, long version, long expiresAtNanos) {
+
+        boolean invalidated() {
+            return value == null;
+        }
+    }
+
+    private final Cache<String, Entry> entries;
+
+    public EmbeddedRemoteCache(RemoteCacheProperties properties) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getEmbeddedMaximumSize())
+                .expireAfter(Expiry.<String, Entry>writing(
+                        (key, entry) -> Duration.ofNanos(Math.max(0, entry.expiresAtNanos() - System.nanoTime()))))
+                .build();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        Entry entry = entries.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    public void put(String key, long version, byte[] value, Duration timeToLive) {
+        Entry candidate = new Entry(value, version, expiresAt(timeToLive));
+        entries.asMap().compute(key, (k, current) -> current == null
+                || (current.invalidated() ? version >= current.version() : version > current.version())
+                ? candidate : current);
+    }
+
+    @Override
+    public void invalidate(String key, long minimumVersion, Duration timeToLive) {
+        long expiresAtNanos = expiresAt(timeToLive);
+        entries.asMap().compute(key, (k, current) -> {
+            if (current == null) {
+                return new Entry(null, minimumVersion, expiresAtNanos);
+            }
+            if (!current.invalidated() && current.version() >= minimumVersion) {
+                return current;
+            }
+            return new Entry(null, Math.max(minimumVersion, current.version()),
+                    Math.max(expiresAtNanos, current.expiresAtNanos()));
+        });
+    }
+
+    @Override
+    public boolean isProcessLocal() {
+        return true;
+    }
+
+    @Override
+    public void remove(String key) {
+        entries.invalidate(key);
+    }
+
+    private static long expiresAt(Duration timeToLive) {
+        return System.nanoTime() + timeToLive.toNanos();
+    }
+}
@@ -0,0 +1,47 @@
+package com.makersworld.civic_sights_main.cache;
+
+import java.time.Duration;
+
+/**
+ * 노드 간 공유 키-값 캐시 계층
+ *
+ * 모든 노드가 같은 저장소를 보며, 값은 직렬화된 바이트로 주고받습니다.
+ * 기본값은 원격 계층 없음(none)이며, 프로세스 내 저장소(embedded)나 외부 저장소는 app.cache.remote.type 값으로 선택하는 빈으로 추가합니다.
+ * 호출자는 실패(예외)를 미스로 취급하므로, 구현은 짧은 타임아웃으로 빨리 실패해야 합니다.
+ *
+ * 값마다 버전을 함께 저장하고, 저장/무효화는 키 단위로 원자적으로 비교해 반영해야 합니다.
+ * (변경 전에 DB에서 읽기 시작한 노드가 무효화 이후에 이전 버전을 다시 채우지 못하도록)
+ */
+public interface RemoteCache {
+
+    /**
+     * 값 조회 (없거나 만료됐으면 null)
+     */
+    byte[] get(String key);
+
+    /**
+     * 값 저장 (timeToLive 후 만료)
+     * 저장된 값의 버전이 같거나 높으면, 또는 무효화 표시의 최소 버전보다 낮으면 저장하지 않음
+     */
+    void put(String key, long version, byte[] value, Duration timeToLive);
+
+    /**
+     * 값 무효화 (minimumVersion보다 낮은 버전은 timeToLive 동안 저장하지 않음, 삭제는 Long.MAX_VALUE)
+     * 저장된 값의 버전이 minimumVersion 이상이면 그대로 둠
+     */
+    void invalidate(String key, long minimumVersion, Duration timeToLive);
+
+    /**
+     * 이 프로세스만 채우는 저장소인지 여부 (true면 다른 노드의 적재와 경합하지 않으므로 {@link #remove(String)} 지원)
+     */
+    default boolean isProcessLocal() {
+        return false;
+    }
+
+    /**
+     * 버전 비교 없이 값 제거 (프로세스 내 구현 전용 - 공유 저장소에서는 다른 노드의 이전 버전 적재를 막지 못함)
+     */
+    default void remove(String key) {
+        throw new UnsupportedOperationException("Unversioned removal is only supported by process-local caches");
+    }
+}
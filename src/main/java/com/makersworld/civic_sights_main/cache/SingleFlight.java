@@ -0,0 +1,98 @@
+package com.makersworld.civic_sights_main.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 적재를 하나로 합침 (single-flight)
+ *
+ * 먼저 온 호출만 적재를 실행하고, 그동안 같은 키로 들어온 호출은 그 결과(또는 예외)를 기다려 함께 받습니다.
+ * 적재가 끝나면 키를 비우므로 결과 자체는 보관하지 않습니다. (보관은 호출자의 캐시가 담당)
+ * 적재 중에는 맵 잠금을 잡지 않으므로, 가상 스레드가 DB 조회를 기다리는 동안 캐리어 스레드가 고정(pinning)되지 않습니다.
+ */
+@Slf4j
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * 적재 실행 또는 진행 중인 같은 키의 적재 결과 대기
+     */
+    public V execute(K key, Supplier<V> load) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        return run(key, mine, load);
+    }
+
+    /**
+     * 진행 중인 같은 키의 적재가 없으면 executor에서 적재 시작 (시작했으면 true)
+     * 결과는 기다리지 않으며, 그동안 execute로 들어온 같은 키의 호출은 이 적재 결과를 받습니다.
+     */
+    public boolean executeAsync(K key, Supplier<V> load, Executor executor) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(key, mine, load);
+                } catch (RuntimeException e) {
+                    // 기다리던 호출에는 future로 전달됨
+                    log.warn("Background load failed - key: {}, cause: {}", key, e.getMessage());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            return false;
+        }
+    }
+
+    /**
+     * 진행 중인 적재에 합류한 호출 수 (누적)
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    private V run(K key, CompletableFuture<V> future, Supplier<V> load) {
+        try {
+            V value = load.get();
+            future.complete(value);
+            return value;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
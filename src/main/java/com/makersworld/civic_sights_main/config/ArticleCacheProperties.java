@@ -0,0 +1,38 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 기사 상세 캐시 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache.article")
+public class ArticleCacheProperties {
+
+    /**
+     * 캐시에 보관할 최대 기사 수 (초과 시 사용 빈도가 낮은 항목부터 제거)
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * 캐시 항목 유지 시간 (쓰기 시점 기준)
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    /**
+     * 조회 시 항목이 이 시간보다 오래됐으면 응답은 그대로 하고 백그라운드에서 미리 다시 읽음
+     * (자주 읽히는 기사가 부하 중에 만료되어 DB 조회가 몰리지 않도록, timeToLive보다 짧게)
+     */
+    private Duration refreshAfter = Duration.ofMinutes(8);
+
+    /**
+     * 삭제된 기사의 삭제 표시 유지 시간 (삭제 전에 시작된 적재가 끝나면서 기사를 되살리지 않도록, 적재 시간보다 길게)
+     */
+    private Duration tombstoneTimeToLive = Duration.ofSeconds(30);
+}
@@ -0,0 +1,22 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 기사 건수 카운터 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.counters")
+public class ArticleCounterProperties {
+
+    /**
+     * 메모리 카운터를 DB 건수로 보정하는 주기 (기동 시 초기화에 실패했다면 이 주기로 재시도)
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,25 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 기사 상세 JSON 바이트 캐시 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache.article-json")
+public class ArticleJsonCacheProperties {
+
+    /**
+     * 캐시에 보관할 직렬화 결과의 최대 총 바이트 수 (JSON + gzip)
+     */
+    private long maximumWeightBytes = 64L * 1024 * 1024;
+
+    /**
+     * gzip 변형을 미리 만들어 둘 최소 JSON 크기 (바이트)
+     */
+    private int gzipMinSize = 1024;
+}
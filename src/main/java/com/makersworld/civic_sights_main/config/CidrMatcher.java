@@ -0,0 +1,380 @@
+package com.makersworld.civic_sights_main.config;
+
+import java.util.List;
+
+/**
+ * IPv4/IPv6 CIDR 허용 목록 매처
+ *
+ * 네트워크 프리픽스를 비트 단위 이진 트라이에 저장하고, 주소 문자열을 파싱하면서
+ * 곧바로 트라이를 따라 내려가므로 조회 시 객체를 할당하지 않습니다.
+ * IPv4 네트워크는 IPv4-mapped IPv6(::ffff:a.b.c.d) 형태로도 함께 등록됩니다.
+ */
+public final class CidrMatcher {
+
+    private static final int IPV4_BITS = 32;
+    private static final int IPV6_BITS = 128;
+    private static final int IPV4_MAPPED_PREFIX_BITS = 96;
+    private static final long IPV4_MAPPED_HIGH = 0L;
+    private static final long IPV4_MAPPED_LOW_PREFIX = 0xFFFF_0000_0000L;
+
+    /** 트라이 탐색 중 허용 네트워크에 도달했음을 나타내는 표식 */
+    private static final Node MATCHED = new Node();
+
+    private final Node ipv4Root = new Node();
+    private final Node ipv6Root = new Node();
+
+    private CidrMatcher() {
+    }
+
+    /**
+     * CIDR 문자열 목록으로 매처 생성 (예: 10.0.0.0/8, 127.0.0.1, fd00::/8)
+     * 프리픽스 길이를 생략하면 단일 호스트로 취급합니다.
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 항목이 있는 경우
+     */
+    public static CidrMatcher of(List<String> cidrs) {
+        CidrMatcher matcher = new CidrMatcher();
+        for (String cidr : cidrs) {
+            matcher.add(cidr.trim());
+        }
+        return matcher;
+    }
+
+    /**
+     * 주소 전체가 허용 네트워크에 속하는지 여부
+     */
+    public boolean matches(CharSequence address) {
+        return address != null && matches(address, 0, address.length());
+    }
+
+    /**
+     * address[start, end) 구간의 주소가 허용 네트워크에 속하는지 여부
+     * 형식이 잘못된 주소는 허용하지 않습니다. ([::1], fe80::1%eth0 형태 허용)
+     */
+    public boolean matches(CharSequence address, int start, int end) {
+        if (end - start >= 2 && address.charAt(start) == '[' && address.charAt(end - 1) == ']') {
+            start++;
+            end--;
+        }
+        int zone = indexOf(address, '%', start, end);
+        if (zone >= 0) {
+            end = zone;
+        }
+        if (start >= end) {
+            return false;
+        }
+        return indexOf(address, ':', start, end) >= 0
+                ? matchesIpv6(address, start, end)
+                : matchesIpv4(address, start, end);
+    }
+
+    // ===== 등록 =====
+
+    private void add(String cidr) {
+        int slash = cidr.indexOf('/');
+        String host = slash >= 0 ? cidr.substring(0, slash) : cidr;
+        boolean ipv6 = host.indexOf(':') >= 0;
+        int maxBits = ipv6 ? IPV6_BITS : IPV4_BITS;
+        int prefixLength;
+        try {
+            prefixLength = slash >= 0 ? Integer.parseInt(cidr.substring(slash + 1)) : maxBits;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid CIDR prefix length: " + cidr, e);
+        }
+        if (prefixLength < 0 || prefixLength > maxBits) {
+            throw new IllegalArgumentException("Invalid CIDR prefix length: " + cidr);
+        }
+
+        if (ipv6) {
+            long[] words = new long[2];
+            if (!parseIpv6(host, words)) {
+                throw new IllegalArgumentException("Invalid IPv6 network: " + cidr);
+            }
+            insert(ipv6Root, words[0], words[1], prefixLength);
+        } else {
+            long address = parseIpv4(host, 0, host.length());
+            if (address < 0) {
+                throw new IllegalArgumentException("Invalid IPv4 network: " + cidr);
+            }
+            insert(ipv4Root, address << IPV4_BITS, 0L, prefixLength);
+            insert(ipv6Root, IPV4_MAPPED_HIGH, IPV4_MAPPED_LOW_PREFIX | address,
+                    IPV4_MAPPED_PREFIX_BITS + prefixLength);
+        }
+    }
+
+    /**
+     * (high, low) 128비트 중 상위 prefixLength 비트를 트라이에 삽입
+     * IPv4는 high 워드의 상위 32비트에 정렬해 두 트라이가 같은 삽입 로직을 씁니다.
+     */
+    private static void insert(Node root, long high, long low, int prefixLength) {
+        Node node = root;
+        for (int bit = 0; bit < prefixLength; bit++) {
+            if (node.terminal) {
+                return; // 더 넓은 네트워크가 이미 등록됨
+            }
+            int value = bit < 64 ? bitOf(high, bit) : bitOf(low, bit - 64);
+            if (node.children[value] == null) {
+                node.children[value] = new Node();
+            }
+            node = node.children[value];
+        }
+        node.terminal = true;
+        node.children[0] = null;
+        node.children[1] = null;
+    }
+
+    private static int bitOf(long word, int bitFromTop) {
+        return (int) (word >>> (63 - bitFromTop)) & 1;
+    }
+
+    // ===== 조회 =====
+
+    private boolean matchesIpv4(CharSequence address, int start, int end) {
+        long value = parseIpv4(address, start, end);
+        return value >= 0 && descend(ipv4Root, value, IPV4_BITS) == MATCHED;
+    }
+
+    /**
+     * 주소를 16비트 그룹 단위로 읽으며 트라이를 내려감
+     * "::" 생략 구간은 먼저 그룹 수를 세어 필요한 만큼 0 그룹으로 채웁니다.
+     */
+    private boolean matchesIpv6(CharSequence address, int start, int end) {
+        int doubleColon = indexOfDoubleColon(address, start, end);
+        int groups = countGroups(address, start, end);
+        if (groups < 0 || (doubleColon < 0 && groups != 8) || (doubleColon >= 0 && groups > 7)) {
+            return false;
+        }
+
+        Node node = ipv6Root;
+        int position = start;
+        if (doubleColon >= 0) {
+            node = descendGroups(node, address, start, doubleColon);
+            if (node == null || node == MATCHED) {
+                return node == MATCHED;
+            }
+            node = descend(node, 0L, (8 - groups) * 16);
+            if (node == null || node == MATCHED) {
+                return node == MATCHED;
+            }
+            position = doubleColon + 2;
+        }
+        return descendGroups(node, address, position, end) == MATCHED;
+    }
+
+    /**
+     * address[start, end)의 콜론 구분 그룹(마지막은 IPv4 점 표기 가능)을 순서대로 소비
+     */
+    private static Node descendGroups(Node node, CharSequence address, int start, int end) {
+        int position = start;
+        while (position < end) {
+            int separator = indexOf(address, ':', position, end);
+            int groupEnd = separator < 0 ? end : separator;
+            if (separator < 0 && indexOf(address, '.', position, end) >= 0) {
+                long ipv4 = parseIpv4(address, position, end);
+                if (ipv4 < 0) {
+                    return null;
+                }
+                return descend(node, ipv4, IPV4_BITS);
+            }
+            int group = parseHexGroup(address, position, groupEnd);
+            if (group < 0) {
+                return null;
+            }
+            node = descend(node, group, 16);
+            if (node == null || node == MATCHED) {
+                return node;
+            }
+            position = groupEnd + 1;
+        }
+        return node;
+    }
+
+    /**
+     * value의 하위 bitCount 비트를 상위 비트부터 따라 내려감
+     * 종단 노드에 닿으면 MATCHED, 경로가 끊기면 null을 반환합니다.
+     */
+    private static Node descend(Node node, long value, int bitCount) {
+        for (int bit = bitCount - 1; bit >= 0; bit--) {
+            if (node.terminal) {
+                return MATCHED;
+            }
+            node = node.children[(int) (value >>> bit) & 1];
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.terminal ? MATCHED : node;
+    }
+
+    // ===== 파싱 (할당 없음) =====
+
+    /**
+     * 점 표기 IPv4를 0..2^32-1 값으로 파싱, 형식 오류 시 -1
+     */
+    private static long parseIpv4(CharSequence address, int start, int end) {
+        long value = 0;
+        int octets = 0;
+        int octet = -1;
+        for (int i = start; i < end; i++) {
+            char c = address.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = octet < 0 ? c - '0' : octet * 10 + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && octet >= 0 && octets < 3) {
+                value = (value << 8) | octet;
+                octets++;
+                octet = -1;
+            } else {
+                return -1;
+            }
+        }
+        if (octet < 0 || octets != 3) {
+            return -1;
+        }
+        return (value << 8) | octet;
+    }
+
+    private static int parseHexGroup(CharSequence address, int start, int end) {
+        if (start >= end || end - start > 4) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(address.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    /**
+     * "::"를 제외한 16비트 그룹 수 (IPv4 꼬리는 2그룹), 형식 오류 시 -1
+     * 빈 그룹, "::" 중복, 앞뒤의 단일 콜론, 마지막이 아닌 IPv4 그룹을 거부합니다.
+     */
+    private static int countGroups(CharSequence address, int start, int end) {
+        int groups = 0;
+        int position = start;
+        boolean compressed = false;
+        if (position < end && address.charAt(position) == ':') {
+            if (position + 1 >= end || address.charAt(position + 1) != ':') {
+                return -1;
+            }
+            compressed = true;
+            position += 2;
+            if (position == end) {
+                return 0;
+            }
+        }
+        while (true) {
+            int separator = indexOf(address, ':', position, end);
+            int groupEnd = separator < 0 ? end : separator;
+            if (groupEnd == position) {
+                return -1;
+            }
+            if (indexOf(address, '.', position, groupEnd) >= 0) {
+                if (groupEnd != end) {
+                    return -1;
+                }
+                groups += 2;
+            } else {
+                groups++;
+            }
+            if (groupEnd == end) {
+                return groups;
+            }
+            position = groupEnd + 1;
+            if (position < end && address.charAt(position) == ':') {
+                if (compressed) {
+                    return -1;
+                }
+                compressed = true;
+                position++;
+                if (position == end) {
+                    return groups;
+                }
+            } else if (position == end) {
+                return -1;
+            }
+        }
+    }
+
+    private static int indexOfDoubleColon(CharSequence address, int start, int end) {
+        for (int i = start; i + 1 < end; i++) {
+            if (address.charAt(i) == ':' && address.charAt(i + 1) == ':') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSequence address, char target, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (address.charAt(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 등록 시에만 사용하는 IPv6 파서 (조회 경로와 동일한 문법)
+     */
+    private static boolean parseIpv6(String host, long[] words) {
+        int doubleColon = indexOfDoubleColon(host, 0, host.length());
+        int groups = countGroups(host, 0, host.length());
+        if (groups < 0 || (doubleColon < 0 && groups != 8) || (doubleColon >= 0 && groups > 7)) {
+            return false;
+        }
+        int[] values = new int[8];
+        int head = doubleColon >= 0 ? doubleColon : host.length();
+        int index = fillGroups(host, 0, head, values, 0);
+        if (index < 0) {
+            return false;
+        }
+        if (doubleColon >= 0) {
+            int tailStart = doubleColon + 2;
+            int tailGroups = groups - index;
+            if (fillGroups(host, tailStart, host.length(), values, 8 - tailGroups) < 0) {
+                return false;
+            }
+        }
+        for (int i = 0; i < 4; i++) {
+            words[0] = (words[0] << 16) | values[i];
+            words[1] = (words[1] << 16) | values[i + 4];
+        }
+        return true;
+    }
+
+    private static int fillGroups(String host, int start, int end, int[] values, int index) {
+        int position = start;
+        while (position < end) {
+            int separator = indexOf(host, ':', position, end);
+            int groupEnd = separator < 0 ? end : separator;
+            if (separator < 0 && indexOf(host, '.', position, end) >= 0) {
+                long ipv4 = parseIpv4(host, position, end);
+                if (ipv4 < 0 || index > 6) {
+                    return -1;
+                }
+                values[index++] = (int) (ipv4 >>> 16);
+                values[index++] = (int) (ipv4 & 0xFFFF);
+                return index;
+            }
+            int group = parseHexGroup(host, position, groupEnd);
+            if (group < 0 || index > 7) {
+                return -1;
+            }
+            values[index++] = group;
+            position = groupEnd + 1;
+        }
+        return index;
+    }
+
+    private static final class Node {
+        private final Node[] children = new Node[2];
+        private boolean terminal;
+    }
+}
@@ -0,0 +1,28 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * DB 접근 서킷 브레이커 / 마지막 정상 응답 보관 설정 프로퍼티
+ *
+ * 실패율 윈도우, open 유지 시간 등 브레이커 자체 설정은
+ * resilience4j.circuitbreaker.instances.{circuit-breaker-name}.* 으로 지정합니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.data-access-guard")
+public class DataAccessGuardProperties {
+
+    /**
+     * 사용할 resilience4j 서킷 브레이커 인스턴스 이름
+     */
+    private String circuitBreakerName = "articleRepository";
+
+    /**
+     * 조회별 마지막 정상 응답(last known good)을 보관할 최대 항목 수
+     */
+    private long staleMaximumSize = 5_000;
+}
@@ -0,0 +1,83 @@
+package com.makersworld.civic_sights_main.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 DataSource 구성
+ *
+ * primary는 기존 spring.datasource.* / spring.datasource.hikari.* 설정으로 만들고,
+ * app.datasource-routing.replicas 에 지정한 복제본마다 읽기 전용 Hikari 풀을 만듭니다.
+ * 애플리케이션(JPA, JdbcTemplate, Flyway)이 사용하는 기본 DataSource는
+ * LazyConnectionDataSourceProxy → ReadWriteRoutingDataSource 입니다.
+ * 풀 메트릭(hikaricp.connections.*{pool})은 primary는 빈이므로 자동 등록되고, 빈이 아닌 복제본 풀은 여기서 연결합니다.
+ */
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                       DataSourceProperties dataSourceProperties,
+                                                       DataSourceRoutingProperties routingProperties,
+                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int index = 0; index < routingProperties.getReplicas().size(); index++) {
+            HikariDataSource replica = replicaDataSource(index, routingProperties.getReplicas().get(index),
+                    dataSourceProperties, routingProperties);
+            // 풀 시작(첫 연결) 전에 지정해야 하는 설정
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas,
+                routingProperties.getStickyWindow(), routingProperties.getReplicaConnectionTimeout());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource replicaDataSource(int index, DataSourceRoutingProperties.Replica replica,
+                                                      DataSourceProperties primary,
+                                                      DataSourceRoutingProperties routingProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(replica.getUsername() != null ? replica.getUsername() : primary.determineUsername())
+                .password(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword())
+                .build();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(routingProperties.getReplicaMaximumPoolSize());
+        dataSource.setConnectionTimeout(routingProperties.getReplicaConnectionTimeout().toMillis());
+        // 기동 시 복제본이 내려가 있어도 애플리케이션은 뜨도록 (상태 확인에서 비정상 처리)
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
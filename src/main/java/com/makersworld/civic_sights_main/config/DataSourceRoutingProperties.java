@@ -0,0 +1,64 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 DataSource 라우팅 설정 프로퍼티
+ * 복제본(replica)이 없으면 모든 연결이 기본(primary) DataSource(spring.datasource.*)로 갑니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource-routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * 읽기 전용 트랜잭션을 보낼 복제본 목록
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 쓰기 요청 이후 그 클라이언트의 읽기를 primary로 고정하는 시간 (복제 지연보다 길게, read-your-writes 보장)
+     */
+    private Duration stickyWindow = Duration.ofSeconds(2);
+
+    /**
+     * 복제본 상태 확인 주기
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 복제본 커넥션 획득/상태 확인 타임아웃 (초과 시 해당 복제본을 비정상으로 보고 primary로 대체)
+     */
+    private Duration replicaConnectionTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 복제본별 커넥션 풀 최대 크기
+     */
+    private int replicaMaximumPoolSize = 10;
+
+    @Data
+    public static class Replica {
+
+        /**
+         * 복제본 JDBC URL
+         */
+        private String url;
+
+        /**
+         * 복제본 사용자 (생략 시 spring.datasource.username)
+         */
+        private String username;
+
+        /**
+         * 복제본 비밀번호 (생략 시 spring.datasource.password)
+         */
+        private String password;
+    }
+}
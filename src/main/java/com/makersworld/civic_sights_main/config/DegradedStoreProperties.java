@@ -0,0 +1,48 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * DB 장애 시 사용하는 메모리 저장소 / 쓰기 저널 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.degraded-store")
+public class DegradedStoreProperties {
+
+    /**
+     * DB 장애 중 받은 쓰기를 기록하는 저널 파일 (NDJSON)
+     */
+    private Path journalPath = Path.of("data", "degraded-journal.ndjson");
+
+    /**
+     * DB 복구 후 저널을 재적용할 때 한 트랜잭션에 저장하는 기사 수
+     */
+    private int replayBatchSize = 100;
+
+    /**
+     * 저널 재적용 시도 간격
+     */
+    private Duration replayInterval = Duration.ofSeconds(15);
+
+    /**
+     * 임시 ID → DB ID 매핑 보관 기간 (지나면 임시 ID로 조회할 수 없음)
+     */
+    private Duration idMappingRetention = Duration.ofDays(30);
+
+    /**
+     * 보관 기간이 지난 매핑 삭제 주기
+     */
+    private Duration idMappingPurgeInterval = Duration.ofHours(1);
+
+    /**
+     * 기동 시 로컬 샘플 기사 적재 여부 (DB 장애 중 빈 목록 대신 보여줄 데이터, 운영 프로필에서는 생략)
+     */
+    private boolean seedSampleData = true;
+}
@@ -0,0 +1,37 @@
+package com.makersworld.civic_sights_main.config;
+
+import com.makersworld.civic_sights_main.entitlement.Entitlement;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게이트웨이 역할 → 권한 매핑 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.entitlement")
+public class EntitlementProperties {
+
+    /**
+     * 게이트웨이가 사용자 역할을 전달하는 헤더 (콤마 구분)
+     */
+    private String header = "X-User-Roles";
+
+    /**
+     * 역할별 부여 권한 (역할 이름은 대소문자 무시)
+     */
+    private Map<String, List<Entitlement>> roles = new LinkedHashMap<>(Map.of(
+            "PAID_USER", List.of(Entitlement.PREMIUM_CONTENT),
+            "ROLE_PAID_USER", List.of(Entitlement.PREMIUM_CONTENT)));
+
+    /**
+     * 역할 헤더 문자열 → 권한 캐시 최대 항목 수
+     */
+    private long cacheSize = 256;
+}
@@ -0,0 +1,34 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 전체 기사 내보내기(GET /api/articles/export) 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+
+    /**
+     * JDBC fetch size
+     * MySQL Connector/J는 Integer.MIN_VALUE일 때만 결과를 서버에서 한 행씩 스트리밍합니다.
+     * (양수 값은 드라이버가 결과 전체를 메모리에 읽어 들임, 다른 DB에서는 양수로 지정)
+     */
+    private int fetchSize = Integer.MIN_VALUE;
+
+    /**
+     * 응답 스트림을 플러시하는 행 간격 (클라이언트가 받은 만큼 바로 처리할 수 있도록)
+     */
+    private int flushEvery = 1000;
+
+    /**
+     * 내보내기 응답의 비동기 타임아웃 (이 요청에만 적용, 다른 비동기 요청은 spring.mvc.async.request-timeout 기본값 사용)
+     */
+    private Duration timeout = Duration.ofHours(1);
+}
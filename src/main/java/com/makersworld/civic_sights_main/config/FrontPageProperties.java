@@ -0,0 +1,27 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 첫 페이지 스냅샷 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.front-page")
+public class FrontPageProperties {
+
+    /**
+     * 스냅샷에 미리 계산해 둘 기사 수 (이보다 큰 size 요청은 DB로 조회)
+     */
+    private int size = 25;
+
+    /**
+     * 구성에 실패한 스냅샷을 다시 구성하는 주기
+     */
+    private Duration retryInterval = Duration.ofSeconds(30);
+}
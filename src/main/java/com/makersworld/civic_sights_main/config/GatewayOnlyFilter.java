@@ -1,5 +1,7 @@
 package com.makersworld.civic_sights_main.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,124 +14,160 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import org.springframework.lang.NonNull;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * Gateway 전용 접근 필터
  * 
  * API Gateway를 통한 요청만 허용하고, 직접 접근을 차단합니다.
  * X-Gateway-Internal 헤더의 존재 여부와 값을 검증합니다.
+ *
+ * 모든 요청이 거치는 경로이므로 통과 경로에서는 객체를 할당하지 않습니다.
+ * (우회 경로는 배열 순회, 클라이언트 IP는 헤더 문자열의 구간 인덱스로만 다룸)
+ * 차단 건수는 사유별 카운터(gateway.requests.rejected{reason})로 기록하며, 카운터는 생성 시 미리 등록합니다.
  */
 @Component
 @Order(1) // 최우선 순위 필터
 @Slf4j
 public class GatewayOnlyFilter extends OncePerRequestFilter {
 
-    private final SecurityProperties securityProperties;
-
-    public GatewayOnlyFilter(SecurityProperties securityProperties) {
-        this.securityProperties = securityProperties;
-    }
+    private static final String GATEWAY_HEADER = "X-Gateway-Internal";
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String REAL_IP_HEADER = "X-Real-IP";
 
     // 게이트웨이 검증을 우회할 경로들
-    private static final List<String> BYPASS_PATHS = Arrays.asList(
+    private static final String[] BYPASS_PATH_PREFIXES = {
         "/actuator/health",
+        "/actuator/prometheus", // 메트릭 수집 (Prometheus scrape)
         "/error",
         "/api/articles/health" // 헬스체크 엔드포인트
-    );
+    };
+
+    private final SecurityProperties securityProperties;
+
+    // 허용된 내부 네트워크 (app.security.allowed-networks)
+    private final CidrMatcher allowedNetworks;
+
+    private final Counter missingHeaderRejections;
+    private final Counter invalidTokenRejections;
+    private final Counter disallowedClientRejections;
 
-    // 허용된 내부 IP 주소들 (옵션)
-    private static final List<String> ALLOWED_IPS = Arrays.asList(
-        "127.0.0.1"  // 개발 환경이므로 게이트웨이 위치는 로컬 IP (향후 실제 게이트웨이 위치로 변경 필요)
-    );
+    public GatewayOnlyFilter(SecurityProperties securityProperties, MeterRegistry meterRegistry) {
+        this.securityProperties = securityProperties;
+        this.allowedNetworks = CidrMatcher.of(securityProperties.getAllowedNetworks());
+        this.missingHeaderRejections = rejections(meterRegistry, "missing_header");
+        this.invalidTokenRejections = rejections(meterRegistry, "invalid_token");
+        this.disallowedClientRejections = rejections(meterRegistry, "client_not_allowed");
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("gateway.requests.rejected")
+                .description("Requests rejected by the gateway-only filter")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, 
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
         
-        String requestURI = request.getRequestURI();
-        String remoteAddr = getClientIpAddress(request);
-        
-        log.debug("GatewayOnlyFilter: Processing request - URI: {}, IP: {}", requestURI, remoteAddr);
-        
         // 게이트웨이 전용 모드가 비활성화된 경우 통과
         if (!securityProperties.isGatewayOnly()) {
-            log.debug("Gateway-only mode is disabled, allowing request");
             filterChain.doFilter(request, response);
             return;
         }
         
         // 우회 경로 확인
+        String requestURI = request.getRequestURI();
         if (isBypassPath(requestURI)) {
-            log.debug("Bypass path detected, allowing request: {}", requestURI);
             filterChain.doFilter(request, response);
             return;
         }
         
         // X-Gateway-Internal 헤더 검증
-        String gatewayHeader = request.getHeader("X-Gateway-Internal");
+        String gatewayHeader = request.getHeader(GATEWAY_HEADER);
         
         if (gatewayHeader == null) {
-            log.warn("Gateway header missing - URI: {}, IP: {}", requestURI, remoteAddr);
+            missingHeaderRejections.increment();
+            log.warn("Gateway header missing - URI: {}, IP: {}", requestURI, request.getRemoteAddr());
             sendForbiddenResponse(response, "Direct access not allowed. Please use the API Gateway.");
             return;
         }
         
-        if (!securityProperties.getGatewayToken().equals(gatewayHeader)) {
-            log.warn("Invalid gateway token - URI: {}, IP: {}, Token: {}", requestURI, remoteAddr, gatewayHeader);
+        if (!constantTimeEquals(securityProperties.getGatewayToken(), gatewayHeader)) {
+            invalidTokenRejections.increment();
+            log.warn("Invalid gateway token - URI: {}, IP: {}", requestURI, request.getRemoteAddr());
             sendForbiddenResponse(response, "Invalid gateway token.");
             return;
         }
         
-        // IP 주소 추가 검증 (옵션)
-        if (!isAllowedIP(remoteAddr)) {
-            log.warn("Unauthorized IP access - URI: {}, IP: {}", requestURI, remoteAddr);
+        // IP 주소 추가 검증 (프록시 헤더가 있으면 최초 클라이언트 IP 기준)
+        if (!isAllowedClient(request)) {
+            disallowedClientRejections.increment();
+            log.warn("Unauthorized IP access - URI: {}, IP: {}", requestURI, request.getRemoteAddr());
             sendForbiddenResponse(response, "Access from this IP address is not allowed.");
             return;
         }
         
-        log.debug("Gateway validation passed - URI: {}, IP: {}", requestURI, remoteAddr);
         filterChain.doFilter(request, response);
     }
     
     /**
      * 우회 경로인지 확인
      */
-    private boolean isBypassPath(String requestURI) {
-        return BYPASS_PATHS.stream().anyMatch(requestURI::startsWith);
-    }
-    
-    /**
-     * 허용된 IP 주소인지 확인
-     */
-    private boolean isAllowedIP(String ipAddress) {
-        // 개발 환경에서는 모든 로컬 IP 허용
-        return ALLOWED_IPS.contains(ipAddress)
-            // 개발 환경에서 모든 로컬 IP 허용하려면 아래 주석 해제
-            // || ipAddress.startsWith("192.168.")
-            // || ipAddress.startsWith("10.")
-            // || ipAddress.startsWith("172.")
-            // 완전히 모든 IP 허용하려면 아래 주석 해제
-            // || ipAddress.startsWith("0.")
-            ;
+    private static boolean isBypassPath(String requestURI) {
+        for (String prefix : BYPASS_PATH_PREFIXES) {
+            if (requestURI.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
-     * 클라이언트 IP 주소 추출 (프록시 고려)
+     * 클라이언트 IP가 허용된 네트워크인지 확인 (프록시 고려)
+     *
+     * X-Forwarded-For는 split 없이 첫 번째 콤마 앞 구간만 공백을 제외하고 검사합니다.
      */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
+    private boolean isAllowedClient(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+            int end = xForwardedFor.indexOf(',');
+            return matchesTrimmed(xForwardedFor, 0, end < 0 ? xForwardedFor.length() : end);
         }
         
-        String xRealIP = request.getHeader("X-Real-IP");
+        String xRealIP = request.getHeader(REAL_IP_HEADER);
         if (xRealIP != null && !xRealIP.isEmpty()) {
-            return xRealIP;
+            return matchesTrimmed(xRealIP, 0, xRealIP.length());
         }
         
-        return request.getRemoteAddr();
+        return allowedNetworks.matches(request.getRemoteAddr());
+    }
+
+    private boolean matchesTrimmed(String value, int start, int end) {
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return allowedNetworks.matches(value, start, end);
+    }
+
+    /**
+     * 토큰 비교 (일치하는 접두 길이에 따라 소요 시간이 달라지지 않도록 전체를 비교)
+     */
+    static boolean constantTimeEquals(String expected, String actual) {
+        if (expected == null) {
+            return false;
+        }
+        int expectedLength = expected.length();
+        int actualLength = actual.length();
+        int difference = expectedLength ^ actualLength;
+        for (int i = 0; i < expectedLength; i++) {
+            char actualChar = actualLength == 0 ? 0 : actual.charAt(i % actualLength);
+            difference |= expected.charAt(i) ^ actualChar;
+        }
+        return difference == 0;
     }
     
     /**
@@ -149,4 +187,4 @@ public class GatewayOnlyFilter extends OncePerRequestFilter {
         response.getWriter().write(jsonResponse);
         response.getWriter().flush();
     }
-}
\ No newline at end of file
+}
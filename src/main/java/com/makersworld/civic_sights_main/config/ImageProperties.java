@@ -0,0 +1,71 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대표 이미지(mainImg) 변형 생성 / 디스크 캐시 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.images")
+public class ImageProperties {
+
+    /**
+     * 변형 이미지 캐시 디렉터리 (원본 내용 해시 기준으로 저장)
+     */
+    private Path cacheDir = Path.of("data", "image-cache");
+
+    /**
+     * 원본을 가져올 수 있는 호스트 (이외 호스트의 URL은 400, 리다이렉트 대상도 검사)
+     */
+    private List<String> allowedHosts = new ArrayList<>(List.of("picsum.photos", "fastly.picsum.photos"));
+
+    /**
+     * 원본 요청 타임아웃 (연결 + 응답)
+     */
+    private Duration fetchTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 따라갈 최대 리다이렉트 수
+     */
+    private int maxRedirects = 3;
+
+    /**
+     * 원본 최대 크기 (바이트)
+     */
+    private long maxSourceBytes = 10 * 1024 * 1024;
+
+    /**
+     * 원본 최대 픽셀 수 (디코딩 전에 헤더로 검사, 압축 폭탄 방지)
+     */
+    private long maxSourcePixels = 40_000_000;
+
+    /**
+     * 변형 JPEG 품질 (0.0 ~ 1.0)
+     */
+    private float jpegQuality = 0.82f;
+
+    /**
+     * 변형 응답 Cache-Control max-age (이후 ETag로 재검증)
+     * 응답 URL은 원본 URL 기준이고 원본 내용은 바뀔 수 있으므로 immutable로 두지 않음
+     */
+    private Duration cacheMaxAge = Duration.ofMinutes(10);
+
+    /**
+     * 원본 URL → 내용 해시 별칭 유지 시간 (지나면 원본을 다시 내려받아 내용이 바뀌었는지 확인)
+     */
+    private Duration aliasTimeToLive = Duration.ofDays(1);
+
+    /**
+     * 변형 디스크 캐시 최대 크기 (바이트, 넘으면 오래 쓰이지 않은 원본의 변형부터 제거)
+     */
+    private long maxCacheBytes = 1024L * 1024 * 1024;
+}
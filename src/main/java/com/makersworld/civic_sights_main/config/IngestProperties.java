@@ -0,0 +1,25 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 기사 일괄 등록(POST /api/articles/batch) 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.ingest")
+public class IngestProperties {
+
+    /**
+     * 한 트랜잭션으로 커밋하는 기사 수 (JDBC 배치 크기 hibernate.jdbc.batch_size 의 배수 권장)
+     */
+    private int batchSize = 500;
+
+    /**
+     * 한 요청에 허용하는 최대 기사 수
+     */
+    private int maxItems = 10_000;
+}
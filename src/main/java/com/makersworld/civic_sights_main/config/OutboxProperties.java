@@ -0,0 +1,56 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 기사 변경 아웃박스(노드 간 캐시 무효화) 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * 아웃박스 기록/릴레이 사용 여부 (단일 노드 벤치마크 등에서는 끌 수 있음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 이 노드의 식별자 (자신이 기록한 변경은 이미 로컬에 반영했으므로 수신 시 건너뜀)
+     * 지정하지 않으면 기동마다 새로 만듦
+     */
+    private String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 브로커 구현 (기본 in-memory: 프로세스 내 전달, 단일 노드 및 테스트용)
+     */
+    private String broker = "in-memory";
+
+    /**
+     * 단일 노드 배포 여부
+     * 프로세스 내 브로커(in-memory)는 다른 노드에 전달하지 못하고 릴레이는 발행한 행을 삭제하므로,
+     * true가 아니면 프로세스 내 브로커로는 기동하지 않음 (여러 노드는 외부 브로커 필요)
+     */
+    private boolean singleNode = false;
+
+    /**
+     * 릴레이가 한 번에 읽어 발행하는 행 수
+     */
+    private int relayBatchSize = 100;
+
+    /**
+     * 릴레이 주기 (다른 노드의 캐시에 변경이 반영되기까지의 지연 상한)
+     */
+    private Duration relayInterval = Duration.ofMillis(200);
+
+    /**
+     * 릴레이가 선점한 행을 다른 릴레이가 가져가지 못하는 시간 (발행 중 노드가 죽으면 이후 다른 노드가 다시 발행)
+     */
+    private Duration relayClaimLease = Duration.ofSeconds(30);
+}
@@ -0,0 +1,225 @@
+package com.makersworld.civic_sights_main.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ *
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true) 등)의 연결은 정상 상태인 복제본에 라운드 로빈으로,
+ * 그 외(쓰기 트랜잭션, 트랜잭션 밖 연결)는 primary로 보냅니다.
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 정해지지 않으므로 반드시 LazyConnectionDataSourceProxy로 감싸
+ * 첫 SQL 실행 시점에 연결을 고르도록 해야 합니다.
+ *
+ * - HTTP 요청 안에서 쓰기 트랜잭션을 실행한 클라이언트만 stickyWindow 동안 읽기도 primary로 보내
+ *   복제 지연으로 방금 쓴 내용이 안 보이는 일을 막습니다. (같은 요청은 요청 속성, 이후 요청은 쿠키로 판단)
+ *   다른 클라이언트와 요청 밖의 쓰기(outbox 릴레이, 조정 작업 등)는 복제본 읽기에 영향을 주지 않습니다.
+ * - 복제본 연결 획득에 실패하면 해당 복제본을 비정상으로 표시하고 즉시 primary로 대체하며,
+ *   주기적 상태 확인(checkReplicas)에서 다시 정상이 되면 라우팅 대상으로 복귀합니다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    /**
+     * 복제본과 상태
+     */
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    /** 읽기를 primary로 보낼 기한(epoch millis)을 담는 쿠키 / 요청 속성 이름 */
+    static final String STICKY_COOKIE = "read-primary-until";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration stickyWindow;
+    private final int healthCheckTimeoutSeconds;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                      Duration stickyWindow, Duration connectionTimeout) {
+        this.primary = primary;
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(index -> new Replica("replica-" + index, replicas.get(index)))
+                .toList();
+        this.stickyWindow = stickyWindow;
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, connectionTimeout.toSeconds());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markUnhealthy(replica, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection(username, password);
+            } catch (SQLException e) {
+                markUnhealthy(replica, e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 복제본 상태 확인 (비정상 → 정상 복귀 포함)
+     */
+    @Scheduled(fixedDelayString = "${app.datasource-routing.health-check-interval:5s}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.warn("Read replica {} is now {}", replica.name, healthy ? "healthy" : "unhealthy");
+                replica.healthy = healthy;
+            }
+        }
+    }
+
+    /**
+     * 복제본 풀 종료 (primary는 별도 빈으로 관리되므로 닫지 않음)
+     */
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close read replica {} - cause: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 정상 상태인 복제본 수
+     */
+    public int healthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    // 읽기 전용 트랜잭션이고, 이 클라이언트의 최근 쓰기가 없으며, 정상 복제본이 있을 때만 복제본 선택 (그 외 null = primary)
+    private Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            return null;
+        }
+        if (replicas.isEmpty() || isSticky()) {
+            return null;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int offset = 0; offset < replicas.size(); offset++) {
+            Replica replica = replicas.get((start + offset) % replicas.size());
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // 현재 요청의 클라이언트가 stickyWindow 안에 쓰기를 했는지 (요청 밖이면 false)
+    private boolean isSticky() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        long now = System.currentTimeMillis();
+        if (request.getAttribute(STICKY_COOKIE) instanceof Long until && until > now) {
+            return true;
+        }
+        if (request.getCookies() == null) {
+            return false;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (STICKY_COOKIE.equals(cookie.getName())) {
+                try {
+                    // 창보다 먼 기한은 조작된 값이므로 무시
+                    long until = Long.parseLong(cookie.getValue());
+                    return until > now && until <= now + stickyWindow.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 요청 안의 쓰기 트랜잭션이면 연결 시점과 완료 시점부터 이 클라이언트를 고정 (트랜잭션/요청 밖 연결은 고정하지 않음)
+    private void recordWrite() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pin(attributes, true);
+            return;
+        }
+        pin(attributes, false);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                pin(attributes, true);
+            }
+        });
+    }
+
+    // 같은 요청의 이후 읽기는 요청 속성으로, 이 클라이언트의 다음 요청은 쿠키로 primary에 고정
+    private void pin(ServletRequestAttributes attributes, boolean withCookie) {
+        long until = System.currentTimeMillis() + stickyWindow.toMillis();
+        attributes.getRequest().setAttribute(STICKY_COOKIE, until);
+        HttpServletResponse response = attributes.getResponse();
+        if (withCookie && response != null && !response.isCommitted() && !stickyWindow.isZero()) {
+            Cookie cookie = new Cookie(STICKY_COOKIE, Long.toString(until));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.ceil(stickyWindow.toMillis() / 1000.0));
+            response.addCookie(cookie);
+        }
+    }
+
+    private void markUnhealthy(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Read replica {} connection failed, routing reads to primary - cause: {}", replica.name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 노드 간 공유 캐시(원격 키-값 계층) 설정 프로퍼티
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache.remote")
+public class RemoteCacheProperties {
+
+    /**
+     * 원격 계층 구현 (기본 none: 원격 계층 없이 노드 캐시만 사용 / embedded: 프로세스 내 저장소, 단일 노드 및 테스트용)
+     */
+    private String type = "none";
+
+    /**
+     * 원격 계층 항목 유지 시간 (노드 캐시보다 길게 두어 노드 캐시 만료 시 DB 대신 원격 계층에서 채움)
+     */
+    private Duration timeToLive = Duration.ofMinutes(30);
+
+    /**
+     * embedded 구현이 보관할 최대 항목 수
+     */
+    private long embeddedMaximumSize = 100_000;
+}
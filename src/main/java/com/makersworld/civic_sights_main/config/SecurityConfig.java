@@ -37,7 +37,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("http://localhost:8000"));
         // 개발 편의상 FE 주소도 추가하는 경우 아래 주석 해제
         // configuration.setAllowedOrigins(List.of("http://localhost:3000", "http://localhost:8000"));
-        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
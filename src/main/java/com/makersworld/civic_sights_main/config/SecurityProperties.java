@@ -5,6 +5,9 @@ import org.springframework.stereotype.Component;
 
 import lombok.Data;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Security 관련 설정 프로퍼티
  */
@@ -22,4 +25,10 @@ public class SecurityProperties {
      * API Gateway 전용 모드 토큰 (환경변수 GATEWAY_SECRET_TOKEN으로 설정)
      */
     private String gatewayToken;
-}
\ No newline at end of file
+
+    /**
+     * 접근을 허용할 클라이언트 네트워크 (IPv4/IPv6 CIDR, 프리픽스 생략 시 단일 호스트)
+     * 프록시 헤더(X-Forwarded-For, X-Real-IP)가 있으면 최초 클라이언트 IP 기준으로 검사
+     */
+    private List<String> allowedNetworks = new ArrayList<>(List.of("127.0.0.1/32", "::1/128"));
+}
@@ -0,0 +1,104 @@
+package com.makersworld.civic_sights_main.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 보고
+ *
+ * 요청 처리 가능 시점에 JVM 시작 → main(클래스 로딩 등, CDS 효과) / main → 준비 완료(컨텍스트 구성, AOT 효과)로 나눈
+ * 기동 시간을 로그로 남기고 application.startup.time 게이지로 노출합니다.
+ * 애플리케이션이 {@link BufferingApplicationStartup}으로 기동되었으면 기록된 단계(StartupStep)를
+ * 자기 시간(하위 단계 제외) 기준으로 단계 이름별, 빈별로 합산해 오래 걸린 순으로 함께 남깁니다.
+ */
+@Slf4j
+@Component
+public class StartupTimingReport implements MeterBinder {
+
+    private static final int TOP_ENTRIES = 10;
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private volatile double startupMillis = Double.NaN;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("application.startup.time", this, TimeUnit.MILLISECONDS, report -> report.startupMillis)
+                .description("Time from JVM start until the application is ready to service requests")
+                .register(registry);
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        long totalMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        long applicationMillis = event.getTimeTaken() == null ? totalMillis : event.getTimeTaken().toMillis();
+        startupMillis = totalMillis;
+        log.info("Startup timing - total: {} ms (jvm before main: {} ms, application: {} ms)",
+                totalMillis, totalMillis - applicationMillis, applicationMillis);
+
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            report(startup.getBufferedTimeline().getEvents());
+        }
+    }
+
+    private static void report(List<TimelineEvent> events) {
+        // 단계별 자기 시간 = 단계 시간 - 직계 하위 단계 시간
+        Map<Long, Long> selfNanos = new HashMap<>();
+        for (TimelineEvent event : events) {
+            selfNanos.put(event.getStartupStep().getId(), event.getDuration().toNanos());
+        }
+        for (TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null && selfNanos.containsKey(parentId)) {
+                selfNanos.merge(parentId, -event.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        Map<String, long[]> byStep = new HashMap<>();
+        Map<String, Long> byBean = new HashMap<>();
+        for (TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            long nanos = selfNanos.get(step.getId());
+            long[] totals = byStep.computeIfAbsent(step.getName(), name -> new long[2]);
+            totals[0] += nanos;
+            totals[1]++;
+            if (BEAN_INSTANTIATE_STEP.equals(step.getName())) {
+                for (StartupStep.Tag tag : step.getTags()) {
+                    if ("beanName".equals(tag.getKey())) {
+                        byBean.merge(tag.getValue(), nanos, Long::sum);
+                    }
+                }
+            }
+        }
+
+        StringBuilder report = new StringBuilder("Startup steps by self time - recorded: ").append(events.size());
+        byStep.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[0]).reversed())
+                .limit(TOP_ENTRIES)
+                .forEach(entry -> report.append(System.lineSeparator())
+                        .append("  step ").append(entry.getKey()).append(": ")
+                        .append(TimeUnit.NANOSECONDS.toMillis(entry.getValue()[0])).append(" ms (")
+                        .append(entry.getValue()[1]).append(" steps)"));
+        byBean.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(TOP_ENTRIES)
+                .forEach(entry -> report.append(System.lineSeparator())
+                        .append("  bean ").append(entry.getKey()).append(": ")
+                        .append(TimeUnit.NANOSECONDS.toMillis(entry.getValue())).append(" ms"));
+        log.info(report.toString());
+    }
+}
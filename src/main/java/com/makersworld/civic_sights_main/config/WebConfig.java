@@ -1,23 +1,46 @@
 package com.makersworld.civic_sights_main.config;
 
+import com.makersworld.civic_sights_main.entitlement.EntitlementInterceptor;
+import com.makersworld.civic_sights_main.entitlement.EntitlementsArgumentResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.lang.NonNull;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * Web MVC Configuration
  * Registers custom converters for automatic type conversion
+ * and the entitlement interceptor / argument resolver
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     
     @Autowired
     private CategoryConverter categoryConverter;
+
+    @Autowired
+    private EntitlementInterceptor entitlementInterceptor;
+
+    @Autowired
+    private EntitlementsArgumentResolver entitlementsArgumentResolver;
     
     @Override
     public void addFormatters(@NonNull FormatterRegistry registry) {
         registry.addConverter(categoryConverter);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(entitlementInterceptor);
+    }
+
+    @Override
+    public void addArgumentResolvers(@NonNull List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(entitlementsArgumentResolver);
+    }
+}
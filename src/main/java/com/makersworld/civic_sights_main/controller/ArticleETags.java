@@ -0,0 +1,141 @@
+package com.makersworld.civic_sights_main.controller;
+
+import com.makersworld.civic_sights_main.model.ArticleVersion;
+import com.makersworld.civic_sights_main.model.CursorPage;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 기사 응답용 ETag / Last-Modified 계산
+ *
+ * 상세 응답은 (id, updateDate)로 만든 강한 ETag, 목록 응답은 페이지 구성 요소로 만든 약한 ETag를 사용합니다.
+ */
+final class ArticleETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ArticleETags() {
+    }
+
+    /**
+     * 상세 응답용 강한 ETag ("{id}-{updateDate 마이크로초}")
+     */
+    static String strong(ArticleVersion version) {
+        return "\"" + version.id() + "-" + toEpochMicros(version.updateDate()) + "\"";
+    }
+
+    /**
+     * gzip 인코딩 응답용 강한 ETag (표현이 다르므로 인코딩별로 구분)
+     */
+    static String strongGzip(ArticleVersion version) {
+        return "\"" + version.id() + "-" + toEpochMicros(version.updateDate()) + "-gz\"";
+    }
+
+    /**
+     * 상세 응답용 Last-Modified (updateDate가 없으면 -1)
+     */
+    static long lastModified(ArticleVersion version) {
+        return version.updateDate() == null ? -1 : toInstant(version.updateDate()).toEpochMilli();
+    }
+
+    /**
+     * 조건부 요청이 주어진 검증자와 일치하는지 확인 (If-None-Match 우선, 없으면 If-Modified-Since)
+     * 본문을 로딩하기 전에 304 여부를 판단하는 용도이며, 응답 헤더는 변경하지 않습니다.
+     */
+    static boolean isNotModified(WebRequest request, String eTag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matchesAny(ifNoneMatch, eTag);
+        }
+        String ifModifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince != null && lastModified >= 0) {
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toInstant().toEpochMilli();
+                // HTTP 날짜는 초 단위이므로 초 단위로 비교
+                return lastModified / 1000 <= since / 1000;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 페이지 목록 응답용 약한 ETag (Page면 전체 건수, Slice면 다음 페이지 존재 여부를 포함)
+     */
+    static String weak(Slice<NewsArticleSummary> slice) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, slice.getNumber());
+        hash = mix(hash, slice.getSize());
+        hash = mix(hash, slice instanceof Page<?> page ? page.getTotalElements() : (slice.hasNext() ? -1 : -2));
+        return weak(hash, slice.getContent());
+    }
+
+    /**
+     * 커서 목록 응답용 약한 ETag
+     */
+    static String weak(CursorPage<NewsArticleSummary> page) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, page.size());
+        hash = mix(hash, page.nextCursor() == null ? 0 : page.nextCursor().hashCode());
+        return weak(hash, page.content());
+    }
+
+    private static String weak(long hash, List<NewsArticleSummary> content) {
+        for (NewsArticleSummary article : content) {
+            hash = mix(hash, article.id() == null ? 0 : article.id());
+            hash = mix(hash, toEpochMicros(article.updateDate()));
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    // If-None-Match 목록 중 하나라도 약한 비교(W/ 무시)로 일치하면 true
+    private static boolean matchesAny(String ifNoneMatch, String eTag) {
+        String expected = stripWeak(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeak(trimmed).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    // FNV-1a 방식으로 long 값을 바이트 단위로 누적
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        Instant instant = toInstant(dateTime);
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
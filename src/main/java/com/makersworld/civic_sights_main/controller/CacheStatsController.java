@@ -0,0 +1,32 @@
+package com.makersworld.civic_sights_main.controller;
+
+import com.makersworld.civic_sights_main.model.CacheStatistics;
+import com.makersworld.civic_sights_main.service.ArticleCache;
+import com.makersworld.civic_sights_main.service.ArticleJsonCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final ArticleCache articleCache;
+    private final ArticleJsonCache articleJsonCache;
+
+    /**
+     * 캐시 통계 조회 (적중/미스/제거)
+     * GET /api/cache/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, CacheStatistics>> getCacheStats() {
+        return ResponseEntity.ok(Map.of(
+                "articles", articleCache.statistics(),
+                "articleJson", articleJsonCache.statistics()));
+    }
+}
@@ -0,0 +1,111 @@
+package com.makersworld.civic_sights_main.controller;
+
+import com.makersworld.civic_sights_main.config.ImageProperties;
+import com.makersworld.civic_sights_main.image.ImageVariantService;
+import com.makersworld.civic_sights_main.image.ImageVariantService.StoredVariant;
+import com.makersworld.civic_sights_main.model.ImageVariant;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 대표 이미지 변형 응답
+ *
+ * 디스크 캐시 파일을 Tomcat sendfile(커널에서 파일 → 소켓 직접 전송)로 보내 본문을 JVM 힙에 올리지 않으며,
+ * sendfile을 쓸 수 없는 커넥터에서는 FileChannel.transferTo로 보냅니다.
+ * 같은 원본 URL의 내용은 바뀔 수 있으므로 짧은 max-age 후 재검증하도록 하고(immutable 아님),
+ * 원본 내용 해시로 만든 강한 ETag로 바뀌지 않은 변형은 304로 응답합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageVariantService imageVariantService;
+    private final ImageProperties imageProperties;
+
+    /**
+     * 대표 이미지 변형 조회
+     * GET /api/images/{variant}?src=<mainImg URL> (variant: thumbnail, card, hero)
+     */
+    @GetMapping("/{variant}")
+    public void getVariant(@PathVariable("variant") String variant,
+                           @RequestParam("src") String src,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        StoredVariant stored;
+        try {
+            stored = imageVariantService.variant(src, ImageVariant.fromValue(variant));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IOException e) {
+            log.warn("Image source unavailable - source: {}, cause: {}", src, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Image source unavailable");
+        }
+
+        String eTag = "\"" + stored.hash() + "-" + stored.variant().getValue() + "\"";
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(imageProperties.getCacheMaxAge()).cachePublic().mustRevalidate().getHeaderValue());
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType("image/jpeg");
+        response.setContentLengthLong(stored.size());
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 응답 본문은 Tomcat이 응답 완료 시 sendfile로 전송 (Tomcat은 정규화된 경로만 허용)
+            request.setAttribute(SENDFILE_FILENAME, stored.path().toFile().getCanonicalPath());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, stored.size());
+            return;
+        }
+        try (FileChannel file = FileChannel.open(stored.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < stored.size()) {
+                position += file.transferTo(position, stored.size() - position, out);
+            }
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,109 +1,249 @@
 package com.makersworld.civic_sights_main.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.makersworld.civic_sights_main.config.ExportProperties;
+import com.makersworld.civic_sights_main.config.IngestProperties;
+import com.makersworld.civic_sights_main.entitlement.Entitlement;
+import com.makersworld.civic_sights_main.entitlement.RequiresEntitlement;
+import com.makersworld.civic_sights_main.model.ArticleCursor;
+import com.makersworld.civic_sights_main.model.ArticlePatch;
+import com.makersworld.civic_sights_main.model.ArticleVersion;
 import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.CursorPage;
+import com.makersworld.civic_sights_main.model.IngestReport;
 import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.service.ArticleExportService;
+import com.makersworld.civic_sights_main.service.ArticleExportService.ExportFilter;
+import com.makersworld.civic_sights_main.service.ArticleIngestService;
+import com.makersworld.civic_sights_main.service.ArticleJsonCache;
+import com.makersworld.civic_sights_main.service.ArticleJsonCache.SerializedArticle;
+import com.makersworld.civic_sights_main.service.DatabaseUnavailableException;
 import com.makersworld.civic_sights_main.service.NewsArticleService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/articles")
 @RequiredArgsConstructor
 public class NewsArticleController {
     
+    /** 목록/검색 한 페이지의 최대 크기 */
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    /** 내보내기 요청의 비동기 타임아웃 인터셉터 키 */
+    private static final String EXPORT_TIMEOUT_KEY = NewsArticleController.class.getName() + ".exportTimeout";
+    
     private final NewsArticleService newsArticleService;
+    private final ArticleJsonCache articleJsonCache;
+    private final ArticleIngestService articleIngestService;
+    private final ArticleExportService articleExportService;
+    private final IngestProperties ingestProperties;
+    private final ExportProperties exportProperties;
+    private final ObjectMapper objectMapper;
     
     /**
      * 전체 뉴스 리스트 조회 (페이지네이션)
      * GET /api/articles?page=0&size=25
+     * GET /api/articles?after=&size=25 (커서 모드: 빈 after는 첫 페이지, 이후 응답의 nextCursor 전달)
+     * GET /api/articles?page=0&size=25&withTotal=false (Slice 모드: 전체 건수 없이 다음 페이지 여부만 응답)
      */
     @GetMapping
-    public ResponseEntity<Page<NewsArticle>> getAllArticles(
+    public ResponseEntity<?> getAllArticles(
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "25") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<NewsArticle> articles = newsArticleService.getAllArticles(pageable);
-        return ResponseEntity.ok(articles);
+            @RequestParam(value = "size", defaultValue = "25") int size,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "withTotal", defaultValue = "true") boolean withTotal) {
+        if (after != null) {
+            CursorPage<NewsArticleSummary> articles = newsArticleService.getAllArticlesAfter(parseCursor(after), validSize(size));
+            return withWeakETag(articles, ArticleETags.weak(articles));
+        }
+        Pageable pageable = pageRequest(page, size);
+        if (!withTotal) {
+            Slice<NewsArticleSummary> articles = newsArticleService.getArticleSlice(null, null, pageable);
+            return withWeakETag(articles, ArticleETags.weak(articles));
+        }
+        Page<NewsArticleSummary> articles = newsArticleService.getAllArticles(pageable);
+        return withWeakETag(articles, ArticleETags.weak(articles));
     }
     
     /**
      * 유료 뉴스 리스트 조회 (페이지네이션)
      * GET /api/articles/premium?page=0&size=25
+     * GET /api/articles/premium?after=<cursor>&size=25 (커서 모드)
      */
     @GetMapping("/premium")
-    public ResponseEntity<Page<NewsArticle>> getPremiumArticles(
+    public ResponseEntity<?> getPremiumArticles(
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "25") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<NewsArticle> articles = newsArticleService.getPremiumArticles(pageable);
-        return ResponseEntity.ok(articles);
+            @RequestParam(value = "size", defaultValue = "25") int size,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "withTotal", defaultValue = "true") boolean withTotal) {
+        if (after != null) {
+            CursorPage<NewsArticleSummary> articles = newsArticleService.getPremiumArticlesAfter(parseCursor(after), validSize(size));
+            return withWeakETag(articles, ArticleETags.weak(articles));
+        }
+        Pageable pageable = pageRequest(page, size);
+        if (!withTotal) {
+            Slice<NewsArticleSummary> articles = newsArticleService.getArticleSlice(null, true, pageable);
+            return withWeakETag(articles, ArticleETags.weak(articles));
+        }
+        Page<NewsArticleSummary> articles = newsArticleService.getPremiumArticles(pageable);
+        return withWeakETag(articles, ArticleETags.weak(articles));
     }
     
     /**
      * 무료 뉴스 리스트 조회 (페이지네이션)
      * GET /api/articles/free?page=0&size=25
+     * GET /api/articles/free?after=<cursor>&size=25 (커서 모드)
      */
     @GetMapping("/free")
-    public ResponseEntity<Page<NewsArticle>> getFreeArticles(
+    public ResponseEntity<?> getFreeArticles(
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "25") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<NewsArticle> articles = newsArticleService.getFreeArticles(pageable);
-        return ResponseEntity.ok(articles);
+            @RequestParam(value = "size", defaultValue = "25") int size,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "withTotal", defaultValue = "true") boolean withTotal) {
+        if (after != null) {
+            CursorPage<NewsArticleSummary> articles = newsArticleService.getFreeArticlesAfter(parseCursor(after), validSize(size));
+            return withWeakETag(articles, ArticleETags.weak(articles));
+        }
+        Pageable pageable = pageRequest(page, size);
+        if (!withTotal) {
+            Slice<NewsArticleSummary> articles = newsArticleService.getArticleSlice(null, false, pageable);
+            return withWeakETag(articles, ArticleETags.weak(articles));
+        }
+        Page<NewsArticleSummary> articles = newsArticleService.getFreeArticles(pageable);
+        return withWeakETag(articles, ArticleETags.weak(articles));
     }
     
     /**
      * 카테고리별 뉴스 리스트 조회 (페이지네이션)
      * GET /api/articles/category/{category}?page=0&size=25
+     * GET /api/articles/category/{category}?after=<cursor>&size=25 (커서 모드)
      */
     @GetMapping("/category/{category}")
-    public ResponseEntity<Page<NewsArticle>> getArticlesByCategory(
+    public ResponseEntity<?> getArticlesByCategory(
             @PathVariable("category") Category category,
             @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "25") int size,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "withTotal", defaultValue = "true") boolean withTotal) {
+        if (after != null) {
+            CursorPage<NewsArticleSummary> articles = newsArticleService.getArticlesByCategoryAfter(category, parseCursor(after), validSize(size));
+            return withWeakETag(articles, ArticleETags.weak(articles));
+        }
+        Pageable pageable = pageRequest(page, size);
+        if (!withTotal) {
+            Slice<NewsArticleSummary> articles = newsArticleService.getArticleSlice(category, null, pageable);
+            return withWeakETag(articles, ArticleETags.weak(articles));
+        }
+        Page<NewsArticleSummary> articles = newsArticleService.getArticlesByCategory(category, pageable);
+        return withWeakETag(articles, ArticleETags.weak(articles));
+    }
+    
+    /**
+     * 키워드 검색 (제목/본문, 관련도 순 페이지네이션)
+     * GET /api/articles/search?q=기본소득&page=0&size=25
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<NewsArticleSummary>> searchArticles(
+            @RequestParam("q") String query,
+            @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "25") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<NewsArticle> articles = newsArticleService.getArticlesByCategory(category, pageable);
-        return ResponseEntity.ok(articles);
+        Pageable pageable = pageRequest(page, size);
+        Page<NewsArticleSummary> articles = newsArticleService.searchArticles(query, pageable);
+        return withWeakETag(articles, ArticleETags.weak(articles));
     }
     
+    /**
+     * 전체 기사 내보내기 (NDJSON 스트리밍, createDate 오름차순)
+     * GET /api/articles/export?category=basic-income&isPremium=false&from=2025-01-01T00:00:00&to=2025-07-01T00:00:00
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArticles(
+            @RequestParam(value = "category", required = false) Category category,
+            @RequestParam(value = "isPremium", required = false) Boolean isPremium,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletRequest request) {
+        if (!articleExportService.isAvailable()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Database unavailable");
+        }
+        ExportFilter filter = new ExportFilter(category, isPremium, from, to);
+        StreamingResponseBody body = out -> articleExportService.export(filter, out);
+        applyExportTimeout(request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\"")
+                .body(body);
+    }
+
+    /**
+     * 이 요청의 비동기 응답 타임아웃만 내보내기 설정으로 변경 (전역 비동기 타임아웃은 그대로 유지)
+     */
+    private void applyExportTimeout(HttpServletRequest request) {
+        long timeoutMillis = exportProperties.getTimeout().toMillis();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                        ((AsyncWebRequest) webRequest).setTimeout(timeoutMillis);
+                    }
+                });
+    }
+
     /**
      * 무료 뉴스 상세 조회
      * GET /api/articles/free/{id}
      */
     @GetMapping("/free/{id}")
-    public ResponseEntity<NewsArticle> getFreeArticleById(@PathVariable("id") Long id) {
-        Optional<NewsArticle> article = newsArticleService.getFreeArticleById(id);
-        return article.map(ResponseEntity::ok)
-                     .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<byte[]> getFreeArticleById(@PathVariable("id") Long id, WebRequest request) {
+        return detailResponse(id, request, version -> !version.isPremium(),
+                () -> newsArticleService.getFreeArticleById(id));
     }
 
     /**
-     * 유료 뉴스 상세 조회
+     * 유료 뉴스 상세 조회 (게이트웨이 역할 헤더 기준 PREMIUM_CONTENT 권한 필요)
      * GET /api/articles/premium/{id}
      */
     @GetMapping("/premium/{id}")
-    public ResponseEntity<NewsArticle> getPremiumArticleById(@PathVariable("id") Long id,
-                                                             @RequestHeader(value = "X-User-Roles", required = false) String rolesHeader) {
-        // 게이트웨이가 부여한 역할 헤더를 검사하여 PAID_USER 인지 확인
-        boolean hasPaidRole = rolesHeader != null &&
-                java.util.Arrays.stream(rolesHeader.split(","))
-                        .map(String::trim)
-                        .anyMatch(r -> r.equalsIgnoreCase("PAID_USER") || r.equalsIgnoreCase("ROLE_PAID_USER"));
-
-        if (!hasPaidRole) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-        }
-
-        Optional<NewsArticle> article = newsArticleService.getPremiumArticleById(id);
-        return article.map(ResponseEntity::ok)
-                     .orElse(ResponseEntity.notFound().build());
+    @RequiresEntitlement(Entitlement.PREMIUM_CONTENT)
+    public ResponseEntity<byte[]> getPremiumArticleById(@PathVariable("id") Long id, WebRequest request) {
+        return detailResponse(id, request, ArticleVersion::isPremium,
+                () -> newsArticleService.getPremiumArticleById(id));
     }
     
     /**
@@ -111,10 +251,9 @@ public class NewsArticleController {
      * GET /api/articles/{id}
      */
     @GetMapping("/{id:[0-9]+}")
-    public ResponseEntity<NewsArticle> getArticleById(@PathVariable("id") Long id) {
-        Optional<NewsArticle> article = newsArticleService.getArticleById(id);
-        return article.map(ResponseEntity::ok)
-                     .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<byte[]> getArticleById(@PathVariable("id") Long id, WebRequest request) {
+        return detailResponse(id, request, version -> true,
+                () -> newsArticleService.getArticleById(id));
     }
     
     /**
@@ -123,34 +262,226 @@ public class NewsArticleController {
      */
     @PostMapping
     public ResponseEntity<NewsArticle> createArticle(@RequestBody NewsArticle article) {
-        NewsArticle createdArticle = newsArticleService.createArticle(article);
+        NewsArticle createdArticle = withWriteErrors(() -> newsArticleService.createArticle(article));
         return ResponseEntity.status(HttpStatus.CREATED).body(createdArticle);
     }
+
+    /**
+     * 뉴스 일괄 생성 (JSON 배열)
+     * POST /api/articles/batch (Content-Type: application/json)
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<IngestReport> createArticles(@RequestBody List<NewsArticle> articles) {
+        return ingest(articles);
+    }
+
+    /**
+     * 뉴스 일괄 생성 (NDJSON - 한 줄에 기사 하나, 빈 줄은 무시)
+     * POST /api/articles/batch (Content-Type: application/x-ndjson)
+     */
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "application/jsonl"})
+    public ResponseEntity<IngestReport> createArticlesFromNdjson(HttpServletRequest request) throws IOException {
+        List<NewsArticle> articles = new ArrayList<>();
+        ObjectReader reader = objectMapper.readerFor(NewsArticle.class);
+        try (BufferedReader lines = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (articles.size() == ingestProperties.getMaxItems()) {
+                    throw tooManyItems();
+                }
+                try {
+                    articles.add(reader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed JSON at line " + lineNumber);
+                }
+            }
+        }
+        return ingest(articles);
+    }
+
+    private ResponseEntity<IngestReport> ingest(List<NewsArticle> articles) {
+        if (articles.size() > ingestProperties.getMaxItems()) {
+            throw tooManyItems();
+        }
+        return ResponseEntity.ok(articleIngestService.ingest(articles));
+    }
+
+    private ResponseStatusException tooManyItems() {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                "At most " + ingestProperties.getMaxItems() + " articles per request");
+    }
     
     /**
      * 뉴스 수정
      * PUT /api/articles/{id}
+     * 본문에 version을 보내면 해당 버전일 때만 반영 (다르면 409 Conflict)
      */
     @PutMapping("/{id}")
     public ResponseEntity<NewsArticle> updateArticle(
             @PathVariable("id") Long id, 
             @RequestBody NewsArticle article) {
-        Optional<NewsArticle> updatedArticle = newsArticleService.updateArticle(id, article);
+        Optional<NewsArticle> updatedArticle = withWriteErrors(() -> newsArticleService.updateArticle(id, article));
         return updatedArticle.map(ResponseEntity::ok)
                            .orElse(ResponseEntity.notFound().build());
     }
     
+    /**
+     * 뉴스 부분 수정 (보낸 필드만 변경, 명시적 null은 mainImg/content 비우기)
+     * PATCH /api/articles/{id}
+     * 본문에 version을 보내면 해당 버전일 때만 반영 (다르면 409 Conflict)
+     */
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/merge-patch+json"})
+    public ResponseEntity<NewsArticle> patchArticle(
+            @PathVariable("id") Long id,
+            @RequestBody JsonNode body) {
+        ArticlePatch patch;
+        try {
+            patch = ArticlePatch.fromJson(body, objectMapper);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        Optional<NewsArticle> patchedArticle = withWriteErrors(() -> newsArticleService.patchArticle(id, patch));
+        return patchedArticle.map(ResponseEntity::ok)
+                           .orElse(ResponseEntity.notFound().build());
+    }
+    
     /**
      * 뉴스 삭제
      * DELETE /api/articles/{id}
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteArticle(@PathVariable("id") Long id) {
-        boolean deleted = newsArticleService.deleteArticle(id);
+        boolean deleted = withWriteErrors(() -> newsArticleService.deleteArticle(id));
         return deleted ? ResponseEntity.noContent().build() 
                       : ResponseEntity.notFound().build();
     }
     
+    /**
+     * 상세 조회 공통 처리 (조건부 GET + 직렬화 캐시)
+     * If-None-Match / If-Modified-Since 가 현재 버전과 일치하면 본문을 로딩하지 않고 304 응답하고,
+     * 그 외에는 미리 직렬화해 둔 JSON(또는 gzip) 바이트를 재직렬화 없이 그대로 응답
+     */
+    private ResponseEntity<byte[]> detailResponse(Long id, WebRequest request,
+                                                  Predicate<ArticleVersion> accessible,
+                                                  Supplier<Optional<NewsArticle>> loader) {
+        if (isConditional(request)) {
+            Optional<ArticleVersion> version = newsArticleService.getArticleVersion(id).filter(accessible);
+            if (version.isPresent()) {
+                long lastModified = ArticleETags.lastModified(version.get());
+                for (String eTag : new String[]{ArticleETags.strong(version.get()), ArticleETags.strongGzip(version.get())}) {
+                    if (ArticleETags.isNotModified(request, eTag, lastModified)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(eTag)
+                                .lastModified(lastModified)
+                                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                                .build();
+                    }
+                }
+            }
+        }
+        Optional<NewsArticle> article = loader.get();
+        if (article.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        SerializedArticle serialized = articleJsonCache.get(article.get());
+        boolean gzip = serialized.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .lastModified(ArticleETags.lastModified(serialized.version()))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response
+                    .eTag(ArticleETags.strongGzip(serialized.version()))
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(serialized.gzip());
+        }
+        return response
+                .eTag(ArticleETags.strong(serialized.version()))
+                .body(serialized.json());
+    }
+    
+    // Accept-Encoding 에 gzip 이 포함되어 있고 q=0 으로 거부되지 않았는지 확인
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String trimmed = coding.trim();
+            if (trimmed.regionMatches(true, 0, "gzip", 0, 4)) {
+                return !trimmed.replace(" ", "").endsWith(";q=0");
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 목록 응답 공통 처리 (약한 ETag 기반 조건부 GET)
+     * If-None-Match가 일치하면 Spring MVC(HttpEntityMethodProcessor)가 본문 직렬화 없이 304로 응답
+     */
+    private <T> ResponseEntity<T> withWeakETag(T body, String eTag) {
+        return ResponseEntity.ok().eTag(eTag).body(body);
+    }
+    
+    private boolean isConditional(WebRequest request) {
+        return request.getHeader("If-None-Match") != null || request.getHeader("If-Modified-Since") != null;
+    }
+    
+    /**
+     * 쓰기 실행 (낙관적 잠금 충돌은 409 Conflict, 컬럼 제약 위반은 400 Bad Request, DB 장애로 반영할 수 없으면 503)
+     */
+    private <T> T withWriteErrors(Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (OptimisticLockingFailureException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Article was modified concurrently; reload and retry with the current version");
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Article violates a column constraint (required field missing or value too long)");
+        } catch (DatabaseUnavailableException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+    
+    /**
+     * page/size 파라미터를 Pageable로 변환 (음수 page, 범위를 벗어난 size는 400 Bad Request)
+     */
+    private static Pageable pageRequest(int page, int size) {
+        if (page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must not be negative");
+        }
+        return PageRequest.of(page, validSize(size));
+    }
+    
+    /**
+     * size 파라미터 검증 (1 이상 MAX_PAGE_SIZE 이하가 아니면 400 Bad Request)
+     */
+    private static int validSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+    
+    /**
+     * after 파라미터를 커서로 변환 (잘못된 커서는 400 Bad Request)
+     */
+    private ArticleCursor parseCursor(String after) {
+        try {
+            return ArticleCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+    
     /**
      * 건강 상태 확인 (헬스 체크)
      * GET /api/articles/health
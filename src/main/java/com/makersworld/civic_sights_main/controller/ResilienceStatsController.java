@@ -0,0 +1,26 @@
+package com.makersworld.civic_sights_main.controller;
+
+import com.makersworld.civic_sights_main.model.CircuitBreakerStatistics;
+import com.makersworld.civic_sights_main.service.ArticleDataAccessGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/resilience")
+@RequiredArgsConstructor
+public class ResilienceStatsController {
+
+    private final ArticleDataAccessGuard dataAccessGuard;
+
+    /**
+     * DB 접근 서킷 브레이커 상태/통계 조회 (상태 전이 횟수, 대체 응답 수)
+     * GET /api/resilience/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<CircuitBreakerStatistics> getCircuitBreakerStats() {
+        return ResponseEntity.ok(dataAccessGuard.statistics());
+    }
+}
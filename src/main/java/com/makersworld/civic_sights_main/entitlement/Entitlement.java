@@ -0,0 +1,12 @@
+package com.makersworld.civic_sights_main.entitlement;
+
+/**
+ * 게이트웨이 역할로부터 부여되는 기능 권한
+ *
+ * 순서(ordinal)가 {@link Entitlements} 비트 위치로 쓰이므로 최대 64개까지 정의할 수 있습니다.
+ */
+public enum Entitlement {
+
+    /** 유료 기사 열람 */
+    PREMIUM_CONTENT
+}
@@ -0,0 +1,53 @@
+package com.makersworld.civic_sights_main.entitlement;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link RequiresEntitlement} 선언을 검사하는 인터셉터
+ *
+ * 핸들러별 요구 권한은 처음 한 번만 어노테이션에서 읽어 비트셋으로 보관합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntitlementInterceptor implements HandlerInterceptor {
+
+    private final EntitlementResolver entitlementResolver;
+
+    private final Map<Method, Entitlements> requiredByHandler = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Entitlements required = requiredByHandler.computeIfAbsent(handlerMethod.getMethod(),
+                method -> required(handlerMethod));
+        if (required.isEmpty() || entitlementResolver.resolve(request).hasAll(required)) {
+            return true;
+        }
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        return false;
+    }
+
+    private static Entitlements required(HandlerMethod handlerMethod) {
+        RequiresEntitlement annotation = AnnotatedElementUtils.findMergedAnnotation(
+                handlerMethod.getMethod(), RequiresEntitlement.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(
+                    handlerMethod.getBeanType(), RequiresEntitlement.class);
+        }
+        return annotation == null ? Entitlements.NONE : Entitlements.of(annotation.value());
+    }
+}
@@ -0,0 +1,87 @@
+package com.makersworld.civic_sights_main.entitlement;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.makersworld.civic_sights_main.config.EntitlementProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 게이트웨이 역할 헤더(X-User-Roles)를 권한 비트셋으로 변환
+ *
+ * 게이트웨이가 보내는 역할 문자열 조합은 몇 가지뿐이므로, 헤더 문자열 → 비트셋을
+ * 작은 캐시에 보관하여 요청마다 split/대소문자 비교를 반복하지 않습니다.
+ * 한 요청 안에서는 결과를 요청 속성에 두어 인터셉터와 인자 주입이 한 번만 계산합니다.
+ */
+@Component
+public class EntitlementResolver {
+
+    private static final String REQUEST_ATTRIBUTE = EntitlementResolver.class.getName() + ".ENTITLEMENTS";
+
+    private final String headerName;
+    private final Map<String, Entitlements> roleEntitlements;
+    private final Cache<String, Entitlements> cache;
+    private final Function<String, Entitlements> parser = this::parse;
+
+    public EntitlementResolver(EntitlementProperties properties) {
+        this.headerName = properties.getHeader();
+        this.roleEntitlements = normalize(properties.getRoles());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .build();
+    }
+
+    /**
+     * 현재 요청의 권한 (요청당 한 번만 계산)
+     */
+    public Entitlements resolve(HttpServletRequest request) {
+        Object resolved = request.getAttribute(REQUEST_ATTRIBUTE);
+        if (resolved instanceof Entitlements entitlements) {
+            return entitlements;
+        }
+        Entitlements entitlements = resolve(request.getHeader(headerName));
+        request.setAttribute(REQUEST_ATTRIBUTE, entitlements);
+        return entitlements;
+    }
+
+    /**
+     * 역할 헤더 값의 권한 (콤마 구분, 대소문자 무시, 알 수 없는 역할은 무시)
+     */
+    public Entitlements resolve(String rolesHeader) {
+        if (rolesHeader == null || rolesHeader.isEmpty()) {
+            return Entitlements.NONE;
+        }
+        return cache.get(rolesHeader, parser);
+    }
+
+    private Entitlements parse(String rolesHeader) {
+        Entitlements entitlements = Entitlements.NONE;
+        int start = 0;
+        while (start <= rolesHeader.length()) {
+            int comma = rolesHeader.indexOf(',', start);
+            int end = comma < 0 ? rolesHeader.length() : comma;
+            String role = rolesHeader.substring(start, end).trim().toUpperCase(Locale.ROOT);
+            Entitlements granted = roleEntitlements.get(role);
+            if (granted != null) {
+                entitlements = entitlements.with(granted);
+            }
+            start = end + 1;
+        }
+        return entitlements;
+    }
+
+    private static Map<String, Entitlements> normalize(Map<String, List<Entitlement>> roles) {
+        Map<String, Entitlements> normalized = new HashMap<>();
+        roles.forEach((role, entitlements) -> normalized.merge(
+                role.trim().toUpperCase(Locale.ROOT),
+                Entitlements.of(entitlements.toArray(Entitlement[]::new)),
+                Entitlements::with));
+        return Map.copyOf(normalized);
+    }
+}
@@ -0,0 +1,83 @@
+package com.makersworld.civic_sights_main.entitlement;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 요청 사용자가 가진 권한 집합 (불변, long 비트셋)
+ *
+ * 컨트롤러 메서드 파라미터로 선언하면 {@link EntitlementsArgumentResolver}가 주입합니다.
+ */
+public final class Entitlements {
+
+    public static final Entitlements NONE = new Entitlements(0L);
+
+    private final long bits;
+
+    private Entitlements(long bits) {
+        this.bits = bits;
+    }
+
+    public static Entitlements of(Entitlement... entitlements) {
+        long bits = 0L;
+        for (Entitlement entitlement : entitlements) {
+            bits |= bit(entitlement);
+        }
+        return bits == 0L ? NONE : new Entitlements(bits);
+    }
+
+    /**
+     * 권한 하나를 보유하는지 여부
+     */
+    public boolean has(Entitlement entitlement) {
+        return (bits & bit(entitlement)) != 0L;
+    }
+
+    /**
+     * 주어진 권한을 모두 보유하는지 여부
+     */
+    public boolean hasAll(Entitlements required) {
+        return (bits & required.bits) == required.bits;
+    }
+
+    /**
+     * 두 권한 집합의 합집합
+     */
+    public Entitlements with(Entitlements other) {
+        long merged = bits | other.bits;
+        return merged == bits ? this : new Entitlements(merged);
+    }
+
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    public Set<Entitlement> toSet() {
+        Set<Entitlement> set = EnumSet.noneOf(Entitlement.class);
+        for (Entitlement entitlement : Entitlement.values()) {
+            if (has(entitlement)) {
+                set.add(entitlement);
+            }
+        }
+        return set;
+    }
+
+    private static long bit(Entitlement entitlement) {
+        return 1L << entitlement.ordinal();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Entitlements other && other.bits == bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return "Entitlements" + toSet();
+    }
+}
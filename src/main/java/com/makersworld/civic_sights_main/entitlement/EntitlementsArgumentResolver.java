@@ -0,0 +1,33 @@
+package com.makersworld.civic_sights_main.entitlement;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러 메서드의 {@link Entitlements} 파라미터 주입
+ */
+@Component
+@RequiredArgsConstructor
+public class EntitlementsArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final EntitlementResolver entitlementResolver;
+
+    @Override
+    public boolean supportsParameter(@NonNull MethodParameter parameter) {
+        return parameter.getParameterType() == Entitlements.class;
+    }
+
+    @Override
+    public Object resolveArgument(@NonNull MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  @NonNull NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        return request != null ? entitlementResolver.resolve(request) : Entitlements.NONE;
+    }
+}
@@ -0,0 +1,20 @@
+package com.makersworld.civic_sights_main.entitlement;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 실행에 필요한 권한 선언 (클래스에 붙이면 모든 핸들러에 적용)
+ *
+ * 나열한 권한을 모두 보유하지 않으면 {@link EntitlementInterceptor}가 403 Forbidden으로 응답합니다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresEntitlement {
+
+    Entitlement[] value();
+}
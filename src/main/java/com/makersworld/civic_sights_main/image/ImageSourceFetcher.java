@@ -0,0 +1,119 @@
+package com.makersworld.civic_sights_main.image;
+
+import com.makersworld.civic_sights_main.config.ImageProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.OptionalLong;
+
+/**
+ * 원본 이미지 다운로드
+ *
+ * 허용 호스트(app.images.allowed-hosts)의 http/https URL만 가져오며, 리다이렉트는 직접 따라가면서
+ * 매 단계의 대상 호스트도 검사합니다. (허용 호스트를 거쳐 내부 주소로 우회하지 않도록)
+ * 응답이 image/* 가 아니거나 최대 크기를 넘으면 본문을 끝까지 읽지 않고 거부합니다.
+ */
+@Component
+public class ImageSourceFetcher {
+
+    private final ImageProperties properties;
+    private final HttpClient httpClient;
+
+    public ImageSourceFetcher(ImageProperties properties) {
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getFetchTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * 원본 URL 검사 (http/https, 허용 호스트)
+     *
+     * @throws IllegalArgumentException 잘못된 URL이거나 허용되지 않은 호스트
+     */
+    public URI validate(String sourceUrl) {
+        URI uri;
+        try {
+            uri = URI.create(sourceUrl);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid image source URL");
+        }
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!scheme.equals("http") && !scheme.equals("https")) {
+            throw new IllegalArgumentException("Image source must be an http(s) URL");
+        }
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        if (properties.getAllowedHosts().stream().noneMatch(allowed -> allowed.equalsIgnoreCase(host))) {
+            throw new IllegalArgumentException("Image source host is not allowed: " + host);
+        }
+        return uri;
+    }
+
+    /**
+     * 원본 다운로드
+     *
+     * @throws IllegalArgumentException 허용되지 않은 리다이렉트 대상, 이미지가 아닌 응답, 크기 상한 초과
+     * @throws IOException              연결 실패, 타임아웃, 200이 아닌 응답
+     */
+    public byte[] fetch(String sourceUrl) throws IOException {
+        URI uri = validate(sourceUrl);
+        for (int redirects = 0; ; redirects++) {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(properties.getFetchTimeout())
+                    .header("Accept", "image/*")
+                    .GET()
+                    .build();
+            HttpResponse<InputStream> response;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while fetching image source", e);
+            }
+            try (InputStream body = response.body()) {
+                int status = response.statusCode();
+                if (status / 100 == 3 && redirects < properties.getMaxRedirects()) {
+                    String location = response.headers().firstValue("Location")
+                            .orElseThrow(() -> new IOException("Redirect without Location from " + request.uri()));
+                    uri = validate(request.uri().resolve(location).toString());
+                    continue;
+                }
+                if (status != 200) {
+                    throw new IOException("Image source returned " + status + ": " + request.uri());
+                }
+                String contentType = response.headers().firstValue("Content-Type").orElse("");
+                if (!contentType.toLowerCase(Locale.ROOT).startsWith("image/")) {
+                    throw new IllegalArgumentException("Image source is not an image: " + contentType);
+                }
+                OptionalLong length = response.headers().firstValueAsLong("Content-Length");
+                if (length.isPresent() && length.getAsLong() > properties.getMaxSourceBytes()) {
+                    throw new IllegalArgumentException("Image source too large: " + length.getAsLong() + " bytes");
+                }
+                return readLimited(body, properties.getMaxSourceBytes());
+            }
+        }
+    }
+
+    private static byte[] readLimited(InputStream body, long maxBytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[16 * 1024];
+        long total = 0;
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            total += read;
+            if (total > maxBytes) {
+                throw new IllegalArgumentException("Image source too large: over " + maxBytes + " bytes");
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
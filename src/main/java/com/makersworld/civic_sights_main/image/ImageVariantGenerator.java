@@ -0,0 +1,120 @@
+package com.makersworld.civic_sights_main.image;
+
+import com.makersworld.civic_sights_main.config.ImageProperties;
+import com.makersworld.civic_sights_main.model.ImageVariant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 원본 이미지를 변형별 크기로 줄여 JPEG로 다시 인코딩
+ *
+ * 디코딩 전에 헤더의 가로/세로로 픽셀 수를 검사하며, 원본은 한 번만 디코딩하고 큰 변형부터 차례로 줄여 모든 변형을 만듭니다.
+ * 축소는 목표 폭의 두 배 이하가 될 때까지 절반씩 줄인 뒤 마지막에 맞추는 방식(bilinear 단계 축소)으로
+ * 한 번에 크게 줄일 때 생기는 계단 현상을 줄이며, 원본보다 크게 늘리지 않습니다.
+ * 투명 영역은 흰색 배경으로 채웁니다. (JPEG은 알파 채널이 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+
+    private final ImageProperties properties;
+
+    /**
+     * 모든 변형 생성
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식이거나 픽셀 수 상한 초과
+     */
+    public Map<ImageVariant, byte[]> generate(byte[] source) throws IOException {
+        BufferedImage image = decode(source);
+        Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+        // 큰 변형부터 만들어 다음(더 작은) 변형의 입력으로 사용
+        ImageVariant[] largestFirst = ImageVariant.values().clone();
+        Arrays.sort(largestFirst, Comparator.comparingInt(ImageVariant::getWidth).reversed());
+        for (ImageVariant variant : largestFirst) {
+            image = resize(image, variant.getWidth());
+            variants.put(variant, encode(image));
+        }
+        return variants;
+    }
+
+    private BufferedImage decode(byte[] source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > properties.getMaxSourcePixels()) {
+                    throw new IllegalArgumentException("Image too large: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage current = source;
+        while (current.getWidth() > width * 2) {
+            current = draw(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+        return draw(current, width, height);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(properties.getJpegQuality());
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,43 @@
+package com.makersworld.civic_sights_main.image;
+
+import com.makersworld.civic_sights_main.model.ImageVariant;
+import com.makersworld.civic_sights_main.model.ImageVariants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 목록 응답의 대표 이미지 변형 URL 생성
+ *
+ * 변형 엔드포인트가 실제로 가져올 수 있는 원본(허용 호스트의 http/https URL)에만 URL을 만들어,
+ * 클라이언트가 항상 400이 나는 변형 URL을 받지 않도록 합니다. 검사 규칙은 {@link ImageSourceFetcher#validate}와 같습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageVariantLinks {
+
+    private static final String PATH = "/api/images/";
+
+    private final ImageSourceFetcher fetcher;
+
+    /**
+     * 원본 URL의 변형 URL (원본이 없거나 가져올 수 없는 URL이면 null)
+     */
+    public ImageVariants of(String mainImg) {
+        if (mainImg == null) {
+            return null;
+        }
+        try {
+            fetcher.validate(mainImg);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        String source = "?src=" + URLEncoder.encode(mainImg, StandardCharsets.UTF_8);
+        return new ImageVariants(
+                PATH + ImageVariant.THUMBNAIL.getValue() + source,
+                PATH + ImageVariant.CARD.getValue() + source,
+                PATH + ImageVariant.HERO.getValue() + source);
+    }
+}
@@ -0,0 +1,79 @@
+package com.makersworld.civic_sights_main.image;
+
+import com.makersworld.civic_sights_main.cache.SingleFlight;
+import com.makersworld.civic_sights_main.model.ImageVariant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 대표 이미지 변형 제공
+ *
+ * 처음 요청된 원본만 내려받아 모든 변형을 디스크 캐시에 만들고, 이후에는 캐시 파일을 그대로 사용합니다.
+ * 같은 원본의 동시 요청은 한 번의 다운로드/생성으로 합칩니다. (single-flight)
+ * 별칭이 만료됐거나 변형이 용량 상한으로 제거됐으면 원본을 다시 내려받습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    /**
+     * 응답할 변형 파일 (hash는 원본 내용 해시, ETag에 사용)
+     */
+    public record StoredVariant(String hash, ImageVariant variant, Path path, long size) {
+    }
+
+    private final ImageSourceFetcher fetcher;
+    private final ImageVariantStore store;
+    private final SingleFlight<String, String> loads = new SingleFlight<>();
+
+    /**
+     * 원본 URL의 변형 조회 (캐시에 없으면 원본을 내려받아 생성)
+     *
+     * @throws IllegalArgumentException 허용되지 않은 원본이거나 이미지가 아님
+     * @throws IOException              원본을 가져오지 못함
+     */
+    public StoredVariant variant(String sourceUrl, ImageVariant variant) throws IOException {
+        fetcher.validate(sourceUrl);
+        Optional<String> known = store.lookup(sourceUrl);
+        if (known.isPresent()) {
+            Optional<StoredVariant> stored = stored(known.get(), variant);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+        }
+        String hash;
+        try {
+            hash = loads.execute(sourceUrl, () -> {
+                try {
+                    byte[] source = fetcher.fetch(sourceUrl);
+                    String stored = store.store(sourceUrl, source);
+                    log.info("Generated image variants - source: {}, hash: {}, bytes: {}", sourceUrl, stored, source.length);
+                    return stored;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return stored(hash, variant)
+                .orElseThrow(() -> new IOException("Image variant missing after generation: " + hash + "/" + variant));
+    }
+
+    private Optional<StoredVariant> stored(String hash, ImageVariant variant) throws IOException {
+        Path path = store.path(hash, variant);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        store.touch(hash);
+        return Optional.of(new StoredVariant(hash, variant, path, Files.size(path)));
+    }
+}
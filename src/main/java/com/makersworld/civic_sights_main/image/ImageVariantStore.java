@@ -0,0 +1,279 @@
+package com.makersworld.civic_sights_main.image;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.makersworld.civic_sights_main.config.ImageProperties;
+import com.makersworld.civic_sights_main.model.ImageVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 변형 이미지 디스크 캐시 (내용 주소 방식)
+ *
+ * 변형은 원본 바이트의 SHA-256 해시 디렉터리(variants/ab/abcd.../card.jpg)에 저장되어,
+ * 같은 이미지를 가리키는 여러 URL은 파일을 공유하고 파일 내용은 한 번 쓰면 바뀌지 않습니다.
+ * 원본 URL → 내용 해시는 별칭 파일(sources/ef/efgh...)로 남겨 재시작 후에도 원본을 다시 가져오지 않으며,
+ * 같은 URL의 내용이 바뀔 수 있으므로 별칭은 aliasTimeToLive가 지나면 무시하고 원본을 다시 확인합니다.
+ * 파일은 같은 디렉터리의 임시 파일에 쓴 뒤 이름을 바꿔, 읽는 쪽이 쓰다 만 파일을 보지 않습니다.
+ *
+ * 디스크 사용량이 maxCacheBytes를 넘으면 가장 오래 쓰이지 않은 원본의 변형 디렉터리부터 지웁니다. (LRU)
+ * 사용량은 변형을 쓰고 지울 때 갱신하는 누적값으로 판단하고, 디렉터리 전체 탐색은 처음 한 번과 상한을 넘었을 때만 합니다.
+ * (탐색 결과로 누적값을 다시 맞추므로 동시 쓰기로 생긴 오차도 그때 바로잡힘)
+ * 마지막 사용 시각은 변형 디렉터리의 수정 시각으로 남기며, 같은 원본은 1분에 한 번만 갱신합니다.
+ * 지워진 변형을 가리키는 별칭은 다음 요청 때 원본을 다시 내려받아 채웁니다.
+ */
+@Slf4j
+@Component
+public class ImageVariantStore {
+
+    /** 같은 원본의 사용 시각 갱신 간격 */
+    private static final Duration TOUCH_INTERVAL = Duration.ofMinutes(1);
+
+    private final ImageProperties properties;
+    private final ImageVariantGenerator generator;
+    private final Cache<String, String> aliases;
+    private final Cache<String, Boolean> touched = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(TOUCH_INTERVAL)
+            .build();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong cachedBytes = new AtomicLong();
+    private volatile boolean counted;
+
+    public ImageVariantStore(ImageProperties properties, ImageVariantGenerator generator) {
+        this.properties = properties;
+        this.generator = generator;
+        this.aliases = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(properties.getAliasTimeToLive())
+                .build();
+    }
+
+    /**
+     * 이미 처리한 원본 URL의 내용 해시 (없거나 별칭 유지 시간이 지났으면 empty)
+     */
+    public Optional<String> lookup(String sourceUrl) throws IOException {
+        String cached = aliases.getIfPresent(sourceUrl);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Path alias = aliasPath(sourceUrl);
+        if (!Files.exists(alias)) {
+            return Optional.empty();
+        }
+        Instant expiresAt = Files.getLastModifiedTime(alias).toInstant().plus(properties.getAliasTimeToLive());
+        if (!expiresAt.isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+        String hash = Files.readString(alias, StandardCharsets.US_ASCII).trim();
+        aliases.put(sourceUrl, hash);
+        return Optional.of(hash);
+    }
+
+    /**
+     * 원본의 모든 변형을 저장하고 URL 별칭을 남김 (같은 내용의 변형이 이미 있으면 생성하지 않음)
+     *
+     * @return 원본 내용 해시
+     */
+    public String store(String sourceUrl, byte[] source) throws IOException {
+        String hash = sha256(source);
+        if (!isComplete(hash)) {
+            Map<ImageVariant, byte[]> variants = generator.generate(source);
+            Path directory = variantDirectory(hash);
+            Files.createDirectories(directory);
+            for (Map.Entry<ImageVariant, byte[]> variant : variants.entrySet()) {
+                cachedBytes.addAndGet(writeAtomically(directory.resolve(fileName(variant.getKey())), variant.getValue()));
+            }
+        }
+        Path alias = aliasPath(sourceUrl);
+        Files.createDirectories(alias.getParent());
+        writeAtomically(alias, hash.getBytes(StandardCharsets.US_ASCII));
+        aliases.put(sourceUrl, hash);
+        touch(hash);
+        evictOverQuota(hash);
+        return hash;
+    }
+
+    /**
+     * 원본의 변형이 사용됐음을 기록 (LRU 제거 순서, 같은 원본은 1분에 한 번만 디스크에 반영)
+     */
+    public void touch(String hash) {
+        if (touched.getIfPresent(hash) != null) {
+            return;
+        }
+        touched.put(hash, Boolean.TRUE);
+        try {
+            Files.setLastModifiedTime(variantDirectory(hash), FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            // 제거 순서에만 쓰이므로 실패해도 응답에는 영향 없음
+            log.debug("Failed to record image variant access - hash: {}, cause: {}", hash, e.getMessage());
+        }
+    }
+
+    /**
+     * 변형 파일 경로 (존재 여부는 호출자가 확인)
+     */
+    public Path path(String hash, ImageVariant variant) {
+        return variantDirectory(hash).resolve(fileName(variant));
+    }
+
+    /**
+     * 누적 변형 바이트 수 (마지막 탐색 결과 + 이후 쓰기)
+     */
+    long cachedBytes() {
+        return cachedBytes.get();
+    }
+
+    /**
+     * 디스크 사용량이 상한을 넘으면 오래 쓰이지 않은 원본의 변형부터 제거 (방금 저장한 원본은 남김)
+     * 누적 사용량이 상한 이하면 탐색하지 않고, 다른 요청이 이미 정리 중이면 건너뜀
+     */
+    private void evictOverQuota(String keep) throws IOException {
+        if (counted && cachedBytes.get() <= properties.getMaxCacheBytes()) {
+            return;
+        }
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Path root = properties.getCacheDir().resolve("variants");
+            List<CachedSource> sources = new ArrayList<>();
+            long total = 0;
+            try (Stream<Path> prefixes = Files.list(root)) {
+                for (Path prefix : prefixes.toList()) {
+                    try (Stream<Path> directories = Files.list(prefix)) {
+                        for (Path directory : directories.toList()) {
+                            CachedSource source = new CachedSource(directory,
+                                    Files.getLastModifiedTime(directory).toMillis(), sizeOf(directory));
+                            sources.add(source);
+                            total += source.bytes();
+                        }
+                    }
+                }
+            }
+            if (total <= properties.getMaxCacheBytes()) {
+                cachedBytes.set(total);
+                counted = true;
+                return;
+            }
+            sources.sort(Comparator.comparingLong(CachedSource::lastUsedMillis));
+            for (CachedSource source : sources) {
+                if (total <= properties.getMaxCacheBytes()) {
+                    break;
+                }
+                if (source.directory().getFileName().toString().equals(keep)) {
+                    continue;
+                }
+                deleteDirectory(source.directory());
+                touched.invalidate(source.directory().getFileName().toString());
+                total -= source.bytes();
+            }
+            cachedBytes.set(total);
+            counted = true;
+            log.info("Evicted image variants over quota - remaining bytes: {}, max bytes: {}",
+                    total, properties.getMaxCacheBytes());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private record CachedSource(Path directory, long lastUsedMillis, long bytes) {
+    }
+
+    private static long sizeOf(Path directory) throws IOException {
+        long bytes = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                try {
+                    bytes += Files.size(file);
+                } catch (NoSuchFileException e) {
+                    // 쓰는 중이던 임시 파일이 이름이 바뀜
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    private boolean isComplete(String hash) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!Files.exists(path(hash, variant))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Path variantDirectory(String hash) {
+        return properties.getCacheDir().resolve("variants").resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path aliasPath(String sourceUrl) {
+        String key = sha256(sourceUrl.getBytes(StandardCharsets.UTF_8));
+        return properties.getCacheDir().resolve("sources").resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private static String fileName(ImageVariant variant) {
+        return variant.getValue() + ".jpg";
+    }
+
+    /**
+     * @return 늘어난 바이트 수 (기존 파일을 바꾼 경우 차이)
+     */
+    private static long writeAtomically(Path target, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, content);
+            long replaced = sizeIfExists(target);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return content.length - replaced;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static long sizeIfExists(Path file) throws IOException {
+        try {
+            return Files.size(file);
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
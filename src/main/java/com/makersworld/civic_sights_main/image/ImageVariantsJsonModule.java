@@ -0,0 +1,75 @@
+package com.makersworld.civic_sights_main.image;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 목록 응답의 각 기사에 대표 이미지 변형 URL(images) 필드 추가
+ *
+ * 허용 호스트 설정이 필요해 요약 레코드가 직접 만들지 않고, 애플리케이션 ObjectMapper에 등록되는 이 모듈이
+ * 요약의 기본 직렬화 뒤에 {@link ImageVariantLinks} 결과를 덧붙입니다. (Spring Boot가 Module 빈을 자동 등록)
+ */
+@Component
+public class ImageVariantsJsonModule extends SimpleModule {
+
+    public ImageVariantsJsonModule(ImageVariantLinks links) {
+        super("ImageVariantsJsonModule");
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription description,
+                                                      JsonSerializer<?> serializer) {
+                return description.getBeanClass() == NewsArticleSummary.class
+                        ? new SummarySerializer((JsonSerializer<NewsArticleSummary>) serializer, links)
+                        : serializer;
+            }
+        });
+    }
+
+    /**
+     * 요약의 기본 필드(감싼 직렬화기를 unwrapping으로 사용) + images
+     */
+    private static final class SummarySerializer extends StdSerializer<NewsArticleSummary>
+            implements ResolvableSerializer {
+
+        private final JsonSerializer<NewsArticleSummary> delegate;
+        private final ImageVariantLinks links;
+        private JsonSerializer<NewsArticleSummary> fields;
+
+        private SummarySerializer(JsonSerializer<NewsArticleSummary> delegate, ImageVariantLinks links) {
+            super(NewsArticleSummary.class);
+            this.delegate = delegate;
+            this.links = links;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+            fields = delegate.unwrappingSerializer(NameTransformer.NOP);
+        }
+
+        @Override
+        public void serialize(NewsArticleSummary summary, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(summary);
+            fields.serialize(summary, generator, provider);
+            generator.writePOJOField("images", links.of(summary.mainImg()));
+            generator.writeEndObject();
+        }
+    }
+}
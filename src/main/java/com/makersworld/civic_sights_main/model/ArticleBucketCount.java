@@ -0,0 +1,7 @@
+package com.makersworld.civic_sights_main.model;
+
+/**
+ * (카테고리 × 유료 여부) 버킷별 기사 수
+ */
+public record ArticleBucketCount(Category category, Boolean isPremium, long count) {
+}
@@ -0,0 +1,64 @@
+package com.makersworld.civic_sights_main.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션용 커서
+ *
+ * 마지막으로 내려준 기사의 (createDate, id)를 담으며, 클라이언트에는
+ * Base64URL로 인코딩된 불투명(opaque) 문자열로만 노출합니다.
+ */
+public record ArticleCursor(LocalDateTime createDate, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 기사 기준으로 다음 페이지 커서 생성
+     */
+    public static ArticleCursor of(NewsArticleSummary article) {
+        return new ArticleCursor(article.createDate(), article.id());
+    }
+
+    /**
+     * 커서를 불투명 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = createDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 문자열을 커서로 디코딩
+     * 빈 문자열은 "첫 페이지"를 의미하므로 null을 반환합니다.
+     */
+    public static ArticleCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + encoded);
+            }
+            return new ArticleCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + encoded, e);
+        }
+    }
+
+    /**
+     * 주어진 기사가 이 커서 "이후"(정렬상 뒤쪽)에 위치하는지 여부
+     * 정렬 기준: createDate DESC, id DESC
+     */
+    public boolean precedes(NewsArticle article) {
+        int byDate = article.getCreateDate().compareTo(createDate);
+        return byDate < 0 || (byDate == 0 && article.getId() < id);
+    }
+}
@@ -0,0 +1,142 @@
+package com.makersworld.civic_sights_main.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 기사 부분 수정 요청
+ *
+ * 요청 본문에 들어 있는 필드만 변경 대상(fields)이며, 명시적 null은 nullable 컬럼(mainImg, content)을 비우는 것을 의미합니다.
+ * version이 있으면 해당 버전일 때만 반영하고(낙관적 잠금), 없으면 수정 직전에 읽은 버전을 기준으로 합니다.
+ * PUT(전체 수정)은 모든 필드를 지정한 부분 수정과 같습니다.
+ */
+public record ArticlePatch(Set<Field> fields,
+                           String title,
+                           String mainImg,
+                           String author,
+                           String content,
+                           Category category,
+                           Boolean isPremium,
+                           Long version) {
+
+    /**
+     * 수정 가능한 필드 (JSON 속성 이름, null 허용 여부)
+     */
+    public enum Field {
+        TITLE("title", false),
+        MAIN_IMG("mainImg", true),
+        AUTHOR("author", false),
+        CONTENT("content", true),
+        CATEGORY("category", false),
+        IS_PREMIUM("isPremium", false);
+
+        private final String property;
+        private final boolean nullable;
+
+        Field(String property, boolean nullable) {
+            this.property = property;
+            this.nullable = nullable;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+    }
+
+    public ArticlePatch {
+        fields = fields.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(EnumSet.copyOf(fields));
+    }
+
+    /**
+     * PATCH 요청 본문(JSON 객체)에서 생성
+     * 값 변환은 NewsArticle 역직렬화와 같은 ObjectMapper 규칙을 따르며, 알 수 없는 속성은 무시합니다.
+     *
+     * @throws IllegalArgumentException 객체가 아니거나, 수정할 필드가 없거나, null 불가 필드에 null/잘못된 값이 온 경우
+     */
+    public static ArticlePatch fromJson(JsonNode body, ObjectMapper objectMapper) {
+        if (body == null || !body.isObject()) {
+            throw new IllegalArgumentException("Patch body must be a JSON object");
+        }
+        Set<Field> fields = EnumSet.noneOf(Field.class);
+        for (Field field : Field.values()) {
+            JsonNode value = body.get(field.property);
+            if (value == null) {
+                continue;
+            }
+            if (value.isNull() && !field.nullable) {
+                throw new IllegalArgumentException(field.property + " cannot be null");
+            }
+            fields.add(field);
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("Patch body has no updatable fields");
+        }
+        return new ArticlePatch(fields,
+                read(body, Field.TITLE, String.class, objectMapper),
+                read(body, Field.MAIN_IMG, String.class, objectMapper),
+                read(body, Field.AUTHOR, String.class, objectMapper),
+                read(body, Field.CONTENT, String.class, objectMapper),
+                read(body, Field.CATEGORY, Category.class, objectMapper),
+                read(body, Field.IS_PREMIUM, Boolean.class, objectMapper),
+                body.hasNonNull("version") ? body.get("version").asLong() : null);
+    }
+
+    /**
+     * PUT 요청 본문으로 전체 필드를 바꾸는 수정 생성 (기존 PUT과 같이 누락 필드는 null로 반영)
+     */
+    public static ArticlePatch replacing(NewsArticle article) {
+        return new ArticlePatch(EnumSet.allOf(Field.class),
+                article.getTitle(),
+                article.getMainImg(),
+                article.getAuthor(),
+                article.getContent(),
+                article.getCategory(),
+                article.getIsPremium(),
+                article.getVersion());
+    }
+
+    public boolean has(Field field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * 지정된 필드를 기사에 반영 (버전/수정 시각은 저장 경로에서 갱신)
+     */
+    public void applyTo(NewsArticle article) {
+        if (has(Field.TITLE)) {
+            article.setTitle(title);
+        }
+        if (has(Field.MAIN_IMG)) {
+            article.setMainImg(mainImg);
+        }
+        if (has(Field.AUTHOR)) {
+            article.setAuthor(author);
+        }
+        if (has(Field.CONTENT)) {
+            article.setContent(content);
+        }
+        if (has(Field.CATEGORY)) {
+            article.setCategory(category);
+        }
+        if (has(Field.IS_PREMIUM)) {
+            article.setIsPremium(isPremium);
+        }
+    }
+
+    private static <T> T read(JsonNode body, Field field, Class<T> type, ObjectMapper objectMapper) {
+        JsonNode value = body.get(field.property);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(value, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid " + field.property + ": " + value, e);
+        }
+    }
+}
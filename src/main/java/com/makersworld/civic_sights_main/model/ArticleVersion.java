@@ -0,0 +1,15 @@
+package com.makersworld.civic_sights_main.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 GET 검증용 기사 버전 정보
+ *
+ * 본문(content)을 로딩하지 않고 ETag / Last-Modified 를 계산하기 위한 최소 컬럼만 담습니다.
+ */
+public record ArticleVersion(Long id, LocalDateTime updateDate, Boolean isPremium) {
+
+    public static ArticleVersion of(NewsArticle article) {
+        return new ArticleVersion(article.getId(), article.getUpdateDate(), article.getIsPremium());
+    }
+}
@@ -0,0 +1,13 @@
+package com.makersworld.civic_sights_main.model;
+
+/**
+ * 캐시 적중/미스/제거 통계 스냅샷
+ */
+public record CacheStatistics(
+        long requestCount,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long estimatedSize) {
+}
@@ -0,0 +1,18 @@
+package com.makersworld.civic_sights_main.model;
+
+import java.util.Map;
+
+/**
+ * DB 접근 서킷 브레이커 상태/통계 스냅샷
+ */
+public record CircuitBreakerStatistics(
+        String state,
+        float failureRate,
+        float slowCallRate,
+        int bufferedCalls,
+        int failedCalls,
+        long notPermittedCalls,
+        long staleResponses,
+        long fallbackResponses,
+        Map<String, Long> stateTransitions) {
+}
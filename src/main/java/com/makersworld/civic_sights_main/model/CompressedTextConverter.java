@@ -0,0 +1,115 @@
+package com.makersworld.civic_sights_main.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 본문 압축 저장용 컨버터 (String ↔ 형식 버전 1바이트 + 데이터)
+ *
+ * 0x00: 원문 UTF-8 바이트 (짧거나 압축 이득이 없는 본문)
+ * 0x01: 원문 길이(4바이트, little-endian) + zlib 스트림 - MySQL COMPRESS() 결과와 같은 배치라
+ *       마이그레이션에서 SQL만으로 기존 본문을 변환할 수 있습니다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    static final byte FORMAT_RAW = 0x00;
+    static final byte FORMAT_DEFLATE = 0x01;
+
+    /** 이보다 짧은 본문은 압축하지 않음 (zlib 헤더/길이 필드 오버헤드) */
+    static final int MIN_COMPRESS_BYTES = 256;
+
+    private static final int DEFLATE_HEADER_BYTES = 1 + Integer.BYTES;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= MIN_COMPRESS_BYTES) {
+            byte[] compressed = deflate(raw);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        byte[] stored = new byte[raw.length + 1];
+        stored[0] = FORMAT_RAW;
+        System.arraycopy(raw, 0, stored, 1, raw.length);
+        return stored;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (stored.length == 0) {
+            throw new IllegalArgumentException("Empty content column (missing format byte)");
+        }
+        return switch (stored[0]) {
+            case FORMAT_RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case FORMAT_DEFLATE -> new String(inflate(stored), StandardCharsets.UTF_8);
+            default -> throw new IllegalArgumentException("Unknown content format: " + stored[0]);
+        };
+    }
+
+    // 압축 결과가 원문보다 크거나 같으면 null
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] buffer = new byte[DEFLATE_HEADER_BYTES + raw.length];
+            buffer[0] = FORMAT_DEFLATE;
+            buffer[1] = (byte) raw.length;
+            buffer[2] = (byte) (raw.length >>> 8);
+            buffer[3] = (byte) (raw.length >>> 16);
+            buffer[4] = (byte) (raw.length >>> 24);
+            int length = DEFLATE_HEADER_BYTES;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    return null;
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] stored) {
+        if (stored.length < DEFLATE_HEADER_BYTES) {
+            throw new IllegalArgumentException("Truncated compressed content");
+        }
+        int length = (stored[1] & 0xff)
+                | (stored[2] & 0xff) << 8
+                | (stored[3] & 0xff) << 16
+                | (stored[4] & 0xff) << 24;
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, DEFLATE_HEADER_BYTES, stored.length - DEFLATE_HEADER_BYTES);
+            byte[] raw = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int inflated = inflater.inflate(raw, read, length - read);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IllegalArgumentException("Truncated compressed content");
+                }
+                read += inflated;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt compressed content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
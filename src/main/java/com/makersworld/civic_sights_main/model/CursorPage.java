@@ -0,0 +1,12 @@
+package com.makersworld.civic_sights_main.model;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ *
+ * 페이지 번호/전체 건수 대신 다음 페이지를 요청할 수 있는 nextCursor를 담습니다.
+ * 마지막 페이지인 경우 nextCursor는 null 입니다.
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor, boolean hasNext) {
+}
@@ -0,0 +1,46 @@
+package com.makersworld.civic_sights_main.model;
+
+import java.util.Locale;
+
+/**
+ * 대표 이미지 변형 (가로 폭 기준 축소, 원본보다 크게 늘리지 않음)
+ */
+public enum ImageVariant {
+    THUMBNAIL("thumbnail", 160),
+    CARD("card", 480),
+    HERO("hero", 1280);
+
+    private final String value;
+    private final int width;
+
+    ImageVariant(String value, int width) {
+        this.value = value;
+        this.width = width;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    /**
+     * URL 경로 값으로 변형 조회 ("card" -> CARD)
+     */
+    public static ImageVariant fromValue(String value) {
+        for (ImageVariant variant : values()) {
+            if (variant.value.equals(value.toLowerCase(Locale.ROOT))) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("Invalid image variant: " + value
+                + ". Valid variants are: thumbnail, card, hero");
+    }
+}
@@ -0,0 +1,10 @@
+package com.makersworld.civic_sights_main.model;
+
+/**
+ * 목록 카드용 대표 이미지 변형 URL
+ *
+ * 원본 URL만으로 정해지므로 저장하지 않고 응답 시 만듭니다. (ImageVariantLinks, 허용 호스트의 원본만)
+ * 변형은 첫 요청 때 한 번 생성되어 디스크에 캐시됩니다.
+ */
+public record ImageVariants(String thumbnail, String card, String hero) {
+}
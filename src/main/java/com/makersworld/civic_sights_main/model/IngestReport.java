@@ -0,0 +1,28 @@
+package com.makersworld.civic_sights_main.model;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 결과 (요청 순서대로 항목별 결과 포함)
+ */
+public record IngestReport(int total, int created, int failed, List<ItemResult> items) {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    /**
+     * 항목별 결과 (index는 요청 배열 순서 / NDJSON은 빈 줄을 제외한 순서, 0부터)
+     */
+    public record ItemResult(int index, Status status, Long id, String error) {
+
+        public static ItemResult created(int index, Long id) {
+            return new ItemResult(index, Status.CREATED, id, null);
+        }
+
+        public static ItemResult failed(int index, String error) {
+            return new ItemResult(index, Status.FAILED, null, error);
+        }
+    }
+}
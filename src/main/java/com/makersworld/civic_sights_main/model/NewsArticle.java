@@ -12,17 +12,25 @@ import java.time.LocalDateTime;
 
 /**
  * Model class representing a news article
+ * 인덱스는 Flyway 마이그레이션(db/migration)으로 관리되며, 아래 선언은 실제 스키마와 동일하게 유지합니다.
  */
 @Entity
-@Table(name = "news_articles")
+@Table(name = "news_articles", indexes = {
+        @Index(name = "idx_news_articles_create_date", columnList = "create_date, id"),
+        @Index(name = "idx_news_articles_premium_create_date", columnList = "is_premium, create_date, id"),
+        @Index(name = "idx_news_articles_category_create_date", columnList = "category, create_date, id"),
+        @Index(name = "idx_news_articles_category_premium_create_date", columnList = "category, is_premium, create_date, id")
+})
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class NewsArticle {
     
+    // 풀링 시퀀스(MySQL에서는 news_articles_seq 테이블)로 ID를 50개씩 미리 할당받아 INSERT를 JDBC 배치로 묶을 수 있도록 함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_articles_seq")
+    @SequenceGenerator(name = "news_articles_seq", sequenceName = "news_articles_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -42,7 +50,8 @@ public class NewsArticle {
     @Column(name = "update_date", nullable = false)
     private LocalDateTime updateDate;
     
-    @Column(columnDefinition = "TEXT")
+    // 본문은 news_article_contents 테이블에 압축 저장 (ArticleContentStore가 필요한 경우에만 읽고 씀)
+    @Transient
     private String content; // Text content of the article
     
     @Enumerated(EnumType.STRING)
@@ -52,4 +61,9 @@ public class NewsArticle {
     @Builder.Default
     @Column(name = "is_premium", nullable = false)
     private Boolean isPremium = false;
+    
+    // 낙관적 잠금 버전 (수정 요청에 함께 보내면 그 버전일 때만 반영, 다르면 409 Conflict)
+    @Version
+    @Column(nullable = false)
+    private Long version;
 } 
\ No newline at end of file
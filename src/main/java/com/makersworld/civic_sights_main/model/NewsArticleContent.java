@@ -0,0 +1,53 @@
+package com.makersworld.civic_sights_main.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 기사 본문 (news_article_contents, 기사 ID를 그대로 기본 키로 사용)
+ *
+ * 본문은 메타데이터 행과 분리해 압축 저장하며, 상세 조회/색인 구성처럼 본문이 필요한 경로에서만 읽습니다.
+ * ID가 미리 정해진 엔티티라 Persistable로 신규 여부를 알려 저장 시 불필요한 SELECT(merge) 없이 INSERT 합니다.
+ */
+@Entity
+@Table(name = "news_article_contents")
+@Getter
+@Setter
+@NoArgsConstructor
+public class NewsArticleContent implements Persistable<Long> {
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private String body;
+
+    @Transient
+    private boolean persisted;
+
+    public NewsArticleContent(Long articleId, String body) {
+        this.articleId = articleId;
+        this.body = body;
+    }
+
+    @Override
+    public Long getId() {
+        return articleId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.makersworld.civic_sights_main.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 목록용 요약 프로젝션
+ *
+ * 목록 화면에 필요한 컬럼만 담으며, TEXT 타입의 content 컬럼은 조회하지 않습니다.
+ * 본문은 상세 조회(/{id}, /free/{id}, /premium/{id})에서만 로딩합니다.
+ * 응답에는 mainImg의 축소 변형 URL(images)이 함께 나갑니다. (ImageVariantsJsonModule)
+ */
+public record NewsArticleSummary(
+        Long id,
+        String title,
+        String mainImg,
+        String author,
+        LocalDateTime createDate,
+        LocalDateTime updateDate,
+        Category category,
+        Boolean isPremium) {
+
+    /**
+     * 엔티티를 요약 프로젝션으로 변환 (메모리 폴백 데이터용)
+     */
+    public static NewsArticleSummary from(NewsArticle article) {
+        return new NewsArticleSummary(
+                article.getId(),
+                article.getTitle(),
+                article.getMainImg(),
+                article.getAuthor(),
+                article.getCreateDate(),
+                article.getUpdateDate(),
+                article.getCategory(),
+                article.getIsPremium());
+    }
+}
@@ -0,0 +1,31 @@
+package com.makersworld.civic_sights_main.outbox;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 기사 변경 메시지 브로커
+ *
+ * 모든 노드가 구독하며, 발행된 메시지는 발행한 노드를 포함한 전체 구독자에게 전달되어야 합니다.
+ * 전달은 최소 한 번(at-least-once)이면 충분합니다. (수신 측은 DB의 현재 상태로 반영하므로 중복에 안전)
+ * 기본 구현은 프로세스 내 브로커이며, 외부 브로커는 app.outbox.broker 값으로 선택하는 빈으로 추가합니다.
+ */
+public interface ArticleChangeBroker {
+
+    /**
+     * 메시지 발행 (반환 전에 브로커가 수락해야 하며, 실패하면 예외 - 릴레이가 다음 주기에 다시 발행)
+     */
+    void publish(List<ArticleChangeMessage> messages);
+
+    /**
+     * 메시지 구독 (배치 단위 전달)
+     */
+    void subscribe(Consumer<List<ArticleChangeMessage>> subscriber);
+
+    /**
+     * 같은 프로세스의 구독자에게만 전달하는지 (다른 노드에는 전달되지 않으므로 단일 노드에서만 사용 가능)
+     */
+    default boolean isProcessLocal() {
+        return false;
+    }
+}
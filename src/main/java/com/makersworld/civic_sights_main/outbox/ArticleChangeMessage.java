@@ -0,0 +1,14 @@
+package com.makersworld.civic_sights_main.outbox;
+
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent.ChangeType;
+
+/**
+ * 노드 간에 전달되는 기사 변경 메시지 (아웃박스 한 행)
+ *
+ * 변경 후 상태는 담지 않으며, 수신 노드가 DB에서 현재 상태를 읽어 반영합니다.
+ * previous는 목록 버킷/카운터 갱신에 필요한 변경 전 상태입니다. (생성 시 null)
+ */
+public record ArticleChangeMessage(long sequence, String origin, ChangeType type, Long articleId,
+                                   NewsArticleSummary previous) {
+}
@@ -0,0 +1,79 @@
+package com.makersworld.civic_sights_main.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.makersworld.civic_sights_main.config.OutboxProperties;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent.ChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기사 변경 아웃박스 기록
+ *
+ * 기사 쓰기와 같은 트랜잭션에서 호출해야 하며, 쓰기가 롤백되면 아웃박스 행도 함께 롤백됩니다.
+ * (JdbcTemplate은 JpaTransactionManager가 트랜잭션에 묶어 둔 같은 커넥션을 사용)
+ * 발행은 커밋 후 {@link ArticleChangeRelay}가 담당합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleChangeOutbox {
+
+    private static final String INSERT =
+            "INSERT INTO article_change_outbox (origin, change_type, article_id, previous, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+
+    /**
+     * 단건 변경 기록
+     */
+    public void append(ArticleChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        requireTransaction();
+        jdbcTemplate.update(INSERT, properties.getNodeId(), event.type().name(), event.articleId(),
+                toJson(event.previous()), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 일괄 등록 기록 (JDBC 배치 INSERT 한 번)
+     */
+    public void appendCreated(List<NewsArticle> articles) {
+        if (!properties.isEnabled() || articles.isEmpty()) {
+            return;
+        }
+        requireTransaction();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT, articles.stream()
+                .map(article -> new Object[]{properties.getNodeId(), ChangeType.CREATED.name(), article.getId(), null, now})
+                .toList());
+    }
+
+    private static void requireTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Article change outbox must be written inside the article write transaction");
+        }
+    }
+
+    private String toJson(NewsArticleSummary previous) {
+        if (previous == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(previous);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox entry for article " + previous.id(), e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.makersworld.civic_sights_main.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.makersworld.civic_sights_main.config.OutboxProperties;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent.ChangeType;
+import com.makersworld.civic_sights_main.service.ArticleDataAccessGuard;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * 커밋된 아웃박스 행을 id 순으로 읽어 선점(claimed_until 기록)하고 커밋한 뒤, 트랜잭션 밖에서 브로커에 발행하고 삭제합니다.
+ * 브로커를 기다리는 동안 행 잠금이나 커넥션을 잡고 있지 않습니다.
+ * 발행이 실패하면 선점을 풀어 다음 주기에 다시 발행하고, 발행 후 삭제 전에 노드가 죽으면
+ * 선점 기한이 지난 뒤 다른 노드가 다시 발행합니다. (최소 한 번 전달)
+ * 모든 노드에서 실행되며, FOR UPDATE SKIP LOCKED와 선점 기한으로 다른 노드가 발행 중인 행은 건너뜁니다.
+ * 다른 노드에 전달하지 못하는 프로세스 내 브로커로는 단일 노드로 명시한 경우에만 기동합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleChangeRelay {
+
+    private static final String SELECT_PENDING =
+            "SELECT id, origin, change_type, article_id, previous FROM article_change_outbox " +
+            "WHERE claimed_until IS NULL OR claimed_until < ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM = "UPDATE article_change_outbox SET claimed_until = ? WHERE id = ?";
+
+    private static final String RELEASE = "UPDATE article_change_outbox SET claimed_until = NULL WHERE id = ?";
+
+    private static final String DELETE = "DELETE FROM article_change_outbox WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleChangeBroker broker;
+    private final ArticleDataAccessGuard dataAccessGuard;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+
+    /**
+     * 프로세스 내 브로커로 여러 노드를 운영하지 않도록 기동 시 확인
+     * (다른 노드에 전달되지 않은 행을 삭제하면 그 노드들의 캐시가 복구되지 않음)
+     */
+    @PostConstruct
+    void requireBrokerReachingAllNodes() {
+        if (properties.isEnabled() && broker.isProcessLocal() && !properties.isSingleNode()) {
+            throw new IllegalStateException("Outbox broker '" + properties.getBroker() + "' only delivers within this process; "
+                    + "set app.outbox.single-node=true for a single-node deployment or configure a broker that reaches every node");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval:200ms}")
+    public void relay() {
+        if (!properties.isEnabled() || dataAccessGuard.isOpen()) {
+            return;
+        }
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == properties.getRelayBatchSize());
+        } catch (Exception e) {
+            log.warn("Article change relay failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    int relayBatch() {
+        // 잠금 트랜잭션은 선점까지만 (쓰기 트랜잭션이므로 primary에서 잠금 조회)
+        List<ArticleChangeMessage> messages = transactionTemplate.execute(status -> claimBatch());
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> ids = messages.stream().map(message -> new Object[]{message.sequence()}).toList();
+        try {
+            broker.publish(messages);
+        } catch (RuntimeException e) {
+            // 선점 기한을 기다리지 않고 다음 주기에 다시 발행 (해제도 실패하면 기한 후 발행)
+            try {
+                jdbcTemplate.batchUpdate(RELEASE, ids);
+            } catch (RuntimeException releaseFailure) {
+                e.addSuppressed(releaseFailure);
+            }
+            throw e;
+        }
+        jdbcTemplate.batchUpdate(DELETE, ids);
+        return messages.size();
+    }
+
+    private List<ArticleChangeMessage> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ArticleChangeMessage> messages = jdbcTemplate.query(SELECT_PENDING,
+                (rs, rowNum) -> toMessage(rs), Timestamp.valueOf(now), properties.getRelayBatchSize());
+        if (!messages.isEmpty()) {
+            Timestamp claimedUntil = Timestamp.valueOf(now.plus(properties.getRelayClaimLease()));
+            jdbcTemplate.batchUpdate(CLAIM, messages.stream()
+                    .map(message -> new Object[]{claimedUntil, message.sequence()})
+                    .toList());
+        }
+        return messages;
+    }
+
+    private ArticleChangeMessage toMessage(ResultSet rs) throws SQLException {
+        String previous = rs.getString("previous");
+        try {
+            return new ArticleChangeMessage(
+                    rs.getLong("id"),
+                    rs.getString("origin"),
+                    ChangeType.valueOf(rs.getString("change_type")),
+                    rs.getLong("article_id"),
+                    previous == null ? null : objectMapper.readValue(previous, NewsArticleSummary.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed outbox entry " + rs.getLong("id"), e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.makersworld.civic_sights_main.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내 브로커 (기본값, 단일 노드 및 테스트용)
+ *
+ * 발행 스레드에서 구독자에게 바로 전달합니다. 테스트에서는 인스턴스 하나를 여러 노드 구성에 공유해
+ * 다중 노드 전달을 흉내 낼 수 있습니다. 한 구독자의 실패는 다른 구독자나 발행에 영향을 주지 않습니다.
+ * 다른 노드에는 전달되지 않으므로 app.outbox.single-node=true일 때만 릴레이가 기동됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.broker", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryArticleChangeBroker implements ArticleChangeBroker {
+
+    private final List<Consumer<List<ArticleChangeMessage>>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<ArticleChangeMessage> messages) {
+        for (Consumer<List<ArticleChangeMessage>> subscriber : subscribers) {
+            try {
+                subscriber.accept(messages);
+            } catch (RuntimeException e) {
+                log.warn("Article change subscriber failed - messages: {}, cause: {}", messages.size(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<ArticleChangeMessage>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public boolean isProcessLocal() {
+        return true;
+    }
+}
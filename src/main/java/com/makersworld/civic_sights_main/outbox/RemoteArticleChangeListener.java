@@ -0,0 +1,116 @@
+package com.makersworld.civic_sights_main.outbox;
+
+import com.makersworld.civic_sights_main.config.OutboxProperties;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.repository.NewsArticleRepository;
+import com.makersworld.civic_sights_main.service.ArticleCache;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent.ChangeType;
+import com.makersworld.civic_sights_main.service.ArticleContentStore;
+import com.makersworld.civic_sights_main.service.ArticleDataAccessGuard;
+import com.makersworld.civic_sights_main.service.ArticlesCreatedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.makersworld.civic_sights_main.service.ArticleDataAccessGuard.key;
+
+/**
+ * 다른 노드에서 일어난 기사 변경을 이 노드의 파생 데이터(캐시, 스냅샷, 색인, 카운터)에 반영
+ *
+ * 메시지를 로컬 {@link ArticleChangedEvent} / {@link ArticlesCreatedEvent}로 바꿔 발행하므로,
+ * 기존 구독자는 로컬 변경과 같은 방식으로 갱신됩니다. 생성/수정된 기사는 primary에서 현재 상태를 읽어
+ * (복제 지연으로 이전 상태를 다시 캐시하지 않도록) 사용하며, 그 사이 삭제된 기사는 뒤따르는 삭제 메시지로 처리됩니다.
+ * 이 노드가 기록한 메시지는 이미 반영했으므로 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RemoteArticleChangeListener {
+
+    private final ArticleChangeBroker broker;
+    private final NewsArticleRepository newsArticleRepository;
+    private final ArticleContentStore contentStore;
+    private final ArticleCache articleCache;
+    private final ArticleDataAccessGuard dataAccessGuard;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxProperties properties;
+
+    @PostConstruct
+    void subscribe() {
+        broker.subscribe(this::apply);
+    }
+
+    void apply(List<ArticleChangeMessage> messages) {
+        List<ArticleChangeMessage> remote = messages.stream()
+                .filter(message -> !properties.getNodeId().equals(message.origin()))
+                .toList();
+        if (remote.isEmpty()) {
+            return;
+        }
+
+        Map<Long, NewsArticle> current;
+        try {
+            current = load(remote);
+        } catch (RuntimeException e) {
+            // 현재 상태를 읽지 못하면 최소한 상세 캐시는 비워 다음 조회가 DB에서 읽도록 함
+            log.warn("Failed to load remotely changed articles, evicting only - messages: {}, cause: {}",
+                    remote.size(), e.getMessage());
+            remote.forEach(message -> evict(message.articleId()));
+            return;
+        }
+
+        List<NewsArticle> created = new ArrayList<>();
+        for (ArticleChangeMessage message : remote) {
+            NewsArticle article = current.get(message.articleId());
+            switch (message.type()) {
+                case CREATED -> {
+                    if (article != null) {
+                        created.add(article);
+                    }
+                }
+                case UPDATED -> {
+                    if (article != null) {
+                        eventPublisher.publishEvent(ArticleChangedEvent.updated(message.previous(), article));
+                    } else {
+                        evict(message.articleId());
+                    }
+                }
+                case DELETED -> eventPublisher.publishEvent(ArticleChangedEvent.deleted(message.previous()));
+            }
+        }
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(new ArticlesCreatedEvent(created));
+        }
+    }
+
+    private Map<Long, NewsArticle> load(List<ArticleChangeMessage> messages) {
+        List<Long> ids = messages.stream()
+                .filter(message -> message.type() != ChangeType.DELETED)
+                .map(ArticleChangeMessage::articleId)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        // 읽기 전용이 아닌 트랜잭션 → primary
+        List<NewsArticle> articles = transactionTemplate.execute(
+                status -> contentStore.attachAll(newsArticleRepository.findAllById(ids)));
+        return articles.stream().collect(Collectors.toMap(NewsArticle::getId, Function.identity()));
+    }
+
+    private void evict(Long articleId) {
+        articleCache.evict(articleId);
+        dataAccessGuard.forget(key("article", articleId), key("version", articleId));
+    }
+}
@@ -0,0 +1,11 @@
+package com.makersworld.civic_sights_main.repository;
+
+import com.makersworld.civic_sights_main.model.NewsArticleContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@Transactional(readOnly = true)
+public interface NewsArticleContentRepository extends JpaRepository<NewsArticleContent, Long> {
+}
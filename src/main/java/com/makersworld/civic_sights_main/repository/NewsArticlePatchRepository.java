@@ -0,0 +1,31 @@
+package com.makersworld.civic_sights_main.repository;
+
+import com.makersworld.civic_sights_main.model.ArticlePatch;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+
+import java.util.Optional;
+
+/**
+ * 기사 부분 수정 (NewsArticleRepository 커스텀 프래그먼트)
+ *
+ * 엔티티 merge/변경 감지 대신 지정된 컬럼만 바꾸는 UPDATE 한 문장으로 수정하며,
+ * WHERE 절의 version 조건으로 동시 수정을 감지합니다.
+ */
+public interface NewsArticlePatchRepository {
+
+    /**
+     * 수정 결과 (변경 전 요약, 수정 후 기사 - 본문은 채우지 않음)
+     */
+    record Patched(NewsArticleSummary previous, NewsArticle article) {
+    }
+
+    /**
+     * 기사 부분 수정 (기사가 없으면 empty)
+     * 호출자의 쓰기 트랜잭션 안에서 실행해야 하며, 본문(content)은 ArticleContentStore로 따로 저장합니다.
+     *
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException
+     *         요청 버전이 현재 버전과 다르거나, 읽은 뒤 다른 수정이 먼저 커밋된 경우
+     */
+    Optional<Patched> patch(Long id, ArticlePatch patch);
+}
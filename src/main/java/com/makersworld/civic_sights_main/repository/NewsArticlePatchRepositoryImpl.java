@@ -0,0 +1,93 @@
+package com.makersworld.civic_sights_main.repository;
+
+import com.makersworld.civic_sights_main.model.ArticlePatch;
+import com.makersworld.civic_sights_main.model.ArticlePatch.Field;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * 부분 수정 구현
+ *
+ * 1. 기본 키로 기사를 읽고 영속성 컨텍스트에서 분리 (변경 감지로 전체 컬럼 UPDATE가 나가지 않도록)
+ * 2. "UPDATE ... SET 지정 컬럼, version = version + 1, update_date = ? WHERE id = ? AND version = ?" 실행
+ * 3. 같은 변경을 분리된 기사에 적용해 수정 후 상태를 만듦 (재조회 없음)
+ *
+ * 변경 전 상태는 목록 버킷/카운터 보정 이벤트에 필요하므로 1번 조회는 생략하지 않습니다.
+ */
+@Transactional
+class NewsArticlePatchRepositoryImpl implements NewsArticlePatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Patched> patch(Long id, ArticlePatch patch) {
+        NewsArticle article = entityManager.find(NewsArticle.class, id);
+        if (article == null) {
+            return Optional.empty();
+        }
+        entityManager.detach(article);
+        if (patch.version() != null && !patch.version().equals(article.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(NewsArticle.class, id);
+        }
+        NewsArticleSummary previous = NewsArticleSummary.from(article);
+        Long expectedVersion = article.getVersion();
+        // DATETIME(6)과 같은 정밀도로 잘라 메모리 상태와 저장 값(ETag 계산 기준)을 일치시킴
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<NewsArticle> update = cb.createCriteriaUpdate(NewsArticle.class);
+        Root<NewsArticle> root = update.from(NewsArticle.class);
+        if (patch.has(Field.TITLE)) {
+            set(update, cb, root.get("title"), patch.title(), String.class);
+        }
+        if (patch.has(Field.MAIN_IMG)) {
+            set(update, cb, root.get("mainImg"), patch.mainImg(), String.class);
+        }
+        if (patch.has(Field.AUTHOR)) {
+            set(update, cb, root.get("author"), patch.author(), String.class);
+        }
+        if (patch.has(Field.CATEGORY)) {
+            set(update, cb, root.get("category"), patch.category(), Category.class);
+        }
+        if (patch.has(Field.IS_PREMIUM)) {
+            set(update, cb, root.get("isPremium"), patch.isPremium(), Boolean.class);
+        }
+        // 본문만 바뀌어도 버전/수정 시각은 올림 (ETag, 캐시 검증 기준)
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.set(root.<LocalDateTime>get("updateDate"), now);
+        update.where(cb.equal(root.get("id"), id), cb.equal(root.get("version"), expectedVersion));
+
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            // 읽은 뒤 다른 수정이 먼저 커밋됨 (또는 삭제됨)
+            throw new ObjectOptimisticLockingFailureException(NewsArticle.class, id);
+        }
+        patch.applyTo(article);
+        article.setVersion(expectedVersion + 1);
+        article.setUpdateDate(now);
+        return Optional.of(new Patched(previous, article));
+    }
+
+    // null 값은 바인딩 타입을 추론할 수 없으므로 NULL 리터럴로 지정
+    private static <Y> void set(CriteriaUpdate<NewsArticle> update, CriteriaBuilder cb,
+                                Path<Y> path, Y value, Class<Y> type) {
+        if (value == null) {
+            update.set(path, cb.nullLiteral(type));
+        } else {
+            update.set(path, value);
+        }
+    }
+}
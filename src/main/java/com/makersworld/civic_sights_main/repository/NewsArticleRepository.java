@@ -1,52 +1,108 @@
 package com.makersworld.civic_sights_main.repository;
 
+import com.makersworld.civic_sights_main.model.ArticleBucketCount;
+import com.makersworld.civic_sights_main.model.ArticleVersion;
 import com.makersworld.civic_sights_main.model.Category;
 import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+// 선언한 조회 메서드는 읽기 전용 트랜잭션 (복제본 라우팅, 변경 감지 스냅샷 없음) - save/delete 등은 SimpleJpaRepository 설정을 따름
+// 부분 수정(patch)은 NewsArticlePatchRepositoryImpl 의 쓰기 트랜잭션 설정을 따름
 @Repository
-public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long> {
+@Transactional(readOnly = true)
+public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>, NewsArticlePatchRepository {
+    
+    // 목록 조회는 모두 NewsArticleSummary 프로젝션을 사용 (TEXT 타입 content 컬럼 미조회)
+    String SUMMARY_SELECT = "SELECT new com.makersworld.civic_sights_main.model.NewsArticleSummary(" +
+            "n.id, n.title, n.mainImg, n.author, n.createDate, n.updateDate, n.category, n.isPremium) " +
+            "FROM NewsArticle n ";
+    
+    // 목록 페이지는 Slice로 조회 (size+1 건 조회로 다음 페이지 여부만 판단, COUNT 쿼리 없음)
+    // 전체 건수는 ArticleCounterRegistry 가 메모리에서 제공
+    // 정렬은 첫 페이지 스냅샷/키셋/장애 저장소와 같은 (createDate DESC, id DESC) - 같은 등록 시각의 기사가 페이지 사이에서 중복/누락되지 않음
     
     // Find all articles ordered by creation date descending (페이지네이션)
-    Page<NewsArticle> findAllByOrderByCreateDateDesc(Pageable pageable);
+    Slice<NewsArticleSummary> findSliceByOrderByCreateDateDescIdDesc(Pageable pageable);
     
     // Find premium articles (페이지네이션)
-    Page<NewsArticle> findByIsPremiumTrueOrderByCreateDateDesc(Pageable pageable);
+    Slice<NewsArticleSummary> findSliceByIsPremiumTrueOrderByCreateDateDescIdDesc(Pageable pageable);
     
     // Find free articles (페이지네이션)
-    Page<NewsArticle> findByIsPremiumFalseOrderByCreateDateDesc(Pageable pageable);
+    Slice<NewsArticleSummary> findSliceByIsPremiumFalseOrderByCreateDateDescIdDesc(Pageable pageable);
     
     // Find articles by category (페이지네이션)
-    Page<NewsArticle> findByCategoryOrderByCreateDateDesc(Category category, Pageable pageable);
+    Slice<NewsArticleSummary> findSliceByCategoryOrderByCreateDateDescIdDesc(Category category, Pageable pageable);
     
     // Find articles by category and premium status (페이지네이션)
-    Page<NewsArticle> findByCategoryAndIsPremiumOrderByCreateDateDesc(
+    Slice<NewsArticleSummary> findSliceByCategoryAndIsPremiumOrderByCreateDateDescIdDesc(
             Category category, Boolean isPremium, Pageable pageable);
     
+    // 키셋(seek) 페이지네이션 - 첫 페이지 (COUNT 쿼리 없음, Pageable은 LIMIT 용도로만 사용)
+    List<NewsArticleSummary> findAllByOrderByCreateDateDescIdDesc(Pageable pageable);
+    
+    List<NewsArticleSummary> findByIsPremiumOrderByCreateDateDescIdDesc(Boolean isPremium, Pageable pageable);
+    
+    List<NewsArticleSummary> findByCategoryOrderByCreateDateDescIdDesc(Category category, Pageable pageable);
+    
+    // 키셋(seek) 페이지네이션 - 커서 이후 페이지 (OFFSET 없이 (createDate, id) 기준으로 탐색)
+    @Query(SUMMARY_SELECT + "WHERE " +
+           "n.createDate < :createDate OR (n.createDate = :createDate AND n.id < :id) " +
+           "ORDER BY n.createDate DESC, n.id DESC")
+    List<NewsArticleSummary> findAllAfter(@Param("createDate") LocalDateTime createDate,
+                                          @Param("id") Long id, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE n.isPremium = :isPremium AND " +
+           "(n.createDate < :createDate OR (n.createDate = :createDate AND n.id < :id)) " +
+           "ORDER BY n.createDate DESC, n.id DESC")
+    List<NewsArticleSummary> findByIsPremiumAfter(@Param("isPremium") Boolean isPremium,
+                                                  @Param("createDate") LocalDateTime createDate,
+                                                  @Param("id") Long id, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE n.category = :category AND " +
+           "(n.createDate < :createDate OR (n.createDate = :createDate AND n.id < :id)) " +
+           "ORDER BY n.createDate DESC, n.id DESC")
+    List<NewsArticleSummary> findByCategoryAfter(@Param("category") Category category,
+                                                 @Param("createDate") LocalDateTime createDate,
+                                                 @Param("id") Long id, Pageable pageable);
+    
     // Find articles by premium status and ID
     Optional<NewsArticle> findByIdAndIsPremiumFalse(Long id);
     Optional<NewsArticle> findByIdAndIsPremiumTrue(Long id);
     
-    // Search articles by title or content (페이지네이션)
-    @Query("SELECT n FROM NewsArticle n WHERE " +
-           "LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "ORDER BY n.createDate DESC")
-    Page<NewsArticle> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    // 조건부 GET 검증용 버전 정보 (본문 미조회)
+    @Query("SELECT new com.makersworld.civic_sights_main.model.ArticleVersion(n.id, n.updateDate, n.isPremium) " +
+           "FROM NewsArticle n WHERE n.id = :id")
+    Optional<ArticleVersion> findVersionById(@Param("id") Long id);
+    
+    // 검색 색인 구성용 전체 순회 (id 기준 키셋, 본문은 ArticleContentStore로 별도 조회)
+    List<NewsArticle> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
     
     // Find articles by author (페이지네이션)
-    Page<NewsArticle> findByAuthorContainingIgnoreCaseOrderByCreateDateDesc(String author, Pageable pageable);
+    Page<NewsArticleSummary> findByAuthorContainingIgnoreCaseOrderByCreateDateDesc(String author, Pageable pageable);
     
     // Count by premium status
     long countByIsPremium(Boolean isPremium);
     
     // Count by category
     long countByCategory(Category category);
+    
+    // Count by category and premium status
+    long countByCategoryAndIsPremium(Category category, Boolean isPremium);
+    
+    // 카운터 레지스트리 초기화/보정용 (카테고리 × 유료 여부) 버킷별 건수를 한 번에 조회
+    @Query("SELECT new com.makersworld.civic_sights_main.model.ArticleBucketCount(n.category, n.isPremium, COUNT(n)) " +
+           "FROM NewsArticle n GROUP BY n.category, n.isPremium")
+    List<ArticleBucketCount> countGroupedByCategoryAndIsPremium();
 } 
\ No newline at end of file
@@ -0,0 +1,271 @@
+package com.makersworld.civic_sights_main.search;
+
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.repository.NewsArticleRepository;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent;
+import com.makersworld.civic_sights_main.service.ArticleContentStore;
+import com.makersworld.civic_sights_main.service.ArticlesCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 기사 제목/본문 역색인 (in-memory inverted index)
+ *
+ * 기동 시 전체 기사를 id 순으로 읽어 색인을 구성하고, 이후에는 기사 변경 이벤트로 증분 갱신합니다.
+ * 검색은 모든 질의 토큰을 포함하는 기사만 대상으로 하며(AND), BM25 방식 점수로 정렬합니다.
+ */
+@Slf4j
+@Component
+public class ArticleSearchIndex {
+
+    // 제목에 등장한 토큰은 본문보다 가중치를 높게 부여
+    private static final int TITLE_WEIGHT = 3;
+
+    // BM25 tf 포화 계수
+    private static final double K1 = 1.2;
+
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    // 점수 내림차순, 동점이면 최신 기사 우선
+    private static final Comparator<ScoredArticle> BY_RELEVANCE = Comparator
+            .comparingDouble(ScoredArticle::score).reversed()
+            .thenComparing(hit -> hit.summary().createDate(), Comparator.reverseOrder())
+            .thenComparing(hit -> hit.summary().id(), Comparator.reverseOrder());
+
+    /**
+     * 기사 하나에 대한 토큰 등장 빈도
+     */
+    private static final class Posting {
+        private int titleFrequency;
+        private int contentFrequency;
+
+        private double weightedFrequency() {
+            return TITLE_WEIGHT * titleFrequency + contentFrequency;
+        }
+    }
+
+    private record IndexedArticle(NewsArticleSummary summary, Set<String> terms) {
+    }
+
+    private record ScoredArticle(NewsArticleSummary summary, double score) {
+    }
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final ArticleContentStore contentStore;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Posting>> postings = new HashMap<>();
+    private final Map<Long, IndexedArticle> articles = new HashMap<>();
+
+    // 초기 색인 구성 상태 (구성 중 삭제된 기사가 다시 색인되지 않도록 추적)
+    private final AtomicBoolean building = new AtomicBoolean();
+    private final Set<Long> deletedWhileBuilding = ConcurrentHashMap.newKeySet();
+    private volatile boolean built;
+
+    public ArticleSearchIndex(NewsArticleRepository newsArticleRepository, ArticleContentStore contentStore) {
+        this.newsArticleRepository = newsArticleRepository;
+        this.contentStore = contentStore;
+    }
+
+    /**
+     * 키워드 검색 (페이지네이션)
+     */
+    public Page<NewsArticleSummary> search(String query, Pageable pageable) {
+        List<String> terms = BigramTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        List<ScoredArticle> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Posting>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Posting> posting = postings.get(term);
+                if (posting == null) {
+                    return new PageImpl<>(List.of(), pageable, 0);
+                }
+                termPostings.add(posting);
+            }
+            // 가장 희소한 토큰의 문서 목록부터 교집합 계산
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = articles.size();
+            for (Long id : termPostings.get(0).keySet()) {
+                double score = 0;
+                boolean matchesAll = true;
+                for (Map<Long, Posting> posting : termPostings) {
+                    Posting frequency = posting.get(id);
+                    if (frequency == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    double tf = frequency.weightedFrequency();
+                    score += idf * (tf * (K1 + 1)) / (tf + K1);
+                }
+                if (matchesAll) {
+                    hits.add(new ScoredArticle(articles.get(id).summary(), score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(BY_RELEVANCE);
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<NewsArticleSummary> content = hits.subList(from, to).stream()
+                .map(ScoredArticle::summary)
+                .toList();
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    /**
+     * 기사 색인 (이미 색인된 기사는 교체, 더 최신 버전이 색인되어 있으면 무시)
+     */
+    public void index(NewsArticle article) {
+        Map<String, Posting> frequencies = new HashMap<>();
+        for (String term : BigramTokenizer.tokenizeForIndex(article.getTitle())) {
+            frequencies.computeIfAbsent(term, key -> new Posting()).titleFrequency++;
+        }
+        for (String term : BigramTokenizer.tokenizeForIndex(article.getContent())) {
+            frequencies.computeIfAbsent(term, key -> new Posting()).contentFrequency++;
+        }
+        NewsArticleSummary summary = NewsArticleSummary.from(article);
+        Long id = summary.id();
+
+        lock.writeLock().lock();
+        try {
+            IndexedArticle existing = articles.get(id);
+            if (existing != null && isNewer(existing.summary(), summary)) {
+                return;
+            }
+            removeLocked(id);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+            articles.put(id, new IndexedArticle(summary, Set.copyOf(frequencies.keySet())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기사 색인 제거
+     */
+    public void remove(Long id) {
+        if (building.get()) {
+            deletedWhileBuilding.add(id);
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기사 변경 시 증분 색인
+     */
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.article() != null) {
+            index(event.article());
+        } else {
+            remove(event.articleId());
+        }
+    }
+
+    /**
+     * 일괄 등록된 기사 색인
+     */
+    @EventListener
+    public void onArticlesCreated(ArticlesCreatedEvent event) {
+        event.articles().forEach(this::index);
+    }
+
+    /**
+     * 기동 완료 시 전체 기사 색인 (id 기준 키셋 조회로 배치 단위 적재)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!building.compareAndSet(false, true)) {
+            return;
+        }
+        deletedWhileBuilding.clear();
+        try {
+            long lastId = 0;
+            int indexed = 0;
+            List<NewsArticle> batch;
+            do {
+                batch = contentStore.attachAll(
+                        newsArticleRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BUILD_BATCH_SIZE)));
+                for (NewsArticle article : batch) {
+                    if (!deletedWhileBuilding.contains(article.getId())) {
+                        index(article);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+                indexed += batch.size();
+            } while (batch.size() == BUILD_BATCH_SIZE);
+            built = true;
+            log.info("Search index built - articles: {}", indexed);
+        } catch (Exception e) {
+            log.warn("Search index build failed, will retry: {}", e.getMessage());
+        } finally {
+            building.set(false);
+        }
+    }
+
+    /**
+     * 초기 색인 구성에 실패한 경우 주기적 재시도
+     */
+    @Scheduled(fixedDelayString = "${app.search.rebuild-retry-interval:60s}")
+    public void retryBuild() {
+        if (!built) {
+            build();
+        }
+    }
+
+    private void removeLocked(Long id) {
+        IndexedArticle removed = articles.remove(id);
+        if (removed == null) {
+            return;
+        }
+        for (String term : removed.terms()) {
+            Map<Long, Posting> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static boolean isNewer(NewsArticleSummary indexed, NewsArticleSummary candidate) {
+        return indexed.updateDate() != null && candidate.updateDate() != null
+                && indexed.updateDate().isAfter(candidate.updateDate());
+    }
+}
@@ -0,0 +1,94 @@
+package com.makersworld.civic_sights_main.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ *
+ * 한글/한자/가나처럼 띄어쓰기와 형태소 경계가 불분명한 문자열은 글자 단위 바이그램으로,
+ * 그 외(영문/숫자)는 소문자 단어 단위로 토큰을 만듭니다.
+ * 예) "기본소득 Policy" -> [기본, 본소, 소득, policy]
+ * 색인에는 글자 하나(유니그램)도 함께 넣어, 한 글자 질의("법")가 단어 안("헌법")에서도 찾아지도록 합니다.
+ * (질의는 바이그램만 사용하므로 두 글자 이상 질의의 정확도는 그대로)
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 질의 텍스트를 토큰 목록으로 분해 (중복 포함, 등장 순서 유지)
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    /**
+     * 색인할 텍스트를 토큰 목록으로 분해 (CJK 구간은 바이그램 뒤에 글자별 유니그램 추가)
+     */
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean withUnigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int index = 0;
+        while (index < length) {
+            int codePoint = text.codePointAt(index);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                index += Character.charCount(codePoint);
+                continue;
+            }
+
+            // 같은 종류(CJK / 그 외)의 문자가 이어지는 구간을 하나의 run 으로 처리
+            boolean cjk = isCjk(codePoint);
+            int start = index;
+            while (index < length) {
+                int current = text.codePointAt(index);
+                if (!Character.isLetterOrDigit(current) || isCjk(current) != cjk) {
+                    break;
+                }
+                index += Character.charCount(current);
+            }
+
+            String run = text.substring(start, index).toLowerCase(Locale.ROOT);
+            if (cjk) {
+                addBigrams(run, tokens, withUnigrams);
+            } else {
+                tokens.add(run);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String run, List<String> tokens, boolean withUnigrams) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+        if (withUnigrams) {
+            for (int codePoint : codePoints) {
+                tokens.add(Character.toString(codePoint));
+            }
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
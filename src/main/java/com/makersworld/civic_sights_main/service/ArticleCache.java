@@ -0,0 +1,281 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.makersworld.civic_sights_main.cache.RemoteCache;
+import com.makersworld.civic_sights_main.cache.SingleFlight;
+import com.makersworld.civic_sights_main.config.ArticleCacheProperties;
+import com.makersworld.civic_sights_main.config.RemoteCacheProperties;
+import com.makersworld.civic_sights_main.model.CacheStatistics;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 기사 상세 조회용 2계층 캐시 (read-through)
+ *
+ * 노드 캐시(프로세스 내, 최대 크기 + TTL) 앞단과 모든 노드가 공유하는 원격 키-값 계층({@link RemoteCache})으로 구성됩니다.
+ * 노드 캐시 미스는 원격 계층 → DB 순으로 채우며, 같은 기사의 동시 미스는 노드당 한 번의 적재로 합칩니다. (single-flight)
+ * refreshAfter보다 오래된 항목은 응답은 그대로 하고 백그라운드에서 DB에서 다시 읽어, 자주 읽히는 기사는 만료되지 않습니다.
+ *
+ * 기사 변경 이벤트를 받아 노드 캐시는 갱신/무효화하고 원격 계층은 변경된 버전으로 무효화합니다.
+ * (변경은 아웃박스를 통해 모든 노드에 전달되므로 멱등인 무효화로 충분하며, 다음 미스가 현재 상태로 다시 채움)
+ * 두 계층 모두 @Version 기준으로 더 오래된 기사를 적재하지 않으며, 삭제된 기사는 잠시 삭제 표시로 남겨
+ * 변경 전에 시작된 적재가 끝나면서 이전 상태를 다시 채우거나 삭제된 기사를 되살리지 않도록 합니다.
+ * 캐시의 기사는 변경 가능한 엔티티이므로 적재/조회 시 복사본을 주고받습니다.
+ * 원격 계층 장애는 미스로 취급하고, 원격 계층을 쓰지 않으면(app.cache.remote.type=none) 노드 캐시만 사용합니다.
+ */
+@Slf4j
+@Component
+public class ArticleCache implements MeterBinder {
+
+    private static final String KEY_PREFIX = "article:";
+
+    /**
+     * 노드 캐시 항목 (article이 null이면 삭제 표시, 적재 시각은 미리 갱신 판단용)
+     */
+    private record Entry(NewsArticle article, long version, long loadedAtNanos) {
+
+        boolean deleted() {
+            return article == null;
+        }
+    }
+
+    private final Cache<Long, Entry> near;
+    private final RemoteCache remote;
+    private final ObjectMapper objectMapper;
+    private final Executor refreshExecutor;
+    private final long refreshAfterNanos;
+    private final Duration remoteTimeToLive;
+    private final SingleFlight<Long, Optional<NewsArticle>> loads = new SingleFlight<>();
+
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    @Autowired
+    public ArticleCache(ArticleCacheProperties properties, RemoteCacheProperties remoteProperties,
+                        ObjectProvider<RemoteCache> remote, ObjectMapper objectMapper,
+                        @Qualifier("applicationTaskExecutor") Executor refreshExecutor) {
+        this(properties, remoteProperties, remote.getIfAvailable(), objectMapper, refreshExecutor);
+    }
+
+    /**
+     * @param remote 원격 계층 (null이면 노드 캐시만 사용)
+     */
+    public ArticleCache(ArticleCacheProperties properties, RemoteCacheProperties remoteProperties, RemoteCache remote,
+                        ObjectMapper objectMapper, Executor refreshExecutor) {
+        Duration timeToLive = properties.getTimeToLive();
+        Duration tombstoneTimeToLive = properties.getTombstoneTimeToLive();
+        this.near = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(Expiry.<Long, Entry>writing(
+                        (id, entry) -> entry.deleted() ? tombstoneTimeToLive : timeToLive))
+                .recordStats()
+                .build();
+        this.remote = remote;
+        this.objectMapper = objectMapper;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshAfterNanos = properties.getRefreshAfter().toNanos();
+        this.remoteTimeToLive = remoteProperties.getTimeToLive();
+    }
+
+    /**
+     * 노드 캐시에 있는 기사 조회 (없으면 empty, 원격 계층/DB는 조회하지 않음)
+     */
+    public Optional<NewsArticle> get(Long id) {
+        Entry entry = near.getIfPresent(id);
+        return entry != null && !entry.deleted() ? Optional.of(copyOf(entry.article())) : Optional.empty();
+    }
+
+    /**
+     * 기사 조회 (노드 캐시 → 원격 계층 → loader)
+     *
+     * @param loader DB 조회 (DB에서 읽은 기사는 loader가 {@link #put}으로 적재하며, 장애 시 대체 응답은 적재하지 않음)
+     */
+    public Optional<NewsArticle> get(Long id, Supplier<Optional<NewsArticle>> loader) {
+        Entry entry = near.getIfPresent(id);
+        if (entry != null) {
+            // 방금 삭제된 기사 (DB도 조회하지 않음)
+            if (entry.deleted()) {
+                return Optional.empty();
+            }
+            if (System.nanoTime() - entry.loadedAtNanos() >= refreshAfterNanos
+                    && loads.executeAsync(id, loader, refreshExecutor)) {
+                refreshes.increment();
+            }
+            return Optional.of(copyOf(entry.article()));
+        }
+        // 합쳐진 호출자들이 같은 인스턴스를 공유하지 않도록 호출자마다 복사
+        return loads.execute(id, () -> {
+            // 직전에 끝난 같은 기사의 적재가 이미 채웠으면 그대로 사용
+            Entry loaded = near.policy().getIfPresentQuietly(id);
+            if (loaded != null) {
+                return Optional.ofNullable(loaded.article());
+            }
+            NewsArticle shared = remoteGet(id);
+            if (shared != null) {
+                putNear(shared);
+                return Optional.of(shared);
+            }
+            return loader.get();
+        }).map(ArticleCache::copyOf);
+    }
+
+    /**
+     * DB에서 읽은 기사를 노드 캐시와 원격 계층에 적재 (노드 캐시에 더 새 버전이나 삭제 표시가 있으면 무시)
+     */
+    public void put(NewsArticle article) {
+        if (article != null && article.getId() != null && putNear(article)) {
+            remotePut(article);
+        }
+    }
+
+    /**
+     * 노드 캐시의 기사 무효화 (현재 상태를 읽지 못해 갱신 대신 지울 때)
+     * 공유 원격 계층은 변경한 노드가 버전과 함께 무효화하므로 건드리지 않고 (버전 없이 지우면 이전 버전 적재를 막지 못함),
+     * 이 프로세스만 채우는 원격 계층은 함께 지움 (남겨 두면 다음 노드 캐시 미스가 이전 값으로 다시 채워짐)
+     */
+    public void evict(Long id) {
+        near.invalidate(id);
+        if (remote != null && remote.isProcessLocal()) {
+            remote.remove(KEY_PREFIX + id);
+        }
+    }
+
+    /**
+     * 기사 변경 시 노드 캐시 갱신 (write-through), 삭제는 삭제 표시로 교체,
+     * 원격 계층은 변경된 버전보다 낮은 적재를 막도록 무효화 (삭제는 모든 버전)
+     */
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        long minimumVersion;
+        if (event.article() != null) {
+            putNear(event.article());
+            minimumVersion = versionOf(event.article());
+        } else {
+            near.put(event.articleId(), new Entry(null, Long.MAX_VALUE, System.nanoTime()));
+            minimumVersion = Long.MAX_VALUE;
+        }
+        remoteInvalidate(event.articleId(), minimumVersion);
+    }
+
+    /**
+     * 노드 캐시 적중/미스/제거 통계
+     */
+    public CacheStatistics statistics() {
+        CacheStats stats = near.stats();
+        return new CacheStatistics(
+                stats.requestCount(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                near.estimatedSize());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        remoteCounter(registry, "hit", remoteHits);
+        remoteCounter(registry, "miss", remoteMisses);
+        remoteCounter(registry, "error", remoteErrors);
+        FunctionCounter.builder("articles.cache.loads", loads, SingleFlight::coalescedCount)
+                .description("Article cache loads coalesced into an in-flight load or refreshed ahead of expiry")
+                .tag("mode", "coalesced")
+                .register(registry);
+        FunctionCounter.builder("articles.cache.loads", refreshes, LongAdder::sum)
+                .description("Article cache loads coalesced into an in-flight load or refreshed ahead of expiry")
+                .tag("mode", "refresh")
+                .register(registry);
+    }
+
+    private static void remoteCounter(MeterRegistry registry, String result, LongAdder count) {
+        FunctionCounter.builder("articles.cache.remote", count, LongAdder::sum)
+                .description("Shared article cache tier lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * 노드 캐시에 복사본 적재 (저장된 항목보다 버전이 낮거나 삭제 표시가 있으면 거부)
+     *
+     * @return 적재했으면 true
+     */
+    private boolean putNear(NewsArticle article) {
+        long version = versionOf(article);
+        Entry candidate = new Entry(copyOf(article), version, System.nanoTime());
+        Entry stored = near.asMap().compute(article.getId(),
+                (id, current) -> current == null || version >= current.version() ? candidate : current);
+        return stored == candidate;
+    }
+
+    private static long versionOf(NewsArticle article) {
+        return article.getVersion() != null ? article.getVersion() : 0L;
+    }
+
+    private static NewsArticle copyOf(NewsArticle article) {
+        return article.toBuilder().build();
+    }
+
+    private NewsArticle remoteGet(Long id) {
+        if (remote == null) {
+            return null;
+        }
+        try {
+            byte[] value = remote.get(KEY_PREFIX + id);
+            if (value == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            remoteHits.increment();
+            return objectMapper.readValue(value, NewsArticle.class);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Remote article cache read failed - id: {}, cause: {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    private void remotePut(NewsArticle article) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.put(KEY_PREFIX + article.getId(), versionOf(article), objectMapper.writeValueAsBytes(article),
+                    remoteTimeToLive);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Remote article cache write failed - id: {}, cause: {}", article.getId(), e.getMessage());
+        }
+    }
+
+    private void remoteInvalidate(Long id, long minimumVersion) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            // 표시는 적재된 값과 같은 TTL 동안 유지 (그보다 오래 걸린 적재는 이미 다른 이유로 오래된 값)
+            remote.invalidate(KEY_PREFIX + id, minimumVersion, remoteTimeToLive);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Remote article cache invalidate failed - id: {}, cause: {}", id, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+
+/**
+ * 기사 생성/수정/삭제 이벤트
+ *
+ * NewsArticleService의 쓰기 작업이 끝난 뒤 발행되며, 캐시 등 파생 데이터가 이를 구독해 갱신합니다.
+ * article은 변경 후 상태(삭제 시 null), previous는 변경 전 상태(생성 시 null)입니다.
+ */
+public record ArticleChangedEvent(ChangeType type, Long articleId, NewsArticle article, NewsArticleSummary previous) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static ArticleChangedEvent created(NewsArticle article) {
+        return new ArticleChangedEvent(ChangeType.CREATED, article.getId(), article, null);
+    }
+
+    public static ArticleChangedEvent updated(NewsArticleSummary previous, NewsArticle article) {
+        return new ArticleChangedEvent(ChangeType.UPDATED, article.getId(), article, previous);
+    }
+
+    public static ArticleChangedEvent deleted(NewsArticleSummary previous) {
+        return new ArticleChangedEvent(ChangeType.DELETED, previous.id(), null, previous);
+    }
+}
@@ -0,0 +1,80 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleContent;
+import com.makersworld.civic_sights_main.repository.NewsArticleContentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 기사 본문 읽기/쓰기
+ *
+ * NewsArticle.content는 저장되지 않는(@Transient) 필드이며, 본문은 news_article_contents에 압축 저장됩니다.
+ * 본문이 필요한 경로(상세 조회, 색인 구성)는 attach로 채우고, 쓰기 경로는 기사 저장과 같은 트랜잭션에서 save를 호출합니다.
+ * 기사 삭제 시 본문은 외래 키(ON DELETE CASCADE)로 함께 삭제됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleContentStore {
+
+    private final NewsArticleContentRepository contentRepository;
+
+    /**
+     * 기사에 본문 채우기 (본문이 없으면 null)
+     */
+    public NewsArticle attach(NewsArticle article) {
+        article.setContent(contentRepository.findById(article.getId())
+                .map(NewsArticleContent::getBody)
+                .orElse(null));
+        return article;
+    }
+
+    /**
+     * 여러 기사에 본문 채우기 (IN 조회 한 번)
+     */
+    public List<NewsArticle> attachAll(List<NewsArticle> articles) {
+        if (articles.isEmpty()) {
+            return articles;
+        }
+        Map<Long, String> bodies = contentRepository.findAllById(articles.stream().map(NewsArticle::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(NewsArticleContent::getArticleId, NewsArticleContent::getBody));
+        articles.forEach(article -> article.setContent(bodies.get(article.getId())));
+        return articles;
+    }
+
+    /**
+     * 새로 등록한 기사들의 본문 저장 (기존 행 조회 없이 INSERT, JDBC 배치 대상)
+     */
+    public void insertAll(List<NewsArticle> articles) {
+        contentRepository.saveAll(articles.stream()
+                .filter(article -> article.getContent() != null)
+                .map(article -> new NewsArticleContent(article.getId(), article.getContent()))
+                .toList());
+    }
+
+    /**
+     * 수정한 기사의 본문 저장 (바뀐 경우에만 갱신, null이면 삭제)
+     */
+    public void update(NewsArticle article) {
+        Optional<NewsArticleContent> existing = contentRepository.findById(article.getId());
+        if (article.getContent() == null) {
+            existing.ifPresent(contentRepository::delete);
+            return;
+        }
+        if (existing.isPresent()) {
+            if (!Objects.equals(existing.get().getBody(), article.getContent())) {
+                existing.get().setBody(article.getContent());
+                contentRepository.save(existing.get());
+            }
+            return;
+        }
+        contentRepository.save(new NewsArticleContent(article.getId(), article.getContent()));
+    }
+}
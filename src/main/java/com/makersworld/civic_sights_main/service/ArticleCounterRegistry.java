@@ -0,0 +1,159 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.makersworld.civic_sights_main.model.ArticleBucketCount;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.repository.NewsArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * (카테고리 × 유료 여부) 버킷별 기사 수 카운터
+ *
+ * 목록 응답의 전체 건수를 매 요청 COUNT(*) 대신 메모리에서 제공합니다. 기동 시 GROUP BY 한 번으로 초기화하고,
+ * 이후에는 기사 변경 이벤트로 버킷 증감을 원자적으로 반영하며, 주기적으로 DB 건수와 맞춰 보정합니다.
+ * 전체/카테고리별/유료 여부별 건수는 최대 6개 버킷의 합으로 계산합니다.
+ *
+ * 증감은 누적값(adjustments)으로만 기록하고, 보정 시에는 "조회 직전 누적값"과 DB 건수를 한 쌍(Baseline)으로 교체하므로
+ * 보정 쿼리와 동시에 일어난 쓰기도 잃어버리지 않습니다. (쿼리 직전에 커밋된 쓰기의 이벤트가 늦게 도착하면
+ * 다음 보정까지 ±1 오차가 생길 수 있음)
+ */
+@Slf4j
+@Component
+public class ArticleCounterRegistry {
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final boolean[] PREMIUM_STATES = {false, true};
+
+    /**
+     * DB 건수와 그 조회 직전의 누적 증감값
+     */
+    private record Baseline(long[] counts, long[] adjustmentsAtQuery) {
+    }
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 버킷별 누적 증감 (초기화하지 않고 계속 누적)
+    private final AtomicLongArray adjustments = new AtomicLongArray(CATEGORIES.length * PREMIUM_STATES.length);
+
+    // 초기화 전에는 null (건수 미제공)
+    private volatile Baseline baseline;
+
+    public ArticleCounterRegistry(NewsArticleRepository newsArticleRepository, TransactionTemplate transactionTemplate) {
+        this.newsArticleRepository = newsArticleRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 버킷 건수 조회 (category / isPremium 이 null 이면 "전체"), 초기화 전이면 empty
+     */
+    public OptionalLong total(Category category, Boolean isPremium) {
+        Baseline current = baseline;
+        if (current == null) {
+            return OptionalLong.empty();
+        }
+        long total = 0;
+        for (Category candidate : CATEGORIES) {
+            if (category != null && candidate != category) {
+                continue;
+            }
+            for (boolean premium : PREMIUM_STATES) {
+                if (isPremium != null && premium != isPremium) {
+                    continue;
+                }
+                int slot = slot(candidate, premium);
+                total += current.counts()[slot] + adjustments.get(slot) - current.adjustmentsAtQuery()[slot];
+            }
+        }
+        return OptionalLong.of(Math.max(total, 0));
+    }
+
+    /**
+     * 기동 완료 시 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * DB 건수로 보정 (실패하면 기존 값을 유지하고 다음 주기에 재시도)
+     */
+    @Scheduled(initialDelayString = "${app.counters.reconcile-interval:5m}",
+               fixedDelayString = "${app.counters.reconcile-interval:5m}")
+    public void reconcile() {
+        long[] before = new long[adjustments.length()];
+        for (int slot = 0; slot < before.length; slot++) {
+            before[slot] = adjustments.get(slot);
+        }
+
+        List<ArticleBucketCount> rows;
+        try {
+            // 복제 지연된 건수로 보정하지 않도록 primary에서 조회 (읽기 전용이 아닌 트랜잭션은 primary로 라우팅)
+            rows = transactionTemplate.execute(status -> newsArticleRepository.countGroupedByCategoryAndIsPremium());
+        } catch (Exception e) {
+            log.warn("Article counter reconcile failed - cause: {}", e.getMessage());
+            return;
+        }
+
+        long[] counts = new long[before.length];
+        for (ArticleBucketCount row : rows) {
+            counts[slot(row.category(), row.isPremium())] = row.count();
+        }
+
+        Baseline previous = baseline;
+        if (previous != null) {
+            for (int slot = 0; slot < counts.length; slot++) {
+                long expected = previous.counts()[slot] + before[slot] - previous.adjustmentsAtQuery()[slot];
+                if (expected != counts[slot]) {
+                    log.warn("Article counter drift corrected - bucket: {}/{}, counter: {}, database: {}",
+                            CATEGORIES[slot / PREMIUM_STATES.length], slot % PREMIUM_STATES.length == 1,
+                            expected, counts[slot]);
+                }
+            }
+        }
+        baseline = new Baseline(counts, before);
+    }
+
+    /**
+     * 기사 생성/수정/삭제 시 변경 전 버킷 감소, 변경 후 버킷 증가
+     */
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.previous() != null && event.article() != null
+                && event.previous().category() == event.article().getCategory()
+                && Objects.equals(event.previous().isPremium(), event.article().getIsPremium())) {
+            return;
+        }
+        if (event.previous() != null) {
+            adjustments.decrementAndGet(slot(event.previous().category(), event.previous().isPremium()));
+        }
+        if (event.article() != null) {
+            adjustments.incrementAndGet(slot(event.article().getCategory(), event.article().getIsPremium()));
+        }
+    }
+
+    /**
+     * 일괄 등록 시 버킷별 증가
+     */
+    @EventListener
+    public void onArticlesCreated(ArticlesCreatedEvent event) {
+        for (NewsArticle article : event.articles()) {
+            adjustments.incrementAndGet(slot(article.getCategory(), article.getIsPremium()));
+        }
+    }
+
+    private static int slot(Category category, Boolean isPremium) {
+        return category.ordinal() * PREMIUM_STATES.length + (Boolean.TRUE.equals(isPremium) ? 1 : 0);
+    }
+}
@@ -0,0 +1,209 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.makersworld.civic_sights_main.config.DataAccessGuardProperties;
+import com.makersworld.civic_sights_main.model.CircuitBreakerStatistics;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * DB 접근 서킷 브레이커
+ *
+ * 저장소 호출을 resilience4j 서킷 브레이커(closed/open/half-open)로 감싸,
+ * DB 장애 시 요청마다 커넥션 획득 타임아웃을 기다리지 않고 즉시 대체 응답을 돌려줍니다.
+ * 대체 응답은 같은 조회의 마지막 정상 응답(last known good)이 우선이며, 없으면 호출자의 fallback을 사용합니다.
+ * 대체 응답은 DB 장애(서킷 브레이커 record-exceptions와 같은 예외)와 open 상태에서만 사용하며,
+ * 제약 조건 위반 같은 요청 자체의 오류는 그대로 호출자에게 전달합니다.
+ * half-open 상태에서는 설정된 수(기본 1건)의 탐침 호출만 DB로 보냅니다.
+ * 조회 키가 있는 호출(조회)은 읽기 전용 트랜잭션에서 실행되어 복제본으로 라우팅되고 변경 감지 스냅샷을 만들지 않습니다.
+ * 대체 응답 건수는 articles.data_access.degraded{response=stale|fallback} 메트릭으로도 노출합니다.
+ */
+@Slf4j
+@Component
+public class ArticleDataAccessGuard implements MeterBinder {
+
+    private final CircuitBreaker circuitBreaker;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<Object, Object> lastKnownGood;
+
+    private final Map<String, LongAdder> stateTransitions = new ConcurrentHashMap<>();
+    private final LongAdder staleResponses = new LongAdder();
+    private final LongAdder fallbackResponses = new LongAdder();
+
+    public ArticleDataAccessGuard(CircuitBreakerRegistry circuitBreakerRegistry, DataAccessGuardProperties properties,
+                                  PlatformTransactionManager transactionManager) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(properties.getCircuitBreakerName());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.lastKnownGood = Caffeine.newBuilder()
+                .maximumSize(properties.getStaleMaximumSize())
+                .build();
+        this.circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            stateTransitions.computeIfAbsent(event.getStateTransition().name(), name -> new LongAdder()).increment();
+            log.warn("Data access circuit breaker '{}' {} -> {}", event.getCircuitBreakerName(),
+                    event.getStateTransition().getFromState(), event.getStateTransition().getToState());
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        degradedCounter(registry, "stale", staleResponses);
+        degradedCounter(registry, "fallback", fallbackResponses);
+    }
+
+    private static void degradedCounter(MeterRegistry registry, String response, LongAdder count) {
+        FunctionCounter.builder("articles.data_access.degraded", count, LongAdder::sum)
+                .description("Responses served from last known good data (stale) or the degraded store (fallback)")
+                .tag("response", response)
+                .register(registry);
+    }
+
+    /**
+     * 조회 키 생성 (구성 요소별 equals 비교, null 허용)
+     */
+    public static Object key(Object... parts) {
+        return Arrays.asList(parts);
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 query 실행
+     *
+     * @param key      마지막 정상 응답을 보관할 조회 키 (쓰기 작업 등 보관하지 않을 경우 null)
+     * @param query    DB 조회(key가 있으면 읽기 전용 트랜잭션에서 실행)/쓰기
+     * @param fallback 마지막 정상 응답이 없을 때 사용할 대체 응답
+     */
+    public <T> T execute(Object key, Supplier<T> query, Supplier<T> fallback) {
+        try {
+            T result = key != null
+                    ? circuitBreaker.executeSupplier(() -> readOnlyTransaction.execute(status -> query.get()))
+                    : circuitBreaker.executeSupplier(query);
+            if (key != null && result != null) {
+                lastKnownGood.put(key, result);
+            }
+            return result;
+        } catch (CallNotPermittedException e) {
+            // open 상태: DB에 접근하지 않고 즉시 대체 응답
+            return degraded(key, fallback);
+        } catch (OptimisticLockingFailureException e) {
+            // 동시 수정 충돌은 장애가 아니므로 대체 응답 없이 호출자에게 전달 (409 Conflict)
+            throw e;
+        } catch (DataAccessResourceFailureException | TransientDataAccessException | CannotCreateTransactionException e) {
+            // DB 장애만 대체 응답 (그 외 예외는 요청 오류이므로 그대로 전달)
+            log.warn("Data access failed, serving degraded response - state: {}, cause: {}",
+                    circuitBreaker.getState(), e.getMessage());
+            return degraded(key, fallback);
+        }
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 쓰기 실행 (DB에 반영되지 않은 것이 확실할 때만 fallback)
+     *
+     * open 상태이거나 커넥션을 얻지 못했으면(트랜잭션 시작 실패, 풀 획득 타임아웃) fallback을 사용하고,
+     * 그 외 DB 오류(교착 상태, 잠금 대기/쿼리 타임아웃, 커밋 중 연결 끊김 등)는 DB가 살아 있거나 커밋 여부를 알 수 없으므로
+     * 대체 저장 없이 {@link DatabaseUnavailableException}으로 전달합니다. (503, 대체 저장 후 복구 시 중복 적재 방지)
+     */
+    public <T> T executeWrite(Supplier<T> write, Supplier<T> fallback) {
+        try {
+            return circuitBreaker.executeSupplier(write);
+        } catch (CallNotPermittedException e) {
+            return degraded(null, fallback);
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
+        } catch (DataAccessResourceFailureException | TransientDataAccessException | CannotCreateTransactionException e) {
+            if (!isConnectionUnavailable(e)) {
+                log.warn("Data access failed during write, outcome unknown - cause: {}", e.getMessage());
+                throw new DatabaseUnavailableException("Database write failed; retry later");
+            }
+            log.warn("No database connection for write, serving degraded response - state: {}, cause: {}",
+                    circuitBreaker.getState(), e.getMessage());
+            return degraded(null, fallback);
+        }
+    }
+
+    // 커넥션을 얻지 못해 SQL이 실행되지 않은 실패인지 (Hikari 풀 획득 타임아웃은 SQLTransientConnectionException)
+    private static boolean isConnectionUnavailable(Throwable failure) {
+        if (failure instanceof CannotCreateTransactionException || failure instanceof CannotGetJdbcConnectionException) {
+            return true;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 query 실행 (대체 응답 없이 실패를 그대로 전달)
+     * 실패 원인을 호출자가 구분해야 하는 일괄 쓰기 등에 사용하며, open 상태에서는 즉시 CallNotPermittedException이 발생합니다.
+     */
+    public <T> T call(Supplier<T> query) {
+        return circuitBreaker.executeSupplier(query);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T degraded(Object key, Supplier<T> fallback) {
+        T stale = key != null ? (T) lastKnownGood.getIfPresent(key) : null;
+        if (stale != null) {
+            staleResponses.increment();
+            return stale;
+        }
+        fallbackResponses.increment();
+        return fallback.get();
+    }
+
+    /**
+     * 보관 중인 마지막 정상 응답 폐기
+     */
+    public void forget(Object... keys) {
+        lastKnownGood.invalidateAll(Arrays.asList(keys));
+    }
+
+    /**
+     * DB를 사용할 수 없는 상태(open)인지 여부
+     */
+    public boolean isOpen() {
+        return circuitBreaker.getState() == CircuitBreaker.State.OPEN;
+    }
+
+    /**
+     * 상태/실패율/상태 전이 횟수 통계
+     */
+    public CircuitBreakerStatistics statistics() {
+        CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+        Map<String, Long> transitions = new TreeMap<>();
+        stateTransitions.forEach((transition, count) -> transitions.put(transition, count.sum()));
+        return new CircuitBreakerStatistics(
+                circuitBreaker.getState().name(),
+                metrics.getFailureRate(),
+                metrics.getSlowCallRate(),
+                metrics.getNumberOfBufferedCalls(),
+                metrics.getNumberOfFailedCalls(),
+                metrics.getNumberOfNotPermittedCalls(),
+                staleResponses.sum(),
+                fallbackResponses.sum(),
+                transitions);
+    }
+}
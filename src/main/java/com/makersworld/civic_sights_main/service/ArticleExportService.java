@@ -0,0 +1,142 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.makersworld.civic_sights_main.config.ExportProperties;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.CompressedTextConverter;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전체 기사 NDJSON 내보내기
+ *
+ * 전진 전용(forward-only) JDBC 커서로 행을 읽는 즉시 한 줄씩 응답 스트림에 씁니다.
+ * 결과 목록이나 Page를 만들지 않으므로 아카이브 크기와 관계없이 메모리 사용량이 일정합니다.
+ * 정렬은 (create_date, id) 오름차순이라 기존 복합 인덱스를 그대로 탑니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleExportService {
+
+    // 본문은 별도 테이블(압축 저장)에서 조인, 형식 변환은 엔티티와 같은 컨버터로 수행
+    private static final String SELECT_ARTICLES =
+            "SELECT a.id, a.title, a.main_img, a.author, a.create_date, a.update_date, c.body, a.category, a.is_premium " +
+            "FROM news_articles a LEFT JOIN news_article_contents c ON c.article_id = a.id";
+
+    private static final CompressedTextConverter BODY_CONVERTER = new CompressedTextConverter();
+
+    /**
+     * 내보내기 조건 (null인 항목은 조건 없음, 기간은 [from, to))
+     */
+    public record ExportFilter(Category category, Boolean isPremium, LocalDateTime from, LocalDateTime to) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties properties;
+    private final ArticleDataAccessGuard dataAccessGuard;
+
+    /**
+     * 내보내기 시작 가능 여부 (서킷 브레이커가 열려 있으면 응답을 시작하기 전에 거절)
+     * 내보내기는 수 분 걸릴 수 있어 서킷 브레이커의 느린 호출 통계에는 포함하지 않습니다.
+     */
+    public boolean isAvailable() {
+        return !dataAccessGuard.isOpen();
+    }
+
+    /**
+     * 조건에 맞는 기사를 NDJSON으로 출력하고 출력한 기사 수를 반환 (읽기 전용 트랜잭션 - 복제본이 있으면 복제본에서 조회)
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFilter filter, OutputStream out) throws IOException {
+        List<Object> params = new ArrayList<>(4);
+        String sql = buildQuery(filter, params);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            long[] written = {0};
+            jdbcTemplate.query(
+                    connection -> {
+                        PreparedStatement statement = connection.prepareStatement(
+                                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                        statement.setFetchSize(properties.getFetchSize());
+                        for (int i = 0; i < params.size(); i++) {
+                            statement.setObject(i + 1, params.get(i));
+                        }
+                        return statement;
+                    },
+                    resultSet -> {
+                        try {
+                            objectMapper.writeValue(generator, mapRow(resultSet));
+                            generator.writeRaw('\n');
+                            if (++written[0] % properties.getFlushEvery() == 0) {
+                                generator.flush();
+                            }
+                        } catch (IOException e) {
+                            // 클라이언트 연결 종료 등 - 커서를 닫고 중단
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            log.info("Exported {} articles - filter: {}", written[0], filter);
+            return written[0];
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String buildQuery(ExportFilter filter, List<Object> params) {
+        StringBuilder sql = new StringBuilder(SELECT_ARTICLES);
+        List<String> conditions = new ArrayList<>(4);
+        if (filter.category() != null) {
+            conditions.add("a.category = ?");
+            params.add(filter.category().name());
+        }
+        if (filter.isPremium() != null) {
+            conditions.add("a.is_premium = ?");
+            params.add(filter.isPremium());
+        }
+        if (filter.from() != null) {
+            conditions.add("a.create_date >= ?");
+            params.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            conditions.add("a.create_date < ?");
+            params.add(Timestamp.valueOf(filter.to()));
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        return sql.append(" ORDER BY a.create_date, a.id").toString();
+    }
+
+    private static NewsArticle mapRow(ResultSet resultSet) throws SQLException {
+        return NewsArticle.builder()
+                .id(resultSet.getLong("id"))
+                .title(resultSet.getString("title"))
+                .mainImg(resultSet.getString("main_img"))
+                .author(resultSet.getString("author"))
+                .createDate(resultSet.getObject("create_date", LocalDateTime.class))
+                .updateDate(resultSet.getObject("update_date", LocalDateTime.class))
+                .content(BODY_CONVERTER.convertToEntityAttribute(resultSet.getBytes("body")))
+                .category(Category.valueOf(resultSet.getString("category")))
+                .isPremium(resultSet.getBoolean("is_premium"))
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.makersworld.civic_sights_main.config.IngestProperties;
+import com.makersworld.civic_sights_main.model.IngestReport;
+import com.makersworld.civic_sights_main.model.IngestReport.ItemResult;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.outbox.ArticleChangeOutbox;
+import com.makersworld.civic_sights_main.repository.NewsArticleRepository;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 기사 일괄 등록
+ *
+ * 유효한 기사를 app.ingest.batch-size 단위 청크로 나눠 청크마다 한 트랜잭션에서 saveAll 합니다.
+ * ID는 풀링 시퀀스로 미리 할당되므로 Hibernate가 INSERT를 JDBC 배치로 묶어 보냅니다.
+ * 청크가 실패하면 해당 청크만 건별 트랜잭션으로 다시 시도해 실패 항목을 가려냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleIngestService {
+
+    private static final String DATABASE_UNAVAILABLE = "Database unavailable";
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final ArticleContentStore contentStore;
+    private final ArticleChangeOutbox outbox;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleDataAccessGuard dataAccessGuard;
+    private final IngestProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public IngestReport ingest(List<NewsArticle> articles) {
+        ItemResult[] results = new ItemResult[articles.size()];
+        List<Integer> pending = new ArrayList<>(properties.getBatchSize());
+
+        for (int index = 0; index < articles.size(); index++) {
+            String error = validate(articles.get(index));
+            if (error != null) {
+                results[index] = ItemResult.failed(index, error);
+                continue;
+            }
+            pending.add(index);
+            if (pending.size() == properties.getBatchSize()) {
+                saveChunk(articles, pending, results);
+                pending.clear();
+            }
+        }
+        if (!pending.isEmpty()) {
+            saveChunk(articles, pending, results);
+        }
+
+        int created = (int) Arrays.stream(results).filter(result -> result.status() == IngestReport.Status.CREATED).count();
+        return new IngestReport(articles.size(), created, articles.size() - created, List.of(results));
+    }
+
+    private void saveChunk(List<NewsArticle> articles, List<Integer> indexes, ItemResult[] results) {
+        List<NewsArticle> chunk = indexes.stream().map(index -> copyForInsert(articles.get(index))).toList();
+        try {
+            List<NewsArticle> saved = dataAccessGuard.call(() -> transactionTemplate.execute(
+                    status -> {
+                        List<NewsArticle> inserted = newsArticleRepository.saveAll(chunk);
+                        contentStore.insertAll(inserted);
+                        outbox.appendCreated(inserted);
+                        return inserted;
+                    }));
+            for (int i = 0; i < indexes.size(); i++) {
+                results[indexes.get(i)] = ItemResult.created(indexes.get(i), saved.get(i).getId());
+            }
+            eventPublisher.publishEvent(new ArticlesCreatedEvent(saved));
+        } catch (CallNotPermittedException e) {
+            indexes.forEach(index -> results[index] = ItemResult.failed(index, DATABASE_UNAVAILABLE));
+        } catch (Exception e) {
+            log.warn("Ingest chunk failed, retrying item by item - size: {}, cause: {}", indexes.size(), e.getMessage());
+            saveOneByOne(articles, indexes, results);
+        }
+    }
+
+    /**
+     * 실패한 청크를 건별 트랜잭션으로 재시도 (매번 새 엔티티로 복사해 롤백된 ID를 재사용하지 않음)
+     */
+    private void saveOneByOne(List<NewsArticle> articles, List<Integer> indexes, ItemResult[] results) {
+        List<NewsArticle> saved = new ArrayList<>();
+        for (Integer index : indexes) {
+            NewsArticle copy = copyForInsert(articles.get(index));
+            try {
+                NewsArticle article = dataAccessGuard.call(() -> transactionTemplate.execute(
+                        status -> {
+                            NewsArticle inserted = newsArticleRepository.save(copy);
+                            contentStore.insertAll(List.of(inserted));
+                            outbox.appendCreated(List.of(inserted));
+                            return inserted;
+                        }));
+                results[index] = ItemResult.created(index, article.getId());
+                saved.add(article);
+            } catch (CallNotPermittedException e) {
+                results[index] = ItemResult.failed(index, DATABASE_UNAVAILABLE);
+            } catch (Exception e) {
+                results[index] = ItemResult.failed(index, rootMessage(e));
+            }
+        }
+        if (!saved.isEmpty()) {
+            eventPublisher.publishEvent(new ArticlesCreatedEvent(saved));
+        }
+    }
+
+    /**
+     * 컬럼 제약(news_articles)과 같은 기준의 사전 검증, 문제가 없으면 null
+     */
+    private static String validate(NewsArticle article) {
+        if (article == null) {
+            return "Article is required";
+        }
+        if (article.getTitle() == null || article.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (article.getTitle().length() > 500) {
+            return "title must be at most 500 characters";
+        }
+        if (article.getAuthor() == null || article.getAuthor().isBlank()) {
+            return "author is required";
+        }
+        if (article.getAuthor().length() > 100) {
+            return "author must be at most 100 characters";
+        }
+        if (article.getMainImg() != null && article.getMainImg().length() > 1000) {
+            return "mainImg must be at most 1000 characters";
+        }
+        if (article.getCategory() == null) {
+            return "category is required";
+        }
+        return null;
+    }
+
+    private static NewsArticle copyForInsert(NewsArticle article) {
+        return NewsArticle.builder()
+                .title(article.getTitle())
+                .mainImg(article.getMainImg())
+                .author(article.getAuthor())
+                .content(article.getContent())
+                .category(article.getCategory())
+                .isPremium(article.getIsPremium() != null ? article.getIsPremium() : Boolean.FALSE)
+                .build();
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,122 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.makersworld.civic_sights_main.config.ArticleJsonCacheProperties;
+import com.makersworld.civic_sights_main.model.ArticleVersion;
+import com.makersworld.civic_sights_main.model.CacheStatistics;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 기사 상세 응답용 직렬화 결과 캐시
+ *
+ * 기사 JSON을 UTF-8 바이트(및 일정 크기 이상이면 gzip 변형)로 한 번만 직렬화해 두고,
+ * 상세 조회 시 재직렬화 없이 그대로 응답에 씁니다.
+ * 캐시 항목은 updateDate가 일치할 때만 사용하며, 기사 변경 시 다시 만듭니다.
+ */
+@Component
+public class ArticleJsonCache {
+
+    /**
+     * 직렬화된 기사 (gzip은 작은 본문이면 null)
+     */
+    public record SerializedArticle(ArticleVersion version, byte[] json, byte[] gzip) {
+
+        private int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final ArticleJsonCacheProperties properties;
+    private final Cache<Long, SerializedArticle> cache;
+
+    public ArticleJsonCache(ObjectMapper objectMapper, ArticleJsonCacheProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeightBytes())
+                .weigher((Long id, SerializedArticle article) -> article.weight())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 기사의 직렬화 결과 조회 (없거나 버전이 다르면 새로 직렬화해 적재)
+     */
+    public SerializedArticle get(NewsArticle article) {
+        SerializedArticle cached = cache.getIfPresent(article.getId());
+        if (cached != null && isCurrent(cached, article)) {
+            return cached;
+        }
+        SerializedArticle serialized = serialize(article);
+        cache.put(article.getId(), serialized);
+        return serialized;
+    }
+
+    /**
+     * 기사 변경 시 이미 캐시된 기사만 다시 직렬화, 삭제 시 제거
+     *
+     * 직렬화는 맵의 compute 잠금 밖에서 수행합니다. (가상 스레드에서 Jackson 직렬화 동안
+     * ConcurrentHashMap 버킷의 synchronized 잠금을 잡고 있으면 캐리어 스레드가 고정(pinning)됨)
+     */
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.article() == null) {
+            cache.invalidate(event.articleId());
+            return;
+        }
+        if (cache.getIfPresent(event.articleId()) != null) {
+            cache.put(event.articleId(), serialize(event.article()));
+        }
+    }
+
+    /**
+     * 적중/미스/제거 통계
+     */
+    public CacheStatistics statistics() {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(
+                stats.requestCount(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                cache.estimatedSize());
+    }
+
+    private SerializedArticle serialize(NewsArticle article) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(article);
+            byte[] gzip = json.length >= properties.getGzipMinSize() ? gzip(json) : null;
+            return new SerializedArticle(ArticleVersion.of(article), json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize article " + article.getId(), e);
+        }
+    }
+
+    private static boolean isCurrent(SerializedArticle cached, NewsArticle article) {
+        return Objects.equals(cached.version().updateDate(), article.getUpdateDate());
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
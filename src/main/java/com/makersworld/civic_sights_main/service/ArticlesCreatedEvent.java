@@ -0,0 +1,14 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.makersworld.civic_sights_main.model.NewsArticle;
+
+import java.util.List;
+
+/**
+ * 일괄 등록(배치 수집) 완료 이벤트
+ *
+ * 건별 {@link ArticleChangedEvent}를 수백 번 발행하면 구독자(스냅샷 등)가 매번 재구성하므로,
+ * 한 청크의 생성 결과를 한 번에 전달해 구독자가 묶어서 처리하도록 합니다.
+ */
+public record ArticlesCreatedEvent(List<NewsArticle> articles) {
+}
@@ -0,0 +1,14 @@
+package com.makersworld.civic_sights_main.service;
+
+/**
+ * DB 장애로 쓰기를 반영할 수 없음 (API에서는 503 Service Unavailable)
+ *
+ * DB에 있는 기사는 장애 중 로컬 저장소로 대신 수정/삭제하지 않으며(복구 후 DB 상태와 어긋나므로),
+ * 로컬 저장소의 샘플 기사는 읽기 전용입니다.
+ */
+public class DatabaseUnavailableException extends RuntimeException {
+
+    public DatabaseUnavailableException(String message) {
+        super(message);
+    }
+}
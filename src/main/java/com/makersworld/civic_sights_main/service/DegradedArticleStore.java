@@ -0,0 +1,469 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.makersworld.civic_sights_main.config.DegradedStoreProperties;
+import com.makersworld.civic_sights_main.model.ArticleCursor;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * DB 장애 시 사용하는 메모리 기사 저장소
+ *
+ * 기사는 ID 해시 맵에, 목록 조회용 정렬 키(createDate DESC, id DESC)는 전체/카테고리별/유료 여부별
+ * skip list에 보관하여 단건 조회는 O(1), 커서 조회는 O(log n)으로 수행합니다. 읽기는 락 없이,
+ * 쓰기는 맵과 인덱스를 함께 바꾸기 위해 하나의 락으로 직렬화합니다.
+ *
+ * 장애 중 생성된 기사는 DB ID와 겹치지 않는 범위에서 임의로 뽑은 임시(provisional) ID를 받고
+ * (같은 장애 중의 다른 노드나 재시작 후에도 이미 발급한 ID를 다시 주지 않도록 순번 대신 임의 값 사용), 임시 기사에 대한 모든 쓰기는
+ * 로컬 저널(NDJSON)에 추가 기록됩니다. 재시작 시 저널로 복원되며, DB 복구 후 {@link DegradedJournalReplayer}가
+ * 배치로 DB에 적재합니다. (DB 커밋 후 저널 정리 전에 종료되면 해당 배치는 다시 적재될 수 있음)
+ * 샘플 기사는 임시 ID 범위의 끝에 있는 ID를 쓰는 로컬 전용 읽기 전용 데이터이며 저널/재적용 대상이 아닙니다.
+ * DB ID 기사는 이 저장소에 없으므로 장애 중 DB 기사에 대한 수정/삭제는 호출자가 거부합니다.
+ */
+@Slf4j
+@Component
+public class DegradedArticleStore {
+
+    /** 임시 ID 시작 값 (DB ID와 겹치지 않으면서 JavaScript 안전 정수 범위 안, [시작 값, 샘플 ID)에서 임의 발급) */
+    static final long PROVISIONAL_ID_BASE = 1L << 52;
+
+    /** 샘플 기사 ID 시작 값 (임시 ID 범위의 끝, 장애 중 새로 받는 임시 ID와 겹치지 않음) */
+    static final long SAMPLE_ID_BASE = (1L << 53) - 1024;
+
+    private static final Comparator<Key> LATEST_FIRST = Comparator
+            .comparing(Key::createDate)
+            .thenComparingLong(Key::id)
+            .reversed();
+
+    /**
+     * 목록 정렬 키
+     */
+    private record Key(LocalDateTime createDate, long id) {
+        static Key of(NewsArticle article) {
+            return new Key(article.getCreateDate(), article.getId());
+        }
+    }
+
+    /**
+     * 정렬된 키 집합 + 건수 (skip list의 size()는 O(n)이므로 별도 관리)
+     */
+    private static final class Index {
+        private final NavigableSet<Key> keys = new ConcurrentSkipListSet<>(LATEST_FIRST);
+        private volatile int size;
+
+        private void add(Key key) {
+            if (keys.add(key)) {
+                size++;
+            }
+        }
+
+        private void remove(Key key) {
+            if (keys.remove(key)) {
+                size--;
+            }
+        }
+    }
+
+    /**
+     * DB 적재 결과 (임시 기사 → DB 기사, 이전 적재 후 DB에서 이미 삭제된 경우 saved는 null)
+     */
+    record Replayed(NewsArticle provisional, NewsArticle saved) {
+    }
+
+    /**
+     * 저널 항목 (UPSERT: 임시 기사 전체 상태, DELETE: 임시 기사 삭제)
+     */
+    record JournalEntry(String op, Long id, NewsArticle article) {
+        static final String UPSERT = "UPSERT";
+        static final String DELETE = "DELETE";
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Path journalPath;
+    private final boolean seedSampleData;
+
+    private final Map<Long, NewsArticle> articles = new ConcurrentHashMap<>();
+    private final Index all = new Index();
+    private final Map<Category, Index> byCategory = new EnumMap<>(Category.class);
+    private final Index premium = new Index();
+    private final Index free = new Index();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public DegradedArticleStore(ObjectMapper objectMapper, DegradedStoreProperties properties) {
+        this.objectMapper = objectMapper;
+        this.journalPath = properties.getJournalPath();
+        this.seedSampleData = properties.isSeedSampleData();
+        for (Category category : Category.values()) {
+            byCategory.put(category, new Index());
+        }
+    }
+
+    @PostConstruct
+    void initialize() {
+        if (seedSampleData) {
+            seedSampleData();
+        }
+        restoreJournal();
+    }
+
+    /**
+     * 샘플 데이터 (로컬 전용, app.degraded-store.seed-sample-data=false이면 생략)
+     */
+    private void seedSampleData() {
+        index(NewsArticle.builder()
+                .id(SAMPLE_ID_BASE)
+                .title("기본소득 정책의 현황과 전망")
+                .mainImg("https://example.com/image1.jpg")
+                .author("김정책")
+                .createDate(LocalDateTime.now().minusDays(1))
+                .updateDate(LocalDateTime.now().minusDays(1))
+                .content("기본소득 정책에 대한 자세한 분석 내용...")
+                .category(Category.BASIC_INCOME)
+                .isPremium(false)
+                .build());
+
+        index(NewsArticle.builder()
+                .id(SAMPLE_ID_BASE + 1)
+                .title("시민 참여와 민주주의의 미래")
+                .mainImg("https://example.com/image2.jpg")
+                .author("이시민")
+                .createDate(LocalDateTime.now().minusDays(2))
+                .updateDate(LocalDateTime.now().minusDays(2))
+                .content("시민 참여의 중요성과 새로운 방향성에 대한 논의...")
+                .category(Category.CIVIC_ENGAGEMENT)
+                .isPremium(true)
+                .build());
+
+        index(NewsArticle.builder()
+                .id(SAMPLE_ID_BASE + 2)
+                .title("2024년 메가트렌드 분석")
+                .mainImg("https://example.com/image3.jpg")
+                .author("박트렌드")
+                .createDate(LocalDateTime.now().minusDays(3))
+                .updateDate(LocalDateTime.now().minusDays(3))
+                .content("올해 주목해야 할 주요 메가트렌드들...")
+                .category(Category.MEGATRENDS)
+                .isPremium(true)
+                .build());
+    }
+
+    /**
+     * 이전 실행에서 DB에 적재되지 못한 임시 기사 복원
+     */
+    private void restoreJournal() {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JournalEntry entry = objectMapper.readValue(line, JournalEntry.class);
+                unindex(entry.id());
+                if (JournalEntry.UPSERT.equals(entry.op())) {
+                    index(entry.article());
+                }
+            }
+            log.info("Degraded journal restored - pending articles: {}", pending().size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to restore degraded journal: " + journalPath, e);
+        }
+    }
+
+    // ===== 조회 =====
+
+    public static boolean isProvisional(Long id) {
+        return id != null && id >= PROVISIONAL_ID_BASE;
+    }
+
+    /**
+     * 샘플 기사 ID인지 (읽기 전용, DB 적재 대상 아님)
+     */
+    public static boolean isSample(Long id) {
+        return id != null && id >= SAMPLE_ID_BASE;
+    }
+
+    // DB 적재를 기다리는 임시 기사 (샘플 제외)
+    private static boolean isPending(Long id) {
+        return isProvisional(id) && !isSample(id);
+    }
+
+    public Optional<NewsArticle> get(Long id) {
+        return Optional.ofNullable(articles.get(id));
+    }
+
+    public boolean hasPending() {
+        return articles.keySet().stream().anyMatch(DegradedArticleStore::isPending);
+    }
+
+    /**
+     * 오프셋 페이지 조회 (category / isPremium 이 null 이면 조건 없음, 둘 중 하나만 지정)
+     */
+    public Page<NewsArticleSummary> page(Category category, Boolean isPremium, Pageable pageable) {
+        Index index = index(category, isPremium);
+        List<NewsArticleSummary> content = new ArrayList<>(pageable.getPageSize());
+        Iterator<Key> keys = index.keys.iterator();
+        for (long skipped = 0; skipped < pageable.getOffset() && keys.hasNext(); skipped++) {
+            keys.next();
+        }
+        collect(keys, pageable.getPageSize(), article -> content.add(NewsArticleSummary.from(article)));
+        return new PageImpl<>(content, pageable, index.size);
+    }
+
+    /**
+     * 커서 이후 최대 limit건 조회 (cursor가 null이면 처음부터)
+     */
+    public List<NewsArticleSummary> after(Category category, Boolean isPremium, ArticleCursor cursor, int limit) {
+        NavigableSet<Key> keys = index(category, isPremium).keys;
+        if (cursor != null) {
+            keys = keys.tailSet(new Key(cursor.createDate(), cursor.id()), false);
+        }
+        List<NewsArticleSummary> rows = new ArrayList<>(limit);
+        collect(keys.iterator(), limit, article -> rows.add(NewsArticleSummary.from(article)));
+        return rows;
+    }
+
+    /**
+     * DB에 아직 적재되지 않은 임시 기사 (생성 순)
+     */
+    public List<NewsArticle> pending() {
+        return articles.values().stream()
+                .filter(article -> isPending(article.getId()))
+                .sorted(Comparator.comparing(NewsArticle::getCreateDate).thenComparing(NewsArticle::getId))
+                .toList();
+    }
+
+    private Index index(Category category, Boolean isPremium) {
+        if (category != null) {
+            return byCategory.get(category);
+        }
+        if (isPremium != null) {
+            return isPremium ? premium : free;
+        }
+        return all;
+    }
+
+    private void collect(Iterator<Key> keys, int limit, Consumer<NewsArticle> sink) {
+        int collected = 0;
+        while (collected < limit && keys.hasNext()) {
+            // 인덱스와 맵 갱신 사이에 삭제된 기사는 건너뜀
+            NewsArticle article = articles.get(keys.next().id());
+            if (article != null) {
+                sink.accept(article);
+                collected++;
+            }
+        }
+    }
+
+    // ===== 쓰기 (DB 장애 중) =====
+
+    /**
+     * 임시 ID로 기사 생성 후 저널 기록
+     */
+    public NewsArticle create(NewsArticle article) {
+        writeLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            article.setId(nextProvisionalId());
+            article.setVersion(0L);
+            article.setCreateDate(now);
+            article.setUpdateDate(now);
+            append(new JournalEntry(JournalEntry.UPSERT, article.getId(), article));
+            index(article);
+            return article;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 로컬 기사 수정 (변경 전 요약과 수정된 기사를 이벤트로 반환)
+     */
+    public Optional<ArticleChangedEvent> update(Long id, Consumer<NewsArticle> changes) {
+        return update(id, null, changes);
+    }
+
+    /**
+     * 로컬 기사 수정 (expectedVersion이 있으면 현재 버전과 같을 때만 반영, 샘플 기사는 수정하지 않음)
+     *
+     * @throws ObjectOptimisticLockingFailureException 버전이 다른 경우
+     */
+    public Optional<ArticleChangedEvent> update(Long id, Long expectedVersion, Consumer<NewsArticle> changes) {
+        writeLock.lock();
+        try {
+            NewsArticle article = articles.get(id);
+            if (article == null || isSample(id)) {
+                return Optional.empty();
+            }
+            long version = article.getVersion() == null ? 0 : article.getVersion();
+            if (expectedVersion != null && expectedVersion != version) {
+                throw new ObjectOptimisticLockingFailureException(NewsArticle.class, id);
+            }
+            NewsArticleSummary previous = NewsArticleSummary.from(article);
+            unindex(id);
+            changes.accept(article);
+            article.setVersion(version + 1);
+            article.setUpdateDate(LocalDateTime.now());
+            if (isProvisional(id)) {
+                append(new JournalEntry(JournalEntry.UPSERT, id, article));
+            }
+            index(article);
+            return Optional.of(ArticleChangedEvent.updated(previous, article));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 로컬 기사 삭제 (삭제 전 요약 반환, 샘플 기사는 삭제하지 않음)
+     */
+    public Optional<NewsArticleSummary> delete(Long id) {
+        writeLock.lock();
+        try {
+            if (!articles.containsKey(id) || isSample(id)) {
+                return Optional.empty();
+            }
+            if (isProvisional(id)) {
+                append(new JournalEntry(JournalEntry.DELETE, id, null));
+            }
+            return Optional.of(NewsArticleSummary.from(unindex(id)));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 임시 기사를 최대 batchSize건 DB에 적재하고, 적재된 기사는 로컬에서 제거한 뒤 남은 기사로 저널을 다시 작성
+     * 적재 중에는 로컬 쓰기를 막아 DB에 들어간 상태와 로컬 상태가 어긋나지 않도록 합니다.
+     *
+     * @param saver 임시 기사 목록을 DB에 저장하고 저장된 기사를 같은 순서로 반환 (이미 적재된 기사는 DB 기사 또는 null, 실패 시 예외)
+     */
+    List<Replayed> replayBatch(int batchSize, Function<List<NewsArticle>, List<NewsArticle>> saver) {
+        writeLock.lock();
+        try {
+            List<NewsArticle> batch = pending().stream().limit(batchSize).toList();
+            if (batch.isEmpty()) {
+                return List.of();
+            }
+            List<NewsArticle> saved = saver.apply(batch);
+            List<Replayed> replayed = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                NewsArticle provisional = unindex(batch.get(i).getId());
+                replayed.add(new Replayed(provisional, saved.get(i)));
+            }
+            rewriteJournal(pending());
+            return replayed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 임시 ID 발급 (호출자가 writeLock 보유)
+     * 범위가 약 4.5 * 10^15이므로 노드 간 충돌 확률은 무시할 수 있고, 이 노드가 가진 ID와의 충돌은 다시 뽑음
+     */
+    private long nextProvisionalId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong(PROVISIONAL_ID_BASE, SAMPLE_ID_BASE);
+        } while (articles.containsKey(id));
+        return id;
+    }
+
+    private void index(NewsArticle article) {
+        articles.put(article.getId(), article);
+        Key key = Key.of(article);
+        all.add(key);
+        byCategory.get(article.getCategory()).add(key);
+        (Boolean.TRUE.equals(article.getIsPremium()) ? premium : free).add(key);
+    }
+
+    private NewsArticle unindex(Long id) {
+        NewsArticle article = articles.remove(id);
+        if (article != null) {
+            Key key = Key.of(article);
+            all.remove(key);
+            byCategory.get(article.getCategory()).remove(key);
+            (Boolean.TRUE.equals(article.getIsPremium()) ? premium : free).remove(key);
+        }
+        return article;
+    }
+
+    // ===== 저널 =====
+
+    /**
+     * 저널에 한 줄 추가 후 디스크 동기화 (호출자가 writeLock 보유)
+     */
+    private void append(JournalEntry entry) {
+        try {
+            Path parent = journalPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            byte[] line = (objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+            try (FileChannel channel = FileChannel.open(journalPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.wrap(line));
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append degraded journal: " + journalPath, e);
+        }
+    }
+
+    private void rewriteJournal(List<NewsArticle> remaining) {
+        try {
+            if (remaining.isEmpty()) {
+                Files.deleteIfExists(journalPath);
+                return;
+            }
+            Path temp = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+            StringBuilder content = new StringBuilder();
+            for (NewsArticle article : remaining) {
+                content.append(objectMapper.writeValueAsString(
+                        new JournalEntry(JournalEntry.UPSERT, article.getId(), article))).append('\n');
+            }
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Files.move(temp, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rewrite degraded journal: " + journalPath, e);
+        }
+    }
+}
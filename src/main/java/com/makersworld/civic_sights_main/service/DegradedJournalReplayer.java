@@ -0,0 +1,117 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.makersworld.civic_sights_main.config.DegradedStoreProperties;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.outbox.ArticleChangeOutbox;
+import com.makersworld.civic_sights_main.repository.NewsArticleRepository;
+import com.makersworld.civic_sights_main.service.DegradedArticleStore.Replayed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DB 장애 중 로컬에 쌓인 임시 기사를 DB 복구 후 배치로 적재
+ *
+ * 적재도 서킷 브레이커를 거치므로 open 상태에서는 시도하지 않고, half-open 상태에서는 탐침 역할을 합니다.
+ * 임시 ID → DB ID 매핑은 같은 트랜잭션에서 DB에 기록하므로 재시작/다른 노드에서도 임시 ID로 조회할 수 있습니다.
+ * 적재된 기사는 임시 기사 삭제 + DB 기사 생성 이벤트로 알려 캐시/스냅샷/검색 색인이 DB ID로 바뀌도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DegradedJournalReplayer {
+
+    private final DegradedArticleStore degradedStore;
+    private final NewsArticleRepository newsArticleRepository;
+    private final ArticleContentStore contentStore;
+    private final ArticleChangeOutbox outbox;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleDataAccessGuard dataAccessGuard;
+    private final DegradedStoreProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProvisionalIdMappings idMappings;
+
+    @Scheduled(fixedDelayString = "${app.degraded-store.replay-interval:15s}")
+    public void replay() {
+        if (dataAccessGuard.isOpen() || !degradedStore.hasPending()) {
+            return;
+        }
+        try {
+            int total = 0;
+            List<Replayed> replayed;
+            do {
+                replayed = degradedStore.replayBatch(properties.getReplayBatchSize(), this::save);
+                for (Replayed article : replayed) {
+                    eventPublisher.publishEvent(ArticleChangedEvent.deleted(NewsArticleSummary.from(article.provisional())));
+                    if (article.saved() != null) {
+                        eventPublisher.publishEvent(ArticleChangedEvent.created(article.saved()));
+                    }
+                }
+                total += replayed.size();
+            } while (replayed.size() == properties.getReplayBatchSize());
+            log.info("Degraded journal replayed - articles: {}", total);
+        } catch (Exception e) {
+            log.warn("Degraded journal replay failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 임시 기사를 새 기사로 저장하고 임시 ID → DB ID 매핑을 기록 (배치 단위 한 트랜잭션)
+     * 매핑이 이미 있는 임시 기사(이전 적재가 커밋된 뒤 저널 정리 전에 중단된 경우)는 다시 저장하지 않고 기존 DB 기사를 반환합니다.
+     */
+    private List<NewsArticle> save(List<NewsArticle> batch) {
+        return dataAccessGuard.execute(null,
+                () -> transactionTemplate.execute(status -> {
+                    Map<Long, Long> mapped = idMappings.findAll(batch.stream().map(NewsArticle::getId).toList());
+                    List<NewsArticle> fresh = batch.stream()
+                            .filter(article -> !mapped.containsKey(article.getId()))
+                            .toList();
+                    List<NewsArticle> saved = newsArticleRepository.saveAll(copiesOf(fresh));
+                    contentStore.insertAll(saved);
+                    outbox.appendCreated(saved);
+                    Map<Long, Long> recorded = new HashMap<>();
+                    for (int i = 0; i < fresh.size(); i++) {
+                        recorded.put(fresh.get(i).getId(), saved.get(i).getId());
+                    }
+                    idMappings.record(recorded);
+
+                    Map<Long, NewsArticle> existing = newsArticleRepository.findAllById(mapped.values()).stream()
+                            .collect(Collectors.toMap(NewsArticle::getId, Function.identity()));
+                    Iterator<NewsArticle> savedInOrder = saved.iterator();
+                    List<NewsArticle> result = new ArrayList<>(batch.size());
+                    for (NewsArticle article : batch) {
+                        Long articleId = mapped.get(article.getId());
+                        result.add(articleId == null ? savedInOrder.next() : existing.get(articleId));
+                    }
+                    return result;
+                }),
+                () -> {
+                    throw new IllegalStateException("Database unavailable");
+                });
+    }
+
+    private static List<NewsArticle> copiesOf(List<NewsArticle> batch) {
+        return batch.stream()
+                .map(article -> NewsArticle.builder()
+                        .title(article.getTitle())
+                        .mainImg(article.getMainImg())
+                        .author(article.getAuthor())
+                        .content(article.getContent())
+                        .category(article.getCategory())
+                        .isPremium(article.getIsPremium())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,314 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.makersworld.civic_sights_main.config.FrontPageProperties;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.repository.NewsArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 첫 페이지(page=0) 스냅샷
+ *
+ * (카테고리 × 유료/무료/전체) 조합별로 최신 기사 N건을 미리 계산해 둔 불변 스냅샷을 보관합니다.
+ * 읽기는 AtomicReference에서 락 없이 수행됩니다.
+ * 기사 변경은 쓰기 스레드에서 영향을 받는 버킷 스냅샷에 메모리로만 반영하고(DB 조회 없음, 새 스냅샷으로 원자적 교체),
+ * DB 기준 재구성은 백그라운드에서 한 번에 하나씩 실행하며 그 사이 쌓인 변경은 버킷별로 합쳐 한 번만 조회합니다.
+ * 전체 건수는 {@link ArticleCounterRegistry}에서 응답 시점에 읽습니다. (재구성 시 COUNT 쿼리 없음)
+ */
+@Slf4j
+@Component
+public class FrontPageSnapshots {
+
+    /**
+     * 스냅샷 버킷 (category / isPremium 이 null 이면 "전체")
+     */
+    record Bucket(Category category, Boolean isPremium) {
+
+        boolean contains(NewsArticleSummary article) {
+            return (category == null || category == article.category())
+                    && (isPremium == null || isPremium.equals(article.isPremium()));
+        }
+    }
+
+    /**
+     * 불변 스냅샷 (최신 기사 목록)
+     *
+     * @param complete 목록이 버킷의 앞쪽 min(size, 전체 건수)건을 모두 담고 있는지
+     *                 (꽉 찬 목록에서 기사가 빠지면 그 뒤를 이을 기사를 알 수 없으므로 재구성 전까지 false)
+     */
+    record Snapshot(List<NewsArticleSummary> articles, boolean complete) {
+
+        /**
+         * 기사 하나의 변경을 반영한 새 스냅샷 (removedId를 빼고 added를 정렬 위치에 넣은 뒤 capacity건으로 자름)
+         */
+        Snapshot apply(Long removedId, NewsArticleSummary added, int capacity) {
+            List<NewsArticleSummary> next = new ArrayList<>(articles.size() + 1);
+            for (NewsArticleSummary article : articles) {
+                if (!article.id().equals(removedId)) {
+                    next.add(article);
+                }
+            }
+            boolean nextComplete = complete && !(next.size() < articles.size() && articles.size() >= capacity);
+            if (added != null) {
+                int position = 0;
+                while (position < next.size() && NEWEST_FIRST.compare(next.get(position), added) < 0) {
+                    position++;
+                }
+                // 목록 끝 뒤쪽은 목록이 완전할 때만 알 수 있음
+                if (position < next.size() || nextComplete) {
+                    next.add(position, added);
+                    if (next.size() > capacity) {
+                        next.remove(next.size() - 1);
+                    }
+                    nextComplete = nextComplete || next.size() >= capacity;
+                }
+            }
+            return new Snapshot(List.copyOf(next), nextComplete);
+        }
+    }
+
+    // 목록 쿼리와 같은 순서 (create_date, id 인덱스 역순)
+    private static final Comparator<NewsArticleSummary> NEWEST_FIRST = Comparator
+            .comparing(NewsArticleSummary::createDate, Comparator.reverseOrder())
+            .thenComparing(NewsArticleSummary::id, Comparator.reverseOrder());
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final ArticleCounterRegistry counters;
+    private final FrontPageProperties properties;
+    private final Executor rebuildExecutor;
+
+    // 버킷 목록은 고정이므로 맵 자체는 생성 후 변경되지 않음
+    private final Map<Bucket, AtomicReference<Snapshot>> snapshots;
+
+    // 재구성 작업 직렬화 (늦게 시작한 재구성이 항상 최신 DB 상태를 반영하도록, 쓰기 스레드는 잡지 않음)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 재구성 대기 버킷과 백그라운드 재구성 실행 여부 (한 번에 하나만 실행)
+    private final Set<Bucket> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public FrontPageSnapshots(NewsArticleRepository newsArticleRepository, ArticleCounterRegistry counters,
+                              FrontPageProperties properties,
+                              @Qualifier("applicationTaskExecutor") Executor rebuildExecutor) {
+        this.newsArticleRepository = newsArticleRepository;
+        this.counters = counters;
+        this.properties = properties;
+        this.rebuildExecutor = rebuildExecutor;
+
+        Map<Bucket, AtomicReference<Snapshot>> buckets = new HashMap<>();
+        for (Category category : categoriesWithAll()) {
+            for (Boolean isPremium : new Boolean[]{null, Boolean.TRUE, Boolean.FALSE}) {
+                buckets.put(new Bucket(category, isPremium), new AtomicReference<>());
+            }
+        }
+        this.snapshots = Map.copyOf(buckets);
+    }
+
+    /**
+     * 스냅샷으로 첫 페이지 응답 (스냅샷/건수 카운터가 없거나 첫 페이지 요청이 아니면 empty)
+     */
+    public Optional<Page<NewsArticleSummary>> firstPage(Category category, Boolean isPremium, Pageable pageable) {
+        if (pageable.getPageNumber() != 0
+                || pageable.getPageSize() > properties.getSize()
+                || pageable.getSort().isSorted()) {
+            return Optional.empty();
+        }
+        Snapshot snapshot = snapshots.get(new Bucket(category, isPremium)).get();
+        OptionalLong total = counters.total(category, isPremium);
+        if (snapshot == null || total.isEmpty()
+                || (!snapshot.complete() && snapshot.articles().size() < pageable.getPageSize())) {
+            return Optional.empty();
+        }
+        List<NewsArticleSummary> content = snapshot.articles()
+                .subList(0, Math.min(pageable.getPageSize(), snapshot.articles().size()));
+        return Optional.of(new PageImpl<>(content, pageable, total.getAsLong()));
+    }
+
+    /**
+     * 기동 완료 시 전체 버킷 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        rebuild(snapshots.keySet());
+    }
+
+    /**
+     * 기사 변경 시 변경 전/후 기사가 속한 버킷에 바로 반영하고, DB 기준 재구성은 백그라운드로 넘김
+     */
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        Set<Bucket> affected = new LinkedHashSet<>();
+        if (event.previous() != null) {
+            addBuckets(affected, event.previous().category(), event.previous().isPremium());
+        }
+        NewsArticleSummary current = null;
+        if (event.article() != null) {
+            current = NewsArticleSummary.from(event.article());
+            addBuckets(affected, current.category(), current.isPremium());
+        }
+        for (Bucket bucket : affected) {
+            apply(bucket, event.articleId(), current);
+        }
+        scheduleRebuild(affected);
+    }
+
+    /**
+     * 일괄 등록 시 등록된 기사들을 속한 버킷에 바로 반영하고, 재구성은 버킷별로 한 번만 예약
+     */
+    @EventListener
+    public void onArticlesCreated(ArticlesCreatedEvent event) {
+        Set<Bucket> affected = new LinkedHashSet<>();
+        for (NewsArticle article : event.articles()) {
+            NewsArticleSummary created = NewsArticleSummary.from(article);
+            Set<Bucket> buckets = new LinkedHashSet<>();
+            addBuckets(buckets, created.category(), created.isPremium());
+            for (Bucket bucket : buckets) {
+                apply(bucket, created.id(), created);
+            }
+            affected.addAll(buckets);
+        }
+        scheduleRebuild(affected);
+    }
+
+    /**
+     * 구성에 실패한 버킷 주기적 재시도
+     */
+    @Scheduled(fixedDelayString = "${app.front-page.retry-interval:30s}")
+    public void rebuildMissing() {
+        Set<Bucket> missing = new LinkedHashSet<>();
+        snapshots.forEach((bucket, snapshot) -> {
+            if (snapshot.get() == null) {
+                missing.add(bucket);
+            }
+        });
+        if (!missing.isEmpty()) {
+            rebuild(missing);
+        }
+    }
+
+    /**
+     * 스냅샷에 기사 하나의 변경 반영 (구성 전이거나 실패한 버킷은 재구성에 맡김)
+     */
+    private void apply(Bucket bucket, Long articleId, NewsArticleSummary current) {
+        NewsArticleSummary added = current != null && bucket.contains(current) ? current : null;
+        snapshots.get(bucket).updateAndGet(snapshot -> snapshot == null
+                ? null
+                : snapshot.apply(articleId, added, properties.getSize()));
+    }
+
+    /**
+     * 버킷 재구성 예약 (실행 중인 재구성이 있으면 그 작업이 이어서 처리)
+     * 메모리 반영 뒤에 예약하므로, 반영 전 DB 상태로 끝난 재구성이 덮어써도 다음 재구성이 바로잡습니다.
+     */
+    private void scheduleRebuild(Set<Bucket> buckets) {
+        pending.addAll(buckets);
+        if (pending.isEmpty() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(this::rebuildPending);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 남은 버킷은 다음 기동 시 전체 구성
+            rebuilding.set(false);
+            log.warn("Front page snapshot rebuild rejected - buckets: {}", pending.size());
+        }
+    }
+
+    private void rebuildPending() {
+        try {
+            Set<Bucket> buckets = new LinkedHashSet<>();
+            do {
+                buckets.clear();
+                for (Iterator<Bucket> iterator = pending.iterator(); iterator.hasNext(); ) {
+                    buckets.add(iterator.next());
+                    iterator.remove();
+                }
+                if (!buckets.isEmpty()) {
+                    rebuild(buckets);
+                }
+            } while (!buckets.isEmpty());
+        } finally {
+            rebuilding.set(false);
+        }
+        // 실행 표시를 내리는 사이에 예약된 버킷
+        scheduleRebuild(Set.of());
+    }
+
+    private void rebuild(Set<Bucket> buckets) {
+        rebuildLock.lock();
+        try {
+            Pageable top = PageRequest.of(0, properties.getSize());
+            for (Bucket bucket : buckets) {
+                AtomicReference<Snapshot> reference = snapshots.get(bucket);
+                try {
+                    Slice<NewsArticleSummary> slice = query(bucket, top);
+                    reference.set(new Snapshot(List.copyOf(slice.getContent()), true));
+                } catch (Exception e) {
+                    // DB 조회 실패 시 스냅샷을 비워 일반 조회 경로(폴백 포함)를 사용하도록 함
+                    log.warn("Front page snapshot rebuild failed - bucket: {}, cause: {}", bucket, e.getMessage());
+                    reference.set(null);
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Slice<NewsArticleSummary> query(Bucket bucket, Pageable top) {
+        if (bucket.category() == null && bucket.isPremium() == null) {
+            return newsArticleRepository.findSliceByOrderByCreateDateDescIdDesc(top);
+        }
+        if (bucket.category() == null) {
+            return bucket.isPremium()
+                    ? newsArticleRepository.findSliceByIsPremiumTrueOrderByCreateDateDescIdDesc(top)
+                    : newsArticleRepository.findSliceByIsPremiumFalseOrderByCreateDateDescIdDesc(top);
+        }
+        if (bucket.isPremium() == null) {
+            return newsArticleRepository.findSliceByCategoryOrderByCreateDateDescIdDesc(bucket.category(), top);
+        }
+        return newsArticleRepository.findSliceByCategoryAndIsPremiumOrderByCreateDateDescIdDesc(
+                bucket.category(), bucket.isPremium(), top);
+    }
+
+    private static void addBuckets(Set<Bucket> buckets, Category category, Boolean isPremium) {
+        buckets.add(new Bucket(null, null));
+        buckets.add(new Bucket(null, isPremium));
+        buckets.add(new Bucket(category, null));
+        buckets.add(new Bucket(category, isPremium));
+    }
+
+    private static Category[] categoriesWithAll() {
+        Category[] values = Category.values();
+        Category[] withAll = new Category[values.length + 1];
+        System.arraycopy(values, 0, withAll, 1, values.length);
+        return withAll;
+    }
+}
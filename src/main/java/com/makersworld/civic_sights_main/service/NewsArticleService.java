@@ -1,282 +1,415 @@
 package com.makersworld.civic_sights_main.service;
 
+import com.makersworld.civic_sights_main.model.ArticleCursor;
+import com.makersworld.civic_sights_main.model.ArticlePatch;
+import com.makersworld.civic_sights_main.model.ArticleVersion;
 import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.CursorPage;
 import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.outbox.ArticleChangeOutbox;
 import com.makersworld.civic_sights_main.repository.NewsArticleRepository;
-import jakarta.annotation.PostConstruct;
+import com.makersworld.civic_sights_main.search.ArticleSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+
+import static com.makersworld.civic_sights_main.service.ArticleDataAccessGuard.key;
 
 @Service
 @RequiredArgsConstructor
 public class NewsArticleService {
     
     private final NewsArticleRepository newsArticleRepository;
+    private final ArticleCache articleCache;
+    private final FrontPageSnapshots frontPageSnapshots;
+    private final ArticleCounterRegistry counters;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleContentStore contentStore;
+    private final ArticleDataAccessGuard dataAccessGuard;
+    private final TransactionTemplate transactionTemplate;
+    private final DegradedArticleStore degradedStore;
+    private final ArticleChangeOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProvisionalIdMappings provisionalIdMappings;
     
     // 페이지네이션 상수
     private static final int DEFAULT_PAGE_SIZE = 25;
     
-    // 임시 데이터 (JPA 연결이 성공하면 제거될 예정)
-    private List<NewsArticle> sampleArticles;   
-    
-    @PostConstruct
-    private void initializeSampleData() {
-        sampleArticles = new ArrayList<>();
-        
-        // Sample data
-        sampleArticles.add(NewsArticle.builder()
-                .id(1L)
-                .title("기본소득 정책의 현황과 전망")
-                .mainImg("https://example.com/image1.jpg")
-                .author("김정책")
-                .createDate(LocalDateTime.now().minusDays(1))
-                .updateDate(LocalDateTime.now().minusDays(1))
-                .content("기본소득 정책에 대한 자세한 분석 내용...")
-                .category(Category.BASIC_INCOME)
-                .isPremium(false)
-                .build());
-                
-        sampleArticles.add(NewsArticle.builder()
-                .id(2L)
-                .title("시민 참여와 민주주의의 미래")
-                .mainImg("https://example.com/image2.jpg")
-                .author("이시민")
-                .createDate(LocalDateTime.now().minusDays(2))
-                .updateDate(LocalDateTime.now().minusDays(2))
-                .content("시민 참여의 중요성과 새로운 방향성에 대한 논의...")
-                .category(Category.CIVIC_ENGAGEMENT)
-                .isPremium(true)
-                .build());
-                
-        sampleArticles.add(NewsArticle.builder()
-                .id(3L)
-                .title("2024년 메가트렌드 분석")
-                .mainImg("https://example.com/image3.jpg")
-                .author("박트렌드")
-                .createDate(LocalDateTime.now().minusDays(3))
-                .updateDate(LocalDateTime.now().minusDays(3))
-                .content("올해 주목해야 할 주요 메가트렌드들...")
-                .category(Category.MEGATRENDS)
-                .isPremium(true)
-                .build());
+    /**
+     * 기본 Pageable 생성 (페이지당 25건)
+     */
+    private Pageable createDefaultPageable(int page) {
+        return PageRequest.of(page, DEFAULT_PAGE_SIZE);
     }
     
     /**
-     * 샘플 데이터를 사용한 페이지네이션 헬퍼 메서드
+     * 키셋 조회용 LIMIT (다음 페이지 존재 여부 판단을 위해 1건 더 조회)
      */
-    private Page<NewsArticle> createPageFromList(List<NewsArticle> articles, Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), articles.size());
-        
-        if (start > articles.size()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, articles.size());
-        }
-        
-        List<NewsArticle> pageContent = articles.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, articles.size());
+    private Pageable createSeekLimit(int size) {
+        return PageRequest.of(0, size + 1);
     }
     
     /**
-     * 기본 Pageable 생성 (페이지당 25건)
+     * size+1 건 조회 결과로 커서 페이지 생성
      */
-    private Pageable createDefaultPageable(int page) {
-        return PageRequest.of(page, DEFAULT_PAGE_SIZE);
+    private CursorPage<NewsArticleSummary> createCursorPage(List<NewsArticleSummary> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<NewsArticleSummary> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? ArticleCursor.of(content.get(content.size() - 1)).encode() : null;
+        return new CursorPage<>(content, size, nextCursor, hasNext);
     }
     
     /**
      * 전체 뉴스 리스트 조회 (페이지네이션)
      */
-    public Page<NewsArticle> getAllArticles(Pageable pageable) {
-        try {
-            // JPA Repository 사용 시도
-            return newsArticleRepository.findAllByOrderByCreateDateDesc(pageable);
-        } catch (Exception e) {
-            // JPA 연결 실패 시 샘플 데이터 반환
-            return createPageFromList(new ArrayList<>(sampleArticles), pageable);
-        }
+    public Page<NewsArticleSummary> getAllArticles(Pageable pageable) {
+        return getArticles(null, null, pageable);
     }
     
     /**
      * 전체 뉴스 리스트 조회 (기본 페이지네이션 - 페이지당 25건)
      */
-    public Page<NewsArticle> getAllArticles(int page) {
+    public Page<NewsArticleSummary> getAllArticles(int page) {
         return getAllArticles(createDefaultPageable(page));
     }
     
     /**
      * 유료 뉴스 리스트 조회 (페이지네이션)
      */
-    public Page<NewsArticle> getPremiumArticles(Pageable pageable) {
-        try {
-            return newsArticleRepository.findByIsPremiumTrueOrderByCreateDateDesc(pageable);
-        } catch (Exception e) {
-            List<NewsArticle> premiumArticles = sampleArticles.stream()
-                    .filter(NewsArticle::getIsPremium)
-                    .collect(Collectors.toList());
-            return createPageFromList(premiumArticles, pageable);
-        }
+    public Page<NewsArticleSummary> getPremiumArticles(Pageable pageable) {
+        return getArticles(null, true, pageable);
     }
     
     /**
      * 유료 뉴스 리스트 조회 (기본 페이지네이션)
      */
-    public Page<NewsArticle> getPremiumArticles(int page) {
+    public Page<NewsArticleSummary> getPremiumArticles(int page) {
         return getPremiumArticles(createDefaultPageable(page));
     }
     
     /**
      * 무료 뉴스 리스트 조회 (페이지네이션)
      */
-    public Page<NewsArticle> getFreeArticles(Pageable pageable) {
-        try {
-            return newsArticleRepository.findByIsPremiumFalseOrderByCreateDateDesc(pageable);
-        } catch (Exception e) {
-            List<NewsArticle> freeArticles = sampleArticles.stream()
-                    .filter(article -> !article.getIsPremium())
-                    .collect(Collectors.toList());
-            return createPageFromList(freeArticles, pageable);
-        }
+    public Page<NewsArticleSummary> getFreeArticles(Pageable pageable) {
+        return getArticles(null, false, pageable);
     }
     
     /**
      * 무료 뉴스 리스트 조회 (기본 페이지네이션)
      */
-    public Page<NewsArticle> getFreeArticles(int page) {
+    public Page<NewsArticleSummary> getFreeArticles(int page) {
         return getFreeArticles(createDefaultPageable(page));
     }
     
     /**
      * 카테고리별 뉴스 리스트 조회 (페이지네이션)
      */
-    public Page<NewsArticle> getArticlesByCategory(Category category, Pageable pageable) {
-        try {
-            return newsArticleRepository.findByCategoryOrderByCreateDateDesc(category, pageable);
-        } catch (Exception e) {
-            List<NewsArticle> categoryArticles = sampleArticles.stream()
-                    .filter(article -> article.getCategory() == category)
-                    .collect(Collectors.toList());
-            return createPageFromList(categoryArticles, pageable);
-        }
+    public Page<NewsArticleSummary> getArticlesByCategory(Category category, Pageable pageable) {
+        return getArticles(category, null, pageable);
     }
     
     /**
      * 카테고리별 뉴스 리스트 조회 (기본 페이지네이션)
      */
-    public Page<NewsArticle> getArticlesByCategory(Category category, int page) {
+    public Page<NewsArticleSummary> getArticlesByCategory(Category category, int page) {
         return getArticlesByCategory(category, createDefaultPageable(page));
     }
     
     /**
-     * 개별 뉴스 상세 조회
+     * 버킷별 뉴스 리스트 조회 (category / isPremium 이 null 이면 "전체")
+     * 목록은 Slice로 조회하고 전체 건수는 카운터 레지스트리에서 채우므로 COUNT 쿼리가 발생하지 않습니다.
      */
-    public Optional<NewsArticle> getFreeArticleById(Long id) {
-        try {
-            return newsArticleRepository.findByIdAndIsPremiumFalse(id);
-        } catch (Exception e) {
-            return Optional.empty();
+    public Page<NewsArticleSummary> getArticles(Category category, Boolean isPremium, Pageable pageable) {
+        Optional<Page<NewsArticleSummary>> snapshot = frontPageSnapshots.firstPage(category, isPremium, pageable);
+        if (snapshot.isPresent()) {
+            return snapshot.get();
         }
+        // DB 장애 시(서킷 open) 마지막 정상 응답, 없으면 로컬 저장소에서 조회
+        return dataAccessGuard.execute(key("page", category, isPremium, pageable),
+                () -> {
+                    Slice<NewsArticleSummary> slice = querySlice(category, isPremium, pageable);
+                    return new PageImpl<>(slice.getContent(), pageable, countArticles(category, isPremium));
+                },
+                () -> degradedStore.page(category, isPremium, pageable));
+    }
+    
+    /**
+     * 버킷별 뉴스 리스트 조회 (전체 건수 없이 다음 페이지 존재 여부만 제공)
+     */
+    public Slice<NewsArticleSummary> getArticleSlice(Category category, Boolean isPremium, Pageable pageable) {
+        Optional<Page<NewsArticleSummary>> snapshot = frontPageSnapshots.firstPage(category, isPremium, pageable);
+        if (snapshot.isPresent()) {
+            return toSlice(snapshot.get());
+        }
+        return dataAccessGuard.execute(key("slice", category, isPremium, pageable),
+                () -> querySlice(category, isPremium, pageable),
+                () -> toSlice(degradedStore.page(category, isPremium, pageable)));
+    }
+    
+    private Slice<NewsArticleSummary> querySlice(Category category, Boolean isPremium, Pageable pageable) {
+        if (category == null && isPremium == null) {
+            return newsArticleRepository.findSliceByOrderByCreateDateDescIdDesc(pageable);
+        }
+        if (category == null) {
+            return isPremium
+                    ? newsArticleRepository.findSliceByIsPremiumTrueOrderByCreateDateDescIdDesc(pageable)
+                    : newsArticleRepository.findSliceByIsPremiumFalseOrderByCreateDateDescIdDesc(pageable);
+        }
+        if (isPremium == null) {
+            return newsArticleRepository.findSliceByCategoryOrderByCreateDateDescIdDesc(category, pageable);
+        }
+        return newsArticleRepository.findSliceByCategoryAndIsPremiumOrderByCreateDateDescIdDesc(category, isPremium, pageable);
+    }
+    
+    /**
+     * 버킷 전체 건수 (카운터 초기화 전에만 DB COUNT)
+     */
+    private long countArticles(Category category, Boolean isPremium) {
+        return counters.total(category, isPremium).orElseGet(() -> {
+            if (category == null && isPremium == null) {
+                return newsArticleRepository.count();
+            }
+            if (category == null) {
+                return newsArticleRepository.countByIsPremium(isPremium);
+            }
+            if (isPremium == null) {
+                return newsArticleRepository.countByCategory(category);
+            }
+            return newsArticleRepository.countByCategoryAndIsPremium(category, isPremium);
+        });
+    }
+    
+    private static Slice<NewsArticleSummary> toSlice(Page<NewsArticleSummary> page) {
+        return new SliceImpl<>(page.getContent(), page.getPageable(), page.hasNext());
+    }
+    
+    /**
+     * 전체 뉴스 리스트 조회 (키셋 페이지네이션, cursor가 null이면 첫 페이지)
+     */
+    public CursorPage<NewsArticleSummary> getAllArticlesAfter(ArticleCursor cursor, int size) {
+        return dataAccessGuard.execute(key("all-after", cursor, size),
+                () -> {
+                    List<NewsArticleSummary> rows = cursor == null
+                            ? newsArticleRepository.findAllByOrderByCreateDateDescIdDesc(createSeekLimit(size))
+                            : newsArticleRepository.findAllAfter(cursor.createDate(), cursor.id(), createSeekLimit(size));
+                    return createCursorPage(rows, size);
+                },
+                () -> createCursorPage(degradedStore.after(null, null, cursor, size + 1), size));
+    }
+    
+    /**
+     * 유료 뉴스 리스트 조회 (키셋 페이지네이션)
+     */
+    public CursorPage<NewsArticleSummary> getPremiumArticlesAfter(ArticleCursor cursor, int size) {
+        return getArticlesByPremiumAfter(true, cursor, size);
+    }
+    
+    /**
+     * 무료 뉴스 리스트 조회 (키셋 페이지네이션)
+     */
+    public CursorPage<NewsArticleSummary> getFreeArticlesAfter(ArticleCursor cursor, int size) {
+        return getArticlesByPremiumAfter(false, cursor, size);
+    }
+    
+    private CursorPage<NewsArticleSummary> getArticlesByPremiumAfter(boolean isPremium, ArticleCursor cursor, int size) {
+        return dataAccessGuard.execute(key("premium-after", isPremium, cursor, size),
+                () -> {
+                    List<NewsArticleSummary> rows = cursor == null
+                            ? newsArticleRepository.findByIsPremiumOrderByCreateDateDescIdDesc(isPremium, createSeekLimit(size))
+                            : newsArticleRepository.findByIsPremiumAfter(isPremium, cursor.createDate(), cursor.id(), createSeekLimit(size));
+                    return createCursorPage(rows, size);
+                },
+                () -> createCursorPage(degradedStore.after(null, isPremium, cursor, size + 1), size));
+    }
+    
+    /**
+     * 카테고리별 뉴스 리스트 조회 (키셋 페이지네이션)
+     */
+    public CursorPage<NewsArticleSummary> getArticlesByCategoryAfter(Category category, ArticleCursor cursor, int size) {
+        return dataAccessGuard.execute(key("category-after", category, cursor, size),
+                () -> {
+                    List<NewsArticleSummary> rows = cursor == null
+                            ? newsArticleRepository.findByCategoryOrderByCreateDateDescIdDesc(category, createSeekLimit(size))
+                            : newsArticleRepository.findByCategoryAfter(category, cursor.createDate(), cursor.id(), createSeekLimit(size));
+                    return createCursorPage(rows, size);
+                },
+                () -> createCursorPage(degradedStore.after(category, null, cursor, size + 1), size));
+    }
+    
+    /**
+     * 키워드 검색 (제목/본문 역색인, 관련도 순 페이지네이션)
+     */
+    public Page<NewsArticleSummary> searchArticles(String query, Pageable pageable) {
+        return articleSearchIndex.search(query, pageable);
+    }
+    
+    /**
+     * 무료 뉴스 상세 조회
+     */
+    public Optional<NewsArticle> getFreeArticleById(Long id) {
+        return getArticleById(id).filter(article -> !article.getIsPremium());
     }
     
     /**
      * 유료 뉴스 상세 조회
      */
     public Optional<NewsArticle> getPremiumArticleById(Long id) {
-        try {
-            return newsArticleRepository.findByIdAndIsPremiumTrue(id);
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        return getArticleById(id).filter(NewsArticle::getIsPremium);
     }
     
     /**
      * 개별 뉴스 상세 조회 (모든 뉴스 - 무료/유료 구분 없음)
+     * 캐시(노드 캐시 → 공유 계층)에 있으면 DB를 조회하지 않으며, DB에서 읽은 기사는 캐시에 적재합니다.
+     * 같은 기사의 동시 미스는 노드당 한 번의 DB 조회로 합쳐집니다.
+     * DB 장애 중 생성된 임시 ID 기사는 DB 적재 전까지 로컬 저장소에서 조회합니다.
      */
     public Optional<NewsArticle> getArticleById(Long id) {
-        try {
-            return newsArticleRepository.findById(id);
-        } catch (Exception e) {
-            // JPA 연결 실패 시 샘플 데이터에서 검색
-            return sampleArticles.stream()
-                    .filter(article -> article.getId().equals(id))
-                    .findFirst();
+        Long articleId = provisionalIdMappings.resolveId(id);
+        if (DegradedArticleStore.isProvisional(articleId)) {
+            Optional<NewsArticle> cached = articleCache.get(articleId);
+            return cached.isPresent() ? cached : degradedStore.get(articleId);
+        }
+        return articleCache.get(articleId, () -> dataAccessGuard.execute(key("article", articleId),
+                () -> {
+                    Optional<NewsArticle> article = newsArticleRepository.findById(articleId).map(contentStore::attach);
+                    article.ifPresent(articleCache::put);
+                    return article;
+                },
+                // DB 장애 시 로컬 저장소에서 검색
+                () -> degradedStore.get(articleId)));
+    }
+    
+    /**
+     * 조건부 GET 검증용 버전 정보 조회 (본문을 로딩하지 않음)
+     */
+    public Optional<ArticleVersion> getArticleVersion(Long id) {
+        Long articleId = provisionalIdMappings.resolveId(id);
+        Optional<NewsArticle> cached = articleCache.get(articleId);
+        if (cached.isPresent()) {
+            return cached.map(ArticleVersion::of);
         }
+        if (DegradedArticleStore.isProvisional(articleId)) {
+            return degradedStore.get(articleId).map(ArticleVersion::of);
+        }
+        return dataAccessGuard.execute(key("version", articleId),
+                () -> newsArticleRepository.findVersionById(articleId),
+                () -> degradedStore.get(articleId).map(ArticleVersion::of));
+    }
+    
+    /**
+     * 기사 변경 시 해당 기사의 마지막 정상 응답 폐기 (장애 중 변경/삭제 이전 상태가 노출되지 않도록)
+     */
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        dataAccessGuard.forget(key("article", event.articleId()), key("version", event.articleId()));
     }
     
     /**
      * 뉴스 생성
      */
     public NewsArticle createArticle(NewsArticle article) {
-        try {
-            // JPA Repository 사용
-            return newsArticleRepository.save(article);
-        } catch (Exception e) {
-            // JPA 연결 실패 시 메모리에 추가
-            article.setId((long) (sampleArticles.size() + 1));
-            article.setCreateDate(LocalDateTime.now());
-            article.setUpdateDate(LocalDateTime.now());
-            sampleArticles.add(article);
-            return article;
-        }
+        // 새 기사는 버전 없이 저장 (버전이 있으면 Spring Data가 기존 엔티티로 보고 merge 함)
+        article.setVersion(null);
+        NewsArticle createdArticle = dataAccessGuard.executeWrite(
+                () -> transactionTemplate.execute(status -> {
+                    NewsArticle saved = newsArticleRepository.save(article);
+                    contentStore.insertAll(List.of(saved));
+                    outbox.append(ArticleChangedEvent.created(saved));
+                    return saved;
+                }),
+                // DB에 연결할 수 없을 때만 임시 ID로 로컬 저장소에 추가 (저널 기록 후 복구 시 DB에 적재)
+                () -> degradedStore.create(article));
+        eventPublisher.publishEvent(ArticleChangedEvent.created(createdArticle));
+        return createdArticle;
     }
     
     /**
-     * 뉴스 수정
+     * 뉴스 수정 (전체 필드 교체)
+     * 부분 수정과 같은 경로(버전 조건 단일 UPDATE)를 사용하며, 요청에 version이 있으면 낙관적 잠금으로 검증합니다.
      */
     public Optional<NewsArticle> updateArticle(Long id, NewsArticle updatedArticle) {
-        try {
-            Optional<NewsArticle> existingArticle = newsArticleRepository.findById(id);
-            if (existingArticle.isPresent()) {
-                NewsArticle article = existingArticle.get();
-                article.setTitle(updatedArticle.getTitle());
-                article.setMainImg(updatedArticle.getMainImg());
-                article.setAuthor(updatedArticle.getAuthor());
-                article.setContent(updatedArticle.getContent());
-                article.setCategory(updatedArticle.getCategory());
-                article.setIsPremium(updatedArticle.getIsPremium());
-                return Optional.of(newsArticleRepository.save(article));
-            }
-        } catch (Exception e) {
-            // JPA 연결 실패 시 메모리에서 수정
-            Optional<NewsArticle> existingArticle = sampleArticles.stream()
-                    .filter(article -> article.getId().equals(id))
-                    .findFirst();
-            if (existingArticle.isPresent()) {
-                NewsArticle article = existingArticle.get();
-                article.setTitle(updatedArticle.getTitle());
-                article.setMainImg(updatedArticle.getMainImg());
-                article.setAuthor(updatedArticle.getAuthor());
-                article.setContent(updatedArticle.getContent());
-                article.setCategory(updatedArticle.getCategory());
-                article.setIsPremium(updatedArticle.getIsPremium());
-                article.setUpdateDate(LocalDateTime.now());
-                return Optional.of(article);
-            }
-        }
-        return Optional.empty();
+        return patchArticle(id, ArticlePatch.replacing(updatedArticle));
+    }
+    
+    /**
+     * 뉴스 부분 수정 (요청에 포함된 필드만 변경)
+     * 기사 컬럼은 지정된 컬럼만 바꾸는 UPDATE 한 문장으로, 본문은 포함된 경우에만 news_article_contents에 저장합니다.
+     *
+     * @throws org.springframework.dao.OptimisticLockingFailureException 요청 버전이 현재 버전과 다르거나 동시 수정이 먼저 커밋된 경우
+     */
+    public Optional<NewsArticle> patchArticle(Long id, ArticlePatch patch) {
+        Long articleId = provisionalIdMappings.resolveId(id);
+        Optional<ArticleChangedEvent> updated = DegradedArticleStore.isProvisional(articleId)
+                ? degradedStore.update(requireWritable(articleId), patch.version(), patch::applyTo)
+                : dataAccessGuard.execute(null,
+                        () -> transactionTemplate.execute(status -> newsArticleRepository.patch(articleId, patch).map(patched -> {
+                            NewsArticle article = patched.article();
+                            if (patch.has(ArticlePatch.Field.CONTENT)) {
+                                contentStore.update(article);
+                            } else {
+                                // 변경 이벤트(캐시/색인 갱신)와 응답에 쓰기 위해 기존 본문 조회
+                                contentStore.attach(article);
+                            }
+                            ArticleChangedEvent event = ArticleChangedEvent.updated(patched.previous(), article);
+                            outbox.append(event);
+                            return event;
+                        })),
+                        // DB 장애 시 수정을 잃지 않도록 거부 (503)
+                        () -> rejectWrite(articleId));
+        updated.ifPresent(eventPublisher::publishEvent);
+        return updated.map(ArticleChangedEvent::article);
     }
     
     /**
      * 뉴스 삭제
      */
     public boolean deleteArticle(Long id) {
-        try {
-            if (newsArticleRepository.existsById(id)) {
-                newsArticleRepository.deleteById(id);
-                return true;
-            }
-            return false;
-        } catch (Exception e) {
-            return sampleArticles.removeIf(article -> article.getId().equals(id));
+        Long articleId = provisionalIdMappings.resolveId(id);
+        // 삭제 전 상태는 변경 이벤트(영향받는 목록 버킷 계산)에 사용
+        Optional<NewsArticleSummary> deleted = DegradedArticleStore.isProvisional(articleId)
+                ? degradedStore.delete(requireWritable(articleId))
+                : dataAccessGuard.execute(null,
+                        () -> transactionTemplate.execute(status -> {
+                            Optional<NewsArticleSummary> existing = newsArticleRepository.findById(articleId)
+                                    .map(NewsArticleSummary::from);
+                            if (existing.isPresent()) {
+                                newsArticleRepository.deleteById(articleId);
+                                outbox.append(ArticleChangedEvent.deleted(existing.get()));
+                            }
+                            return existing;
+                        }),
+                        () -> rejectWrite(articleId));
+        deleted.ifPresent(previous -> eventPublisher.publishEvent(ArticleChangedEvent.deleted(previous)));
+        return deleted.isPresent();
+    }
+    
+    /**
+     * 로컬 저장소 기사 중 쓸 수 있는 기사인지 확인 (샘플 기사는 읽기 전용)
+     */
+    private static Long requireWritable(Long articleId) {
+        if (DegradedArticleStore.isSample(articleId)) {
+            throw new DatabaseUnavailableException("Sample articles are read-only");
         }
+        return articleId;
+    }
+    
+    /**
+     * DB 장애 중 DB 기사 쓰기 거부 (로컬 저장소에 반영하면 복구 후 DB와 어긋나고 변경이 사라짐)
+     */
+    private static <T> T rejectWrite(Long articleId) {
+        throw new DatabaseUnavailableException(
+                "Database unavailable; article " + articleId + " cannot be changed until it recovers");
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.makersworld.civic_sights_main.config.DegradedStoreProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 임시 기사 ID → DB 기사 ID 매핑 (provisional_article_ids 테이블)
+ *
+ * 저널 재적용 트랜잭션에서 기사 저장과 함께 기록하므로, 적재한 노드가 아니어도/재시작 후에도
+ * 클라이언트가 가진 임시 ID로 DB 기사를 찾을 수 있습니다. 재적용은 이미 기록된 임시 ID를 건너뛰어
+ * 커밋 후 저널 정리 전에 종료된 경우에도 같은 기사를 두 번 적재하지 않습니다.
+ * 조회 결과는 최근 것만 메모리에 보관하고, 테이블은 보관 기간이 지난 행을 주기적으로 지워 크기를 제한합니다.
+ */
+@Slf4j
+@Component
+public class ProvisionalIdMappings {
+
+    private static final String INSERT =
+            "INSERT INTO provisional_article_ids (provisional_id, article_id, created_at) VALUES (?, ?, ?)";
+
+    private static final String SELECT =
+            "SELECT provisional_id, article_id FROM provisional_article_ids WHERE provisional_id IN (:ids)";
+
+    private static final String PURGE =
+            "DELETE FROM provisional_article_ids WHERE created_at < ? LIMIT ?";
+
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final DegradedArticleStore degradedStore;
+    private final ArticleDataAccessGuard dataAccessGuard;
+    private final DegradedStoreProperties properties;
+    private final Cache<Long, Long> resolved = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    public ProvisionalIdMappings(JdbcTemplate jdbcTemplate, DegradedArticleStore degradedStore,
+                                 ArticleDataAccessGuard dataAccessGuard, DegradedStoreProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.degradedStore = degradedStore;
+        this.dataAccessGuard = dataAccessGuard;
+        this.properties = properties;
+    }
+
+    /**
+     * 이미 DB에 적재된 임시 ID라면 DB ID로, 아니면 그대로 반환
+     * (이 노드에 아직 적재되지 않은 임시 기사이거나 DB를 조회할 수 없으면 그대로)
+     */
+    public Long resolveId(Long id) {
+        if (!DegradedArticleStore.isProvisional(id) || degradedStore.get(id).isPresent()) {
+            return id;
+        }
+        Long cached = resolved.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        if (dataAccessGuard.isOpen()) {
+            return id;
+        }
+        try {
+            Long articleId = findAll(List.of(id)).get(id);
+            if (articleId == null) {
+                return id;
+            }
+            resolved.put(id, articleId);
+            return articleId;
+        } catch (DataAccessException e) {
+            log.warn("Failed to resolve provisional article id {} - cause: {}", id, e.getMessage());
+            return id;
+        }
+    }
+
+    /**
+     * 이미 적재된 임시 ID의 DB ID (없는 ID는 결과에 없음)
+     */
+    public Map<Long, Long> findAll(Collection<Long> provisionalIds) {
+        Map<Long, Long> mappings = new HashMap<>();
+        if (provisionalIds.isEmpty()) {
+            return mappings;
+        }
+        namedJdbcTemplate.query(SELECT, Map.of("ids", provisionalIds),
+                rs -> {
+                    mappings.put(rs.getLong("provisional_id"), rs.getLong("article_id"));
+                });
+        return mappings;
+    }
+
+    /**
+     * 매핑 기록 (기사 적재와 같은 트랜잭션에서 호출)
+     */
+    public void record(Map<Long, Long> provisionalToArticle) {
+        if (provisionalToArticle.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Provisional id mappings must be written inside the replay transaction");
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT, provisionalToArticle.entrySet().stream()
+                .map(mapping -> new Object[]{mapping.getKey(), mapping.getValue(), now})
+                .toList());
+        resolved.putAll(provisionalToArticle);
+    }
+
+    /**
+     * 보관 기간이 지난 매핑 삭제 (배치 단위)
+     */
+    @Scheduled(fixedDelayString = "${app.degraded-store.id-mapping-purge-interval:1h}")
+    public void purgeExpired() {
+        if (dataAccessGuard.isOpen()) {
+            return;
+        }
+        try {
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(properties.getIdMappingRetention()));
+            int deleted;
+            int total = 0;
+            do {
+                deleted = jdbcTemplate.update(PURGE, cutoff, PURGE_BATCH_SIZE);
+                total += deleted;
+            } while (deleted == PURGE_BATCH_SIZE);
+            if (total > 0) {
+                log.info("Purged expired provisional id mappings - rows: {}", total);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Provisional id mapping purge failed, will retry: {}", e.getMessage());
+        }
+    }
+}
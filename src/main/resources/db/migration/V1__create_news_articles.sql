@@ -0,0 +1,14 @@
+-- 기존 ddl-auto=update 로 생성되던 news_articles 테이블 정의
+-- (이미 테이블이 있는 DB는 spring.flyway.baseline-on-migrate 로 V1을 기준점으로 삼고 건너뜀)
+CREATE TABLE IF NOT EXISTS news_articles (
+    id          BIGINT        NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(500)  NOT NULL,
+    main_img    VARCHAR(1000),
+    author      VARCHAR(100)  NOT NULL,
+    create_date DATETIME(6)   NOT NULL,
+    update_date DATETIME(6)   NOT NULL,
+    content     TEXT,
+    category    ENUM('BASIC_INCOME','CIVIC_ENGAGEMENT','MEGATRENDS') NOT NULL,
+    is_premium  BIT(1)        NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,15 @@
+-- 목록/카운트 쿼리 형태에 맞춘 복합 인덱스
+-- 모든 목록 쿼리는 create_date DESC, id DESC 로 정렬하므로 (필터 컬럼, create_date, id) 순서로 구성하여
+-- filesort 없이 인덱스 역방향 스캔으로 처리되도록 함
+
+-- 전체 목록: ORDER BY create_date DESC, id DESC
+CREATE INDEX idx_news_articles_create_date ON news_articles (create_date, id);
+
+-- 무료/유료 목록 및 countByIsPremium: WHERE is_premium = ? ORDER BY create_date DESC, id DESC
+CREATE INDEX idx_news_articles_premium_create_date ON news_articles (is_premium, create_date, id);
+
+-- 카테고리 목록 및 countByCategory: WHERE category = ? ORDER BY create_date DESC, id DESC
+CREATE INDEX idx_news_articles_category_create_date ON news_articles (category, create_date, id);
+
+-- 카테고리 + 유료 여부 목록: WHERE category = ? AND is_premium = ? ORDER BY create_date DESC, id DESC
+CREATE INDEX idx_news_articles_category_premium_create_date ON news_articles (category, is_premium, create_date, id);
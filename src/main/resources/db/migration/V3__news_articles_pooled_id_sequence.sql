@@ -0,0 +1,15 @@
+-- IDENTITY(AUTO_INCREMENT) → 풀링 시퀀스 전환
+-- IDENTITY는 INSERT 실행 후에야 ID를 알 수 있어 Hibernate가 INSERT를 JDBC 배치로 묶지 못함.
+-- MySQL에는 시퀀스가 없으므로 Hibernate의 시퀀스 테이블 에뮬레이션(next_val 단일 행)을 사용하며,
+-- 한 번 조회할 때마다 allocationSize(50)만큼 ID 구간을 예약합니다.
+CREATE TABLE news_articles_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+-- pooled 옵티마이저는 읽은 값을 구간의 상한으로 사용하므로(상한-49 ~ 상한),
+-- 첫 구간이 기존 ID와 겹치지 않도록 MAX(id) + 1 + 50 으로 시작
+INSERT INTO news_articles_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM news_articles;
+
+-- ID 발급 주체를 시퀀스 하나로 통일 (AUTO_INCREMENT와 섞이면 구간 충돌 가능)
+ALTER TABLE news_articles MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,23 @@
+-- 기사 본문 분리
+-- TEXT 본문이 메타데이터와 같은 행에 있으면 목록/메타데이터 스캔마다 본문까지 버퍼 풀로 읽히므로
+-- 별도 테이블로 옮기고, 상세 조회 등 본문이 필요한 경우에만 기사 ID로 조회합니다.
+CREATE TABLE news_article_contents (
+    article_id BIGINT NOT NULL PRIMARY KEY,
+    body MEDIUMBLOB NOT NULL,
+    CONSTRAINT fk_news_article_contents_article
+        FOREIGN KEY (article_id) REFERENCES news_articles (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- 본문 저장 형식 (CompressedTextConverter와 동일): 형식 버전 1바이트 + 데이터
+--   0x00: 원문 UTF-8 (256바이트 미만)
+--   0x01: COMPRESS() 결과 (원문 길이 4바이트 LE + zlib 스트림)
+INSERT INTO news_article_contents (article_id, body)
+SELECT id,
+       CASE
+           WHEN LENGTH(content) < 256 THEN CONCAT(0x00, CAST(content AS BINARY))
+           ELSE CONCAT(0x01, COMPRESS(content))
+       END
+FROM news_articles
+WHERE content IS NOT NULL;
+
+ALTER TABLE news_articles DROP COLUMN content;
@@ -0,0 +1,6 @@
+-- 낙관적 잠금용 버전 컬럼
+-- 수정은 "UPDATE ... SET version = version + 1 WHERE id = ? AND version = ?" 한 문장으로 수행하며,
+-- 갱신 행이 0건이면 그 사이 다른 수정이 커밋된 것이므로 409 Conflict로 응답합니다.
+-- 기존 행과 원시 SQL로 적재하는 시드 데이터는 기본값 0으로 시작
+ALTER TABLE news_articles
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
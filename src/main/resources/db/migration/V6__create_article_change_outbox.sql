@@ -0,0 +1,12 @@
+-- 기사 변경 이벤트 아웃박스
+-- 기사 쓰기와 같은 트랜잭션에서 한 행씩 추가하고, 릴레이(ArticleChangeRelay)가 id 순으로 읽어
+-- 브로커에 발행한 뒤 삭제합니다. 여러 노드의 릴레이가 동시에 돌아도 FOR UPDATE SKIP LOCKED로 행을 나눠 가짐
+CREATE TABLE article_change_outbox (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    origin      VARCHAR(64)  NOT NULL,
+    change_type VARCHAR(16)  NOT NULL,
+    article_id  BIGINT       NOT NULL,
+    previous    TEXT,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
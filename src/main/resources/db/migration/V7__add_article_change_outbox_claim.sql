@@ -0,0 +1,4 @@
+-- 아웃박스 행 선점 기한
+-- 릴레이는 잠금 트랜잭션에서 행을 선점(claimed_until 기록)만 하고 커밋한 뒤 트랜잭션 밖에서 발행합니다.
+-- 발행 후 삭제 전에 노드가 죽으면 기한이 지난 행을 다른 릴레이가 다시 선점해 발행 (최소 한 번 전달)
+ALTER TABLE article_change_outbox ADD COLUMN claimed_until DATETIME(6) NULL;
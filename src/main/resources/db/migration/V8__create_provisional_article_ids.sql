@@ -0,0 +1,10 @@
+-- DB 장애 중 발급한 임시 기사 ID → 복구 후 적재된 기사 ID
+-- 저널 재적용과 같은 트랜잭션에서 기록하므로 모든 노드가 재시작 후에도 임시 ID를 DB ID로 바꿀 수 있고,
+-- 이미 기록된 임시 기사는 다시 적재하지 않습니다. 보관 기간(app.degraded-store.id-mapping-retention)이 지난 행은 주기적으로 삭제
+CREATE TABLE provisional_article_ids (
+    provisional_id BIGINT      NOT NULL,
+    article_id     BIGINT      NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (provisional_id),
+    KEY idx_provisional_article_ids_created_at (created_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
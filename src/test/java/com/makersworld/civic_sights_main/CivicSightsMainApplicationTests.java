@@ -2,8 +2,10 @@ package com.makersworld.civic_sights_main;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@ActiveProfiles("local")
 class CivicSightsMainApplicationTests {
 
 	@Test
@@ -0,0 +1,51 @@
+package com.makersworld.civic_sights_main.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CidrMatcherTest {
+
+	private final CidrMatcher matcher = CidrMatcher.of(List.of(
+			"127.0.0.1/32", "::1/128", "10.0.0.0/8", "192.168.1.0/24", "fd00::/8", "2001:db8:1::/48"));
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"127.0.0.1", "10.255.3.4", "192.168.1.77",
+			"::1", "0:0:0:0:0:0:0:1", "[::1]", "fd12::1%eth0", "2001:db8:1:ffff::9",
+			"::ffff:10.1.2.3"
+	})
+	void allowedAddresses(String address) {
+		assertThat(matcher.matches(address)).isTrue();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"127.0.0.2", "11.0.0.1", "192.168.2.1", "::2", "fe80::1", "2001:db8:2::1", "::ffff:11.1.2.3",
+			"", "1.2.3", "1.2.3.4.5", "256.1.1.1", "::1::", ":::1", "1:2:3:4:5:6:7:8:9", "1::2:", "unknown"
+	})
+	void rejectedAddresses(String address) {
+		assertThat(matcher.matches(address)).isFalse();
+	}
+
+	@Test
+	void matchesSubrangeWithoutCopying() {
+		String forwardedFor = "10.1.1.1, 8.8.8.8";
+
+		assertThat(matcher.matches(forwardedFor, 0, 8)).isTrue();
+		assertThat(matcher.matches(forwardedFor, 10, forwardedFor.length())).isFalse();
+	}
+
+	@Test
+	void invalidNetworkIsRejectedAtStartup() {
+		assertThatThrownBy(() -> CidrMatcher.of(List.of("10.0.0.0/33")))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> CidrMatcher.of(List.of("zz::/8")))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
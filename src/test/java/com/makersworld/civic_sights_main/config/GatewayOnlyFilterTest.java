@@ -0,0 +1,65 @@
+package com.makersworld.civic_sights_main.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GatewayOnlyFilterTest {
+
+	private static final String TOKEN = "gateway-token";
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final GatewayOnlyFilter filter;
+
+	GatewayOnlyFilterTest() {
+		SecurityProperties properties = new SecurityProperties();
+		properties.setGatewayOnly(true);
+		properties.setGatewayToken(TOKEN);
+		properties.setAllowedNetworks(List.of("127.0.0.1/32"));
+		filter = new GatewayOnlyFilter(properties, registry);
+	}
+
+	@Test
+	void rejectionsAreCountedByReason() throws Exception {
+		assertThat(status(request("/api/articles", null, "127.0.0.1"))).isEqualTo(403);
+		assertThat(status(request("/api/articles", "wrong", "127.0.0.1"))).isEqualTo(403);
+		assertThat(status(request("/api/articles", "wrong", "127.0.0.1"))).isEqualTo(403);
+		assertThat(status(request("/api/articles", TOKEN, "10.0.0.1"))).isEqualTo(403);
+		assertThat(status(request("/api/articles", TOKEN, "127.0.0.1"))).isEqualTo(200);
+
+		assertThat(rejected("missing_header")).isEqualTo(1);
+		assertThat(rejected("invalid_token")).isEqualTo(2);
+		assertThat(rejected("client_not_allowed")).isEqualTo(1);
+	}
+
+	@Test
+	void metricsScrapeBypassesGatewayCheck() throws Exception {
+		assertThat(status(request("/actuator/prometheus", null, "10.0.0.1"))).isEqualTo(200);
+		assertThat(rejected("missing_header")).isZero();
+	}
+
+	private int status(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response.getStatus();
+	}
+
+	private double rejected(String reason) {
+		return registry.get("gateway.requests.rejected").tag("reason", reason).counter().count();
+	}
+
+	private static MockHttpServletRequest request(String uri, String token, String remoteAddr) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		request.setRemoteAddr(remoteAddr);
+		if (token != null) {
+			request.addHeader("X-Gateway-Internal", token);
+		}
+		return request;
+	}
+}
@@ -0,0 +1,185 @@
+package com.makersworld.civic_sights_main.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2 두 개(primary / replica)로 라우팅 검증
+ */
+class ReadWriteRoutingDataSourceTest {
+
+	private final EmbeddedDatabase primary = database("primary");
+	private final EmbeddedDatabase replica = database("replica");
+
+	@AfterEach
+	void shutdown() {
+		primary.shutdown();
+		replica.shutdown();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+		Routing routing = routing(List.of(replica), Duration.ZERO);
+
+		assertThat(routing.read()).isEqualTo("replica");
+		assertThat(routing.write()).isEqualTo("primary");
+		assertThat(routing.jdbc.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+	}
+
+	@Test
+	void readsStickToPrimaryOnlyForTheClientThatWrote() {
+		Routing routing = routing(List.of(replica), Duration.ofMinutes(1));
+		MockHttpServletResponse writeResponse = request();
+
+		routing.write();
+
+		assertThat(routing.read()).isEqualTo("primary");
+		Cookie sticky = writeResponse.getCookie(ReadWriteRoutingDataSource.STICKY_COOKIE);
+		assertThat(sticky).isNotNull();
+
+		request(sticky);
+		assertThat(routing.read()).isEqualTo("primary");
+
+		request();
+		assertThat(routing.read()).isEqualTo("replica");
+	}
+
+	@Test
+	void writesOutsideRequestsDoNotPinReads() {
+		Routing routing = routing(List.of(replica), Duration.ofMinutes(1));
+
+		routing.write();
+
+		assertThat(routing.read()).isEqualTo("replica");
+		request();
+		assertThat(routing.read()).isEqualTo("replica");
+	}
+
+	@Test
+	void expiredStickyCookieReadsFromReplica() {
+		Routing routing = routing(List.of(replica), Duration.ofMinutes(1));
+
+		request(new Cookie(ReadWriteRoutingDataSource.STICKY_COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+
+		assertThat(routing.read()).isEqualTo("replica");
+	}
+
+	@Test
+	void unavailableReplicaFallsBackToPrimaryUntilHealthy() {
+		FlakyDataSource flaky = new FlakyDataSource(replica);
+		Routing routing = routing(List.of(flaky), Duration.ZERO);
+		flaky.down = true;
+
+		assertThat(routing.read()).isEqualTo("primary");
+		assertThat(routing.dataSource.healthyReplicaCount()).isZero();
+
+		routing.dataSource.checkReplicas();
+		assertThat(routing.read()).isEqualTo("primary");
+
+		flaky.down = false;
+		routing.dataSource.checkReplicas();
+		assertThat(routing.dataSource.healthyReplicaCount()).isEqualTo(1);
+		assertThat(routing.read()).isEqualTo("replica");
+	}
+
+	@Test
+	void withoutReplicasEverythingGoesToPrimary() {
+		Routing routing = routing(List.of(), Duration.ZERO);
+
+		assertThat(routing.read()).isEqualTo("primary");
+	}
+
+	// 새 HTTP 요청을 현재 스레드에 바인딩하고 응답 반환
+	private static MockHttpServletResponse request(Cookie... cookies) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (cookies.length > 0) {
+			request.setCookies(cookies);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+		return response;
+	}
+
+	private Routing routing(List<DataSource> replicas, Duration stickyWindow) {
+		ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary, replicas, stickyWindow, Duration.ofSeconds(1));
+		LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(dataSource);
+		return new Routing(dataSource, new JdbcTemplate(lazy), new DataSourceTransactionManager(lazy));
+	}
+
+	private record Routing(ReadWriteRoutingDataSource dataSource, JdbcTemplate jdbc, DataSourceTransactionManager transactionManager) {
+
+		String read() {
+			TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+			readOnly.setReadOnly(true);
+			return readOnly.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+		}
+
+		String write() {
+			return new TransactionTemplate(transactionManager).execute(status -> {
+				jdbc.update("UPDATE node SET writes = writes + 1");
+				return jdbc.queryForObject("SELECT name FROM node", String.class);
+			});
+		}
+	}
+
+	/**
+	 * 연결 획득 실패를 흉내 내는 복제본
+	 */
+	private static final class FlakyDataSource extends AbstractDataSource {
+
+		private final DataSource target;
+		private volatile boolean down;
+
+		private FlakyDataSource(DataSource target) {
+			this.target = target;
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (down) {
+				throw new SQLTransientConnectionException("replica down");
+			}
+			return target.getConnection();
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return getConnection();
+		}
+	}
+
+	private static EmbeddedDatabase database(String name) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.setName(name + "-" + UUID.randomUUID())
+				.build();
+		JdbcTemplate jdbc = new JdbcTemplate(database);
+		jdbc.execute("CREATE TABLE node (name VARCHAR(20), writes INT)");
+		jdbc.update("INSERT INTO node VALUES (?, 0)", name);
+		return database;
+	}
+}
@@ -0,0 +1,38 @@
+package com.makersworld.civic_sights_main.entitlement;
+
+import com.makersworld.civic_sights_main.config.EntitlementProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntitlementResolverTest {
+
+	private final EntitlementResolver resolver = new EntitlementResolver(new EntitlementProperties());
+
+	@Test
+	void paidRolesGrantPremiumContent() {
+		assertThat(resolver.resolve("PAID_USER").has(Entitlement.PREMIUM_CONTENT)).isTrue();
+		assertThat(resolver.resolve("USER, role_paid_user").has(Entitlement.PREMIUM_CONTENT)).isTrue();
+	}
+
+	@Test
+	void unknownOrMissingRolesGrantNothing() {
+		assertThat(resolver.resolve("USER,ADMIN")).isEqualTo(Entitlements.NONE);
+		assertThat(resolver.resolve("")).isEqualTo(Entitlements.NONE);
+		assertThat(resolver.resolve((String) null)).isEqualTo(Entitlements.NONE);
+	}
+
+	@Test
+	void sameHeaderResolvesToCachedInstance() {
+		assertThat(resolver.resolve("USER,PAID_USER")).isSameAs(resolver.resolve("USER,PAID_USER"));
+	}
+
+	@Test
+	void requiredEntitlementsMustAllBePresent() {
+		Entitlements required = Entitlements.of(Entitlement.PREMIUM_CONTENT);
+
+		assertThat(resolver.resolve("PAID_USER").hasAll(required)).isTrue();
+		assertThat(Entitlements.NONE.hasAll(required)).isFalse();
+		assertThat(Entitlements.NONE.hasAll(Entitlements.NONE)).isTrue();
+	}
+}
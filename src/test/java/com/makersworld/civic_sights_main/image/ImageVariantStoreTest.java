@@ -0,0 +1,156 @@
+package com.makersworld.civic_sights_main.image;
+
+import com.makersworld.civic_sights_main.config.ImageProperties;
+import com.makersworld.civic_sights_main.model.ImageVariant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 픽스처(1600x1000 PNG, 가운데 투명 원)로 변형 생성과 내용 주소 캐시를 검증
+ */
+class ImageVariantStoreTest {
+
+	private static final String SOURCE = "https://picsum.photos/id/10/1600/1000";
+
+	@TempDir
+	Path cacheDir;
+
+	private ImageProperties properties;
+	private ImageVariantStore store;
+	private byte[] fixture;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		properties = new ImageProperties();
+		properties.setCacheDir(cacheDir);
+		store = new ImageVariantStore(properties, new ImageVariantGenerator(properties));
+		try (InputStream in = getClass().getResourceAsStream("/images/fixture.png")) {
+			fixture = in.readAllBytes();
+		}
+	}
+
+	@Test
+	void variantsAreResizedJpegsWithoutUpscaling() throws IOException {
+		String hash = store.store(SOURCE, fixture);
+
+		assertThat(dimensions(store.path(hash, ImageVariant.THUMBNAIL))).containsExactly(160, 100);
+		assertThat(dimensions(store.path(hash, ImageVariant.CARD))).containsExactly(480, 300);
+		assertThat(dimensions(store.path(hash, ImageVariant.HERO))).containsExactly(1280, 800);
+
+		// 투명 영역은 흰색으로 채워짐
+		BufferedImage hero = ImageIO.read(store.path(hash, ImageVariant.HERO).toFile());
+		assertThat(hero.getRGB(640, 400) & 0xffffff).isGreaterThan(0xf0f0f0);
+	}
+
+	@Test
+	void sameContentUnderAnotherUrlSharesFiles() throws IOException {
+		String hash = store.store(SOURCE, fixture);
+		Path card = store.path(hash, ImageVariant.CARD);
+		long written = Files.getLastModifiedTime(card).toMillis();
+
+		String other = store.store("https://fastly.picsum.photos/id/10/1600/1000.png", fixture);
+
+		assertThat(other).isEqualTo(hash);
+		assertThat(Files.getLastModifiedTime(card).toMillis()).isEqualTo(written);
+		assertThat(store.lookup("https://fastly.picsum.photos/id/10/1600/1000.png")).contains(hash);
+		assertThat(store.lookup("https://picsum.photos/id/11/1600/1000")).isEmpty();
+	}
+
+	@Test
+	void aliasesSurviveRestart() throws IOException {
+		String hash = store.store(SOURCE, fixture);
+
+		ImageVariantStore restarted = new ImageVariantStore(properties, new ImageVariantGenerator(properties));
+
+		assertThat(restarted.lookup(SOURCE)).contains(hash);
+	}
+
+	@Test
+	void expiredAliasesAreRecheckedAgainstTheSource() throws IOException {
+		properties.setAliasTimeToLive(Duration.ZERO);
+		ImageVariantStore expiring = new ImageVariantStore(properties, new ImageVariantGenerator(properties));
+
+		expiring.store(SOURCE, fixture);
+
+		assertThat(expiring.lookup(SOURCE)).isEmpty();
+	}
+
+	@Test
+	void leastRecentlyUsedSourceIsEvictedOverQuota() throws IOException {
+		String old = store.store(SOURCE, fixture);
+		Path oldDirectory = store.path(old, ImageVariant.CARD).getParent();
+		Files.setLastModifiedTime(oldDirectory, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+		// 이전 원본만 들어가는 크기
+		properties.setMaxCacheBytes(variantBytes(old));
+
+		String recent = store.store("https://picsum.photos/id/11/800/600", solidPng(800, 600));
+
+		assertThat(Files.exists(oldDirectory)).isFalse();
+		assertThat(store.path(recent, ImageVariant.CARD)).exists();
+	}
+
+	@Test
+	void storesUnderQuotaUseTheRunningTotalInsteadOfScanning() throws IOException {
+		String first = store.store(SOURCE, fixture);
+		long firstBytes = variantBytes(first);
+		assertThat(store.cachedBytes()).isEqualTo(firstBytes);
+
+		// 누적값에 잡히지 않은 파일은 다음 탐색 전까지 보이지 않음
+		Path untracked = cacheDir.resolve("variants").resolve("zz").resolve("zz-untracked");
+		Files.createDirectories(untracked);
+		Files.write(untracked.resolve("card.jpg"), new byte[4096]);
+		Files.setLastModifiedTime(untracked, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+		properties.setMaxCacheBytes(firstBytes * 3);
+
+		String second = store.store("https://picsum.photos/id/11/800/600", solidPng(800, 600));
+
+		assertThat(store.cachedBytes()).isEqualTo(firstBytes + variantBytes(second));
+		assertThat(untracked).exists();
+	}
+
+	@Test
+	void rejectsNonImagesAndOversizedImages() {
+		assertThatThrownBy(() -> store.store(SOURCE, "<html></html>".getBytes(StandardCharsets.UTF_8)))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		properties.setMaxSourcePixels(1_000_000);
+		assertThatThrownBy(() -> store.store(SOURCE, fixture))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("1600x1000");
+	}
+
+	private long variantBytes(String hash) throws IOException {
+		long bytes = 0;
+		for (ImageVariant variant : ImageVariant.values()) {
+			bytes += Files.size(store.path(hash, variant));
+		}
+		return bytes;
+	}
+
+	private static byte[] solidPng(int width, int height) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+		return out.toByteArray();
+	}
+
+	private static int[] dimensions(Path path) throws IOException {
+		BufferedImage image = ImageIO.read(path.toFile());
+		return new int[]{image.getWidth(), image.getHeight()};
+	}
+}
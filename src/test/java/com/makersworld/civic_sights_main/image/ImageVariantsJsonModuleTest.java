@@ -0,0 +1,60 @@
+package com.makersworld.civic_sights_main.image;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.makersworld.civic_sights_main.config.ImageProperties;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 응답의 images 필드는 허용 호스트 원본에만 만들어지는지 검증
+ */
+class ImageVariantsJsonModuleTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 8, 12, 0);
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+			.findAndAddModules()
+			.addModule(new ImageVariantsJsonModule(new ImageVariantLinks(new ImageSourceFetcher(new ImageProperties()))))
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+
+	@Test
+	void allowedSourceGetsVariantUrls() throws Exception {
+		JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(
+				summary("https://picsum.photos/800/400?random=1")));
+
+		assertThat(json.get("id").asLong()).isEqualTo(7L);
+		assertThat(json.get("mainImg").asText()).isEqualTo("https://picsum.photos/800/400?random=1");
+		assertThat(json.get("createDate").asText()).isEqualTo("2025-08-08T12:00:00");
+		assertThat(json.at("/images/thumbnail").asText())
+				.isEqualTo("/api/images/thumbnail?src=https%3A%2F%2Fpicsum.photos%2F800%2F400%3Frandom%3D1");
+		assertThat(json.at("/images/card").asText()).startsWith("/api/images/card?src=");
+		assertThat(json.at("/images/hero").asText()).startsWith("/api/images/hero?src=");
+	}
+
+	@Test
+	void sourcesTheImageEndpointWouldRejectGetNoVariants() throws Exception {
+		List<JsonNode> json = List.of(
+				objectMapper.valueToTree(summary("https://example.com/images/1.jpg")),
+				objectMapper.valueToTree(summary("ftp://picsum.photos/1.jpg")),
+				objectMapper.valueToTree(summary(null)));
+
+		assertThat(json).allSatisfy(summary -> {
+			assertThat(summary.get("images").isNull()).isTrue();
+			assertThat(summary.get("title").asText()).isEqualTo("title");
+		});
+	}
+
+	private static NewsArticleSummary summary(String mainImg) {
+		return new NewsArticleSummary(7L, "title", mainImg, "author", NOW, NOW, Category.MEGATRENDS, false);
+	}
+}
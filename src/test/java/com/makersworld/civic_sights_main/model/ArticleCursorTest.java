@@ -0,0 +1,41 @@
+package com.makersworld.civic_sights_main.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleCursorTest {
+
+	@Test
+	void encodeAndDecodeRoundTrip() {
+		ArticleCursor cursor = new ArticleCursor(LocalDateTime.of(2025, 8, 8, 12, 30, 15, 123456000), 42L);
+
+		assertThat(ArticleCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void blankCursorMeansFirstPage() {
+		assertThat(ArticleCursor.decode("")).isNull();
+		assertThat(ArticleCursor.decode(null)).isNull();
+	}
+
+	@Test
+	void invalidCursorIsRejected() {
+		assertThatThrownBy(() -> ArticleCursor.decode("not-a-cursor"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void precedesFollowsCreateDateThenIdDescending() {
+		LocalDateTime now = LocalDateTime.of(2025, 8, 8, 12, 0);
+		ArticleCursor cursor = new ArticleCursor(now, 10L);
+
+		assertThat(cursor.precedes(NewsArticle.builder().createDate(now.minusSeconds(1)).id(99L).build())).isTrue();
+		assertThat(cursor.precedes(NewsArticle.builder().createDate(now).id(9L).build())).isTrue();
+		assertThat(cursor.precedes(NewsArticle.builder().createDate(now).id(10L).build())).isFalse();
+		assertThat(cursor.precedes(NewsArticle.builder().createDate(now.plusSeconds(1)).id(1L).build())).isFalse();
+	}
+}
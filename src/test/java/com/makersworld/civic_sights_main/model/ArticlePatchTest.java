@@ -0,0 +1,56 @@
+package com.makersworld.civic_sights_main.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticlePatchTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void onlySuppliedFieldsAreApplied() throws Exception {
+		ArticlePatch patch = ArticlePatch.fromJson(
+				objectMapper.readTree("{\"title\":\"new title\",\"mainImg\":null,\"version\":3}"), objectMapper);
+		NewsArticle article = NewsArticle.builder()
+				.title("old title")
+				.mainImg("https://example.com/1.jpg")
+				.author("author")
+				.category(Category.MEGATRENDS)
+				.isPremium(true)
+				.build();
+
+		patch.applyTo(article);
+
+		assertThat(patch.fields()).containsExactlyInAnyOrder(ArticlePatch.Field.TITLE, ArticlePatch.Field.MAIN_IMG);
+		assertThat(patch.version()).isEqualTo(3L);
+		assertThat(article.getTitle()).isEqualTo("new title");
+		assertThat(article.getMainImg()).isNull();
+		assertThat(article.getAuthor()).isEqualTo("author");
+		assertThat(article.getCategory()).isEqualTo(Category.MEGATRENDS);
+		assertThat(article.getIsPremium()).isTrue();
+	}
+
+	@Test
+	void nullForRequiredFieldIsRejected() {
+		assertThatThrownBy(() -> ArticlePatch.fromJson(objectMapper.readTree("{\"title\":null}"), objectMapper))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("title");
+	}
+
+	@Test
+	void patchWithoutUpdatableFieldsIsRejected() {
+		assertThatThrownBy(() -> ArticlePatch.fromJson(objectMapper.readTree("{\"version\":1}"), objectMapper))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ArticlePatch.fromJson(objectMapper.readTree("[]"), objectMapper))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void invalidCategoryIsRejected() {
+		assertThatThrownBy(() -> ArticlePatch.fromJson(objectMapper.readTree("{\"category\":\"SPORTS\"}"), objectMapper))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,62 @@
+package com.makersworld.civic_sights_main.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedTextConverterTest {
+
+	private final CompressedTextConverter converter = new CompressedTextConverter();
+
+	@Test
+	void shortBodyIsStoredRaw() {
+		byte[] stored = converter.convertToDatabaseColumn("짧은 본문");
+
+		assertThat(stored[0]).isEqualTo(CompressedTextConverter.FORMAT_RAW);
+		assertThat(converter.convertToEntityAttribute(stored)).isEqualTo("짧은 본문");
+	}
+
+	@Test
+	void longBodyIsCompressedAndRoundTrips() {
+		String body = "기본소득 실험의 사회적 효과 분석. ".repeat(300);
+
+		byte[] stored = converter.convertToDatabaseColumn(body);
+
+		assertThat(stored[0]).isEqualTo(CompressedTextConverter.FORMAT_DEFLATE);
+		assertThat(stored.length).isLessThan(body.getBytes(StandardCharsets.UTF_8).length / 10);
+		assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(body);
+	}
+
+	@Test
+	void readsMySqlCompressLayout() {
+		// COMPRESS(): 원문 길이(4바이트 LE) + zlib 스트림, 공백으로 끝나면 '.'이 덧붙음
+		byte[] raw = "civic engagement ".repeat(40).getBytes(StandardCharsets.UTF_8);
+		Deflater deflater = new Deflater();
+		deflater.setInput(raw);
+		deflater.finish();
+		byte[] zlib = new byte[raw.length];
+		int length = deflater.deflate(zlib);
+		deflater.end();
+
+		byte[] stored = new byte[1 + 4 + length + 1];
+		stored[0] = CompressedTextConverter.FORMAT_DEFLATE;
+		stored[1] = (byte) raw.length;
+		stored[2] = (byte) (raw.length >>> 8);
+		System.arraycopy(zlib, 0, stored, 5, length);
+		stored[stored.length - 1] = '.';
+
+		assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(new String(raw, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void nullAndUnknownFormats() {
+		assertThat(converter.convertToDatabaseColumn(null)).isNull();
+		assertThat(converter.convertToEntityAttribute(null)).isNull();
+		assertThatThrownBy(() -> converter.convertToEntityAttribute(new byte[] {0x7f, 1, 2}))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,83 @@
+package com.makersworld.civic_sights_main.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.makersworld.civic_sights_main.config.OutboxProperties;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent.ChangeType;
+import com.makersworld.civic_sights_main.service.ArticleDataAccessGuard;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 릴레이의 선점 → 트랜잭션 밖 발행 → 삭제 순서와 기동 조건 검증
+ */
+class ArticleChangeRelayTest {
+
+	private static final List<ArticleChangeMessage> MESSAGES =
+			List.of(new ArticleChangeMessage(1, "node-a", ChangeType.CREATED, 7L, null));
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final ArticleChangeBroker broker = mock(ArticleChangeBroker.class);
+	private final OutboxProperties properties = new OutboxProperties();
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void publishesAfterClaimCommitsAndThenDeletes() {
+		when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenReturn(MESSAGES);
+
+		relay().relayBatch();
+
+		InOrder order = inOrder(jdbcTemplate, transactionManager, broker);
+		order.verify(jdbcTemplate).batchUpdate(startsWith("UPDATE article_change_outbox SET claimed_until = ?"), anyList());
+		order.verify(transactionManager).commit(any());
+		order.verify(broker).publish(MESSAGES);
+		order.verify(jdbcTemplate).batchUpdate(startsWith("DELETE"), anyList());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void failedPublishReleasesClaimInsteadOfDeleting() {
+		when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenReturn(MESSAGES);
+		doThrow(new IllegalStateException("broker down")).when(broker).publish(MESSAGES);
+
+		assertThatThrownBy(() -> relay().relayBatch()).hasMessage("broker down");
+
+		verify(jdbcTemplate).batchUpdate(eq("UPDATE article_change_outbox SET claimed_until = NULL WHERE id = ?"), anyList());
+		verify(jdbcTemplate, never()).batchUpdate(startsWith("DELETE"), anyList());
+	}
+
+	@Test
+	void processLocalBrokerRequiresSingleNode() {
+		when(broker.isProcessLocal()).thenReturn(true);
+
+		assertThatIllegalStateException().isThrownBy(() -> relay().requireBrokerReachingAllNodes());
+
+		properties.setSingleNode(true);
+		relay().requireBrokerReachingAllNodes();
+	}
+
+	private ArticleChangeRelay relay() {
+		return new ArticleChangeRelay(jdbcTemplate, new TransactionTemplate(transactionManager), broker,
+				mock(ArticleDataAccessGuard.class), new ObjectMapper(), properties);
+	}
+}
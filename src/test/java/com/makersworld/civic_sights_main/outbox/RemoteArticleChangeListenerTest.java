@@ -0,0 +1,106 @@
+package com.makersworld.civic_sights_main.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.makersworld.civic_sights_main.cache.RemoteCache;
+import com.makersworld.civic_sights_main.config.ArticleCacheProperties;
+import com.makersworld.civic_sights_main.config.OutboxProperties;
+import com.makersworld.civic_sights_main.config.RemoteCacheProperties;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.repository.NewsArticleRepository;
+import com.makersworld.civic_sights_main.service.ArticleCache;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent.ChangeType;
+import com.makersworld.civic_sights_main.service.ArticleContentStore;
+import com.makersworld.civic_sights_main.service.ArticleDataAccessGuard;
+import com.makersworld.civic_sights_main.service.ArticlesCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 두 노드가 프로세스 내 브로커 하나를 공유하는 구성으로 수신 측 반영을 검증
+ */
+class RemoteArticleChangeListenerTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 8, 12, 0);
+
+	private final InMemoryArticleChangeBroker broker = new InMemoryArticleChangeBroker();
+	private final NewsArticleRepository repository = mock(NewsArticleRepository.class);
+	private final ArticleContentStore contentStore = mock(ArticleContentStore.class);
+	private final ArticleCache articleCache = new ArticleCache(new ArticleCacheProperties(),
+			new RemoteCacheProperties(), (RemoteCache) null, new ObjectMapper(), Runnable::run);
+	private final List<Object> events = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		OutboxProperties properties = new OutboxProperties();
+		properties.setNodeId("node-a");
+		when(contentStore.attachAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		new RemoteArticleChangeListener(broker, repository, contentStore, articleCache,
+				mock(ArticleDataAccessGuard.class), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+				events::add, properties).subscribe();
+	}
+
+	@Test
+	void ownChangesAreSkipped() {
+		broker.publish(List.of(new ArticleChangeMessage(1, "node-a", ChangeType.CREATED, 7L, null)));
+
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	void remoteChangesAreReplayedWithCurrentState() {
+		NewsArticle created = article(7L, Category.MEGATRENDS);
+		NewsArticle updated = article(8L, Category.BASIC_INCOME);
+		NewsArticleSummary updatedBefore = NewsArticleSummary.from(article(8L, Category.MEGATRENDS));
+		NewsArticleSummary deletedBefore = NewsArticleSummary.from(article(9L, Category.CIVIC_ENGAGEMENT));
+		when(repository.findAllById(List.of(7L, 8L))).thenReturn(List.of(created, updated));
+
+		broker.publish(List.of(
+				new ArticleChangeMessage(1, "node-b", ChangeType.CREATED, 7L, null),
+				new ArticleChangeMessage(2, "node-b", ChangeType.UPDATED, 8L, updatedBefore),
+				new ArticleChangeMessage(3, "node-b", ChangeType.DELETED, 9L, deletedBefore)));
+
+		assertThat(events).containsExactly(
+				ArticleChangedEvent.updated(updatedBefore, updated),
+				ArticleChangedEvent.deleted(deletedBefore),
+				new ArticlesCreatedEvent(List.of(created)));
+	}
+
+	@Test
+	void updateOfArticleDeletedSinceEvictsCachedCopy() {
+		articleCache.put(article(8L, Category.MEGATRENDS));
+		when(repository.findAllById(List.of(8L))).thenReturn(List.of());
+
+		broker.publish(List.of(new ArticleChangeMessage(1, "node-b", ChangeType.UPDATED, 8L,
+				NewsArticleSummary.from(article(8L, Category.MEGATRENDS)))));
+
+		assertThat(events).isEmpty();
+		assertThat(articleCache.get(8L)).isEmpty();
+	}
+
+	private static NewsArticle article(Long id, Category category) {
+		return NewsArticle.builder()
+				.id(id)
+				.title("title " + id)
+				.author("author")
+				.createDate(NOW)
+				.updateDate(NOW)
+				.category(category)
+				.isPremium(false)
+				.version(0L)
+				.build();
+	}
+}
@@ -0,0 +1,265 @@
+package com.makersworld.civic_sights_main.repository;
+
+import com.makersworld.civic_sights_main.model.ArticlePatch;
+import com.makersworld.civic_sights_main.model.Category;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NewsArticleRepository 쿼리 실행 계획 검증
+ *
+ * Flyway 마이그레이션을 적용한 MySQL 컨테이너에 샘플 데이터를 적재한 뒤 리포지토리 메서드를 실제로 호출하고,
+ * DataSource 프록시(datasource-proxy)로 가로챈 Hibernate 생성 SQL을 같은 바인딩 값으로 EXPLAIN 하여
+ * 풀 스캔(type=ALL)이나 filesort가 없는지 확인합니다.
+ * Docker가 없는 환경에서는 자동으로 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NewsArticleRepositoryExplainTest {
+
+	@Container
+	static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.4");
+
+	private static final int SEED_ROWS = 5_000;
+
+	private static final LocalDateTime SEEK_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+	private static final long SEEK_ID = 2_500L;
+
+	// 선행 와일드카드 LIKE 는 B-Tree 인덱스로 처리할 수 없으므로 검증 대상에서 제외
+	private static final Set<String> UNINDEXABLE = Set.of(
+			"findByAuthorContainingIgnoreCaseOrderByCreateDateDesc");
+
+	// 리포지토리 메서드별 대표 호출 (깊은 페이지는 OFFSET이 붙도록 page=4)
+	private static final Map<String, Consumer<NewsArticleRepository>> INVOCATIONS = new LinkedHashMap<>();
+
+	// 프록시 DataSource를 거쳐 실행된 SQL과 바인딩 값 (호출 단위로 비우고 수집)
+	private static final List<CapturedStatement> CAPTURED = new CopyOnWriteArrayList<>();
+
+	static {
+		invoke("findAllByOrderByCreateDateDesc",
+				repository -> repository.findSliceByOrderByCreateDateDescIdDesc(PageRequest.of(4, 25)));
+		invoke("findByIsPremiumTrueOrderByCreateDateDesc",
+				repository -> repository.findSliceByIsPremiumTrueOrderByCreateDateDescIdDesc(PageRequest.of(4, 25)));
+		invoke("findByIsPremiumFalseOrderByCreateDateDesc",
+				repository -> repository.findSliceByIsPremiumFalseOrderByCreateDateDescIdDesc(PageRequest.of(4, 25)));
+		invoke("findByCategoryOrderByCreateDateDesc",
+				repository -> repository.findSliceByCategoryOrderByCreateDateDescIdDesc(Category.MEGATRENDS, PageRequest.of(4, 25)));
+		invoke("findByCategoryAndIsPremiumOrderByCreateDateDesc",
+				repository -> repository.findSliceByCategoryAndIsPremiumOrderByCreateDateDescIdDesc(
+						Category.MEGATRENDS, true, PageRequest.of(4, 25)));
+		invoke("findAllByOrderByCreateDateDescIdDesc",
+				repository -> repository.findAllByOrderByCreateDateDescIdDesc(PageRequest.of(0, 26)));
+		invoke("findByIsPremiumOrderByCreateDateDescIdDesc",
+				repository -> repository.findByIsPremiumOrderByCreateDateDescIdDesc(true, PageRequest.of(0, 26)));
+		invoke("findByCategoryOrderByCreateDateDescIdDesc",
+				repository -> repository.findByCategoryOrderByCreateDateDescIdDesc(Category.MEGATRENDS, PageRequest.of(0, 26)));
+		invoke("findAllAfter",
+				repository -> repository.findAllAfter(SEEK_DATE, SEEK_ID, PageRequest.of(0, 26)));
+		invoke("findByIsPremiumAfter",
+				repository -> repository.findByIsPremiumAfter(true, SEEK_DATE, SEEK_ID, PageRequest.of(0, 26)));
+		invoke("findByCategoryAfter",
+				repository -> repository.findByCategoryAfter(Category.MEGATRENDS, SEEK_DATE, SEEK_ID, PageRequest.of(0, 26)));
+		invoke("findByIdAndIsPremiumFalse", repository -> repository.findByIdAndIsPremiumFalse(42L));
+		invoke("findByIdAndIsPremiumTrue", repository -> repository.findByIdAndIsPremiumTrue(42L));
+		invoke("findVersionById", repository -> repository.findVersionById(42L));
+		invoke("findByIdGreaterThanOrderByIdAsc",
+				repository -> repository.findByIdGreaterThanOrderByIdAsc(SEEK_ID, PageRequest.of(0, 500)));
+		invoke("countByIsPremium", repository -> repository.countByIsPremium(true));
+		invoke("countByCategory", repository -> repository.countByCategory(Category.MEGATRENDS));
+		invoke("countByCategoryAndIsPremium",
+				repository -> repository.countByCategoryAndIsPremium(Category.MEGATRENDS, true));
+		invoke("countGroupedByCategoryAndIsPremium", NewsArticleRepository::countGroupedByCategoryAndIsPremium);
+		// NewsArticlePatchRepository 프래그먼트 (버전 조건 단일 UPDATE, 테스트 트랜잭션과 함께 롤백)
+		invoke("patch", repository -> repository.patch(42L, new ArticlePatch(EnumSet.of(ArticlePatch.Field.TITLE),
+				"patched", null, null, null, null, null, 0L)));
+	}
+
+	@Autowired
+	private NewsArticleRepository newsArticleRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private static void invoke(String method, Consumer<NewsArticleRepository> invocation) {
+		INVOCATIONS.put(method, invocation);
+	}
+
+	/**
+	 * 실행된 SQL 한 문장과 PreparedStatement 바인딩 호출 기록
+	 */
+	private record CapturedStatement(String sql, List<ParameterSetOperation> parameters) {
+	}
+
+	@TestConfiguration
+	static class CapturingDataSourceConfig {
+
+		// 애플리케이션 DataSource를 감싸 Hibernate가 보내는 SQL을 그대로 수집
+		@Bean
+		static BeanPostProcessor capturingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (!(bean instanceof DataSource dataSource)) {
+						return bean;
+					}
+					return ProxyDataSourceBuilder.create(dataSource)
+							.name("explain-capture")
+							.afterQuery((execution, queries) -> queries.forEach(NewsArticleRepositoryExplainTest::capture))
+							.build();
+				}
+			};
+		}
+	}
+
+	private static void capture(QueryInfo query) {
+		List<List<ParameterSetOperation>> parameters = query.getParametersList();
+		CAPTURED.add(new CapturedStatement(query.getQuery(),
+				parameters.isEmpty() ? List.of() : List.copyOf(parameters.get(0))));
+	}
+
+	@DynamicPropertySource
+	static void mysqlProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL::getUsername);
+		registry.add("spring.datasource.password", MYSQL::getPassword);
+	}
+
+	@BeforeAll
+	static void migrateAndSeed() throws SQLException {
+		Flyway.configure()
+				.dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+				.locations("classpath:db/migration")
+				.load()
+				.migrate();
+
+		try (Connection connection = connect();
+			 PreparedStatement insert = connection.prepareStatement(
+					 "INSERT INTO news_articles (id, title, main_img, author, create_date, update_date, category, is_premium) " +
+					 "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+			String[] categories = {"BASIC_INCOME", "CIVIC_ENGAGEMENT", "MEGATRENDS"};
+			LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+			for (int i = 0; i < SEED_ROWS; i++) {
+				Timestamp createdAt = Timestamp.valueOf(base.plusHours(i * 3L));
+				insert.setLong(1, i + 1L);
+				insert.setString(2, "title " + i);
+				insert.setString(3, "https://example.com/" + i + ".jpg");
+				insert.setString(4, "author " + (i % 50));
+				insert.setTimestamp(5, createdAt);
+				insert.setTimestamp(6, createdAt);
+				insert.setString(7, categories[i % categories.length]);
+				insert.setBoolean(8, i % 4 == 0);
+				insert.addBatch();
+			}
+			insert.executeBatch();
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ANALYZE TABLE news_articles");
+			}
+		}
+	}
+
+	@Test
+	void everyRepositoryQueryIsInvoked() {
+		Set<String> declared = Stream.of(NewsArticleRepository.class, NewsArticlePatchRepository.class)
+				.flatMap(type -> Stream.of(type.getDeclaredMethods()))
+				.filter(method -> !method.isSynthetic() && !method.isDefault())
+				.map(Method::getName)
+				.collect(Collectors.toSet());
+
+		assertThat(declared)
+				.as("새 리포지토리 쿼리는 INVOCATIONS 에 실행 계획 검증 대상으로 추가해야 합니다")
+				.allMatch(name -> INVOCATIONS.containsKey(name) || UNINDEXABLE.contains(name));
+	}
+
+	@TestFactory
+	Stream<DynamicTest> generatedQueriesUseIndexesWithoutFilesort() {
+		// 리포지토리 호출은 테스트 트랜잭션 안에서 먼저 모두 실행하고, EXPLAIN은 별도 커넥션에서 수행
+		Map<String, List<CapturedStatement>> statements = new LinkedHashMap<>();
+		INVOCATIONS.forEach((method, invocation) -> {
+			entityManager.clear();
+			CAPTURED.clear();
+			invocation.accept(newsArticleRepository);
+			entityManager.flush();
+			statements.put(method, List.copyOf(CAPTURED));
+		});
+
+		return statements.entrySet().stream()
+				.flatMap(entry -> {
+					assertThat(entry.getValue()).as(entry.getKey() + " 실행 SQL").isNotEmpty();
+					return entry.getValue().stream()
+							.map(statement -> DynamicTest.dynamicTest(entry.getKey() + ": " + statement.sql(),
+									() -> assertIndexed(statement)));
+				});
+	}
+
+	private static void assertIndexed(CapturedStatement captured) throws Exception {
+		List<String> problems = new ArrayList<>();
+		try (Connection connection = connect();
+			 PreparedStatement statement = connection.prepareStatement("EXPLAIN " + captured.sql())) {
+			// Hibernate가 호출한 setXxx 를 같은 인자로 재현 (파라미터 위치는 EXPLAIN 접두어와 무관)
+			for (ParameterSetOperation parameter : captured.parameters()) {
+				parameter.getMethod().invoke(statement, parameter.getArgs());
+			}
+			try (ResultSet plan = statement.executeQuery()) {
+				while (plan.next()) {
+					String type = plan.getString("type");
+					String extra = plan.getString("Extra");
+					if ("ALL".equals(type)) {
+						problems.add("full table scan (type=ALL)");
+					}
+					if (extra != null && extra.contains("Using filesort")) {
+						problems.add("filesort (" + extra + ")");
+					}
+				}
+			}
+		}
+		assertThat(problems).as(captured.sql()).isEmpty();
+	}
+
+	private static Connection connect() throws SQLException {
+		return DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+	}
+}
@@ -0,0 +1,125 @@
+package com.makersworld.civic_sights_main.search;
+
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.repository.NewsArticleRepository;
+import com.makersworld.civic_sights_main.service.ArticleChangedEvent;
+import com.makersworld.civic_sights_main.service.ArticleContentStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 역색인의 AND 매칭, 점수 정렬, 변경/삭제 반영, 초기 구성 중 삭제 처리 검증
+ */
+class ArticleSearchIndexTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 8, 12, 0);
+
+	private final NewsArticleRepository repository = mock(NewsArticleRepository.class);
+	private final ArticleContentStore contentStore = mock(ArticleContentStore.class);
+	private final ArticleSearchIndex index = new ArticleSearchIndex(repository, contentStore);
+
+	@BeforeEach
+	void setUp() {
+		when(contentStore.attachAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	void allQueryTermsMustMatch() {
+		index.index(article(1L, "기본소득 실험", "정책 효과 분석"));
+		index.index(article(2L, "기본소득 논쟁", "찬반 토론"));
+
+		assertThat(search("기본소득 정책")).containsExactly(1L);
+		assertThat(search("기본소득")).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(search("없는단어")).isEmpty();
+	}
+
+	@Test
+	void singleCharacterQueryMatchesInsideWords() {
+		index.index(article(1L, "헌법 개정 논의", "본문"));
+
+		assertThat(search("법")).containsExactly(1L);
+	}
+
+	@Test
+	void titleMatchesRankAboveContentMatches() {
+		index.index(article(1L, "시민 참여", "기후 위기 대응"));
+		index.index(article(2L, "기후 위기", "시민 참여 확대"));
+
+		assertThat(search("기후")).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void updatesReplaceTermsAndDeletesRemoveArticle() {
+		NewsArticle original = article(1L, "기본소득 실험", "본문");
+		index.index(original);
+
+		NewsArticle updated = article(1L, "메가트렌드 전망", "본문");
+		updated.setUpdateDate(NOW.plusMinutes(1));
+		index.onArticleChanged(ArticleChangedEvent.updated(NewsArticleSummary.from(original), updated));
+
+		assertThat(search("기본소득")).isEmpty();
+		assertThat(search("메가트렌드")).containsExactly(1L);
+
+		index.onArticleChanged(ArticleChangedEvent.deleted(NewsArticleSummary.from(updated)));
+
+		assertThat(search("메가트렌드")).isEmpty();
+	}
+
+	@Test
+	void olderVersionDoesNotReplaceNewerOne() {
+		NewsArticle newer = article(1L, "새 제목", "본문");
+		newer.setUpdateDate(NOW.plusMinutes(5));
+		index.index(newer);
+
+		index.index(article(1L, "옛 제목", "본문"));
+
+		assertThat(search("새 제목")).containsExactly(1L);
+		assertThat(search("옛")).isEmpty();
+	}
+
+	@Test
+	void articleDeletedDuringBuildIsNotIndexed() {
+		when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenAnswer(invocation -> {
+			// 배치를 읽은 뒤 색인하기 전에 삭제됨
+			index.remove(2L);
+			return List.of(article(1L, "기본소득", "본문"), article(2L, "기본소득", "본문"));
+		});
+
+		index.build();
+
+		assertThat(search("기본소득")).containsExactly(1L);
+	}
+
+	private List<Long> search(String query) {
+		return index.search(query, PageRequest.of(0, 10)).getContent().stream()
+				.map(NewsArticleSummary::id)
+				.toList();
+	}
+
+	private static NewsArticle article(Long id, String title, String content) {
+		return NewsArticle.builder()
+				.id(id)
+				.title(title)
+				.content(content)
+				.author("author")
+				.createDate(NOW)
+				.updateDate(NOW)
+				.category(Category.MEGATRENDS)
+				.isPremium(false)
+				.version(0L)
+				.build();
+	}
+}
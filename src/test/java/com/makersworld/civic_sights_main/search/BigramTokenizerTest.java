@@ -0,0 +1,40 @@
+package com.makersworld.civic_sights_main.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BigramTokenizerTest {
+
+	@Test
+	void koreanRunsBecomeBigrams() {
+		assertThat(BigramTokenizer.tokenize("기본소득")).containsExactly("기본", "본소", "소득");
+	}
+
+	@Test
+	void latinRunsBecomeLowercaseWords() {
+		assertThat(BigramTokenizer.tokenize("Basic Income, 2024!")).containsExactly("basic", "income", "2024");
+	}
+
+	@Test
+	void mixedScriptsAreSplitByScript() {
+		assertThat(BigramTokenizer.tokenize("AI시대 정책")).containsExactly("ai", "시대", "정책");
+	}
+
+	@Test
+	void singleHangulCharacterIsKept() {
+		assertThat(BigramTokenizer.tokenize("및")).containsExactly("및");
+	}
+
+	@Test
+	void indexTokensAddUnigramsForCjkRuns() {
+		assertThat(BigramTokenizer.tokenizeForIndex("헌법 policy"))
+				.containsExactly("헌법", "헌", "법", "policy");
+	}
+
+	@Test
+	void emptyInputHasNoTokens() {
+		assertThat(BigramTokenizer.tokenize(null)).isEmpty();
+		assertThat(BigramTokenizer.tokenize("  ,.  ")).isEmpty();
+	}
+}
@@ -0,0 +1,225 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.makersworld.civic_sights_main.cache.EmbeddedRemoteCache;
+import com.makersworld.civic_sights_main.config.ArticleCacheProperties;
+import com.makersworld.civic_sights_main.config.RemoteCacheProperties;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드가 embedded 원격 계층 하나를 공유하는 구성으로 2계층 조회를 검증
+ */
+class ArticleCacheTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 8, 12, 0);
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+			.findAndAddModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+	private final RemoteCacheProperties remoteProperties = new RemoteCacheProperties();
+	private final EmbeddedRemoteCache remote = new EmbeddedRemoteCache(remoteProperties);
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void concurrentMissesLoadOnce() throws Exception {
+		ArticleCache cache = node(Duration.ofMinutes(8));
+		CountDownLatch release = new CountDownLatch(1);
+		Supplier<Optional<NewsArticle>> loader = () -> {
+			loads.incrementAndGet();
+			await(release);
+			NewsArticle article = article(7L);
+			cache.put(article);
+			return Optional.of(article);
+		};
+
+		List<Future<Optional<NewsArticle>>> results = new ArrayList<>();
+		try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 16; i++) {
+				results.add(readers.submit(() -> cache.get(7L, loader)));
+			}
+			Thread.sleep(100);
+			release.countDown();
+		}
+
+		assertThat(loads).hasValue(1);
+		for (Future<Optional<NewsArticle>> result : results) {
+			assertThat(result.get()).map(NewsArticle::getTitle).contains("title 7");
+		}
+	}
+
+	@Test
+	void otherNodeIsFilledFromSharedTier() {
+		ArticleCache first = node(Duration.ofMinutes(8));
+		ArticleCache second = node(Duration.ofMinutes(8));
+		first.get(7L, dbLoader(first));
+
+		Optional<NewsArticle> shared = second.get(7L, dbLoader(second));
+
+		assertThat(loads).hasValue(1);
+		assertThat(shared).map(NewsArticle::getTitle).contains("title 7");
+		assertThat(second.get(7L)).isPresent();
+	}
+
+	@Test
+	void changeInvalidatesSharedTierAndUpdatesNearCache() {
+		ArticleCache first = node(Duration.ofMinutes(8));
+		ArticleCache second = node(Duration.ofMinutes(8));
+		first.get(7L, dbLoader(first));
+
+		NewsArticle updated = article(7L);
+		updated.setTitle("updated");
+		updated.setVersion(1L);
+		first.onArticleChanged(ArticleChangedEvent.updated(null, updated));
+
+		assertThat(first.get(7L)).map(NewsArticle::getTitle).contains("updated");
+		assertThat(remote.get("article:7")).isNull();
+		second.get(7L, dbLoader(second));
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void entriesPastRefreshAfterAreReloadedInBackground() {
+		ArticleCache cache = node(Duration.ZERO);
+		cache.get(7L, dbLoader(cache));
+
+		Optional<NewsArticle> hit = cache.get(7L, dbLoader(cache));
+
+		assertThat(hit).isPresent();
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void loadStartedBeforeChangeDoesNotOverwriteIt() {
+		ArticleCache cache = node(Duration.ofMinutes(8));
+		NewsArticle updated = article(7L);
+		updated.setTitle("updated");
+		updated.setVersion(1L);
+		cache.onArticleChanged(ArticleChangedEvent.updated(null, updated));
+
+		// 변경 전에 DB에서 읽은 결과가 늦게 적재됨
+		cache.put(article(7L));
+
+		assertThat(cache.get(7L)).map(NewsArticle::getTitle).contains("updated");
+	}
+
+	@Test
+	void deletedArticleIsNotResurrectedByLoadInFlight() {
+		ArticleCache cache = node(Duration.ofMinutes(8));
+		cache.get(7L, dbLoader(cache));
+		cache.onArticleChanged(ArticleChangedEvent.deleted(NewsArticleSummary.from(article(7L))));
+
+		cache.put(article(7L));
+
+		assertThat(cache.get(7L)).isEmpty();
+		assertThat(cache.get(7L, dbLoader(cache))).isEmpty();
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void staleLoadOnOtherNodeDoesNotRefillSharedTier() {
+		ArticleCache first = node(Duration.ofMinutes(8));
+		ArticleCache second = node(Duration.ofMinutes(8));
+		NewsArticle updated = article(7L);
+		updated.setTitle("updated");
+		updated.setVersion(1L);
+		first.onArticleChanged(ArticleChangedEvent.updated(null, updated));
+
+		// 다른 노드가 변경 전에 DB에서 읽은 결과가 무효화 이후에 적재됨
+		second.put(article(7L));
+		assertThat(remote.get("article:7")).isNull();
+
+		second.put(updated);
+		assertThat(remote.get("article:7")).isNotNull();
+	}
+
+	@Test
+	void deletedArticleIsNotRefilledIntoSharedTier() {
+		ArticleCache first = node(Duration.ofMinutes(8));
+		ArticleCache second = node(Duration.ofMinutes(8));
+		first.get(7L, dbLoader(first));
+		first.onArticleChanged(ArticleChangedEvent.deleted(NewsArticleSummary.from(article(7L))));
+
+		second.put(article(7L));
+
+		assertThat(remote.get("article:7")).isNull();
+	}
+
+	@Test
+	void evictAlsoClearsProcessLocalTier() {
+		ArticleCache cache = node(Duration.ofMinutes(8));
+		cache.get(7L, dbLoader(cache));
+
+		cache.evict(7L);
+
+		assertThat(remote.get("article:7")).isNull();
+		cache.get(7L, dbLoader(cache));
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void callersReceiveCopies() {
+		ArticleCache cache = node(Duration.ofMinutes(8));
+		cache.get(7L, dbLoader(cache)).orElseThrow().setTitle("changed by caller");
+
+		assertThat(cache.get(7L)).map(NewsArticle::getTitle).contains("title 7");
+	}
+
+	private ArticleCache node(Duration refreshAfter) {
+		ArticleCacheProperties properties = new ArticleCacheProperties();
+		properties.setRefreshAfter(refreshAfter);
+		// 백그라운드 갱신을 호출 스레드에서 바로 실행
+		return new ArticleCache(properties, remoteProperties, remote, objectMapper, Runnable::run);
+	}
+
+	private Supplier<Optional<NewsArticle>> dbLoader(ArticleCache cache) {
+		return () -> {
+			loads.incrementAndGet();
+			NewsArticle article = article(7L);
+			cache.put(article);
+			return Optional.of(article);
+		};
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static NewsArticle article(Long id) {
+		return NewsArticle.builder()
+				.id(id)
+				.title("title " + id)
+				.author("author")
+				.content("content " + id)
+				.createDate(NOW)
+				.updateDate(NOW)
+				.category(Category.MEGATRENDS)
+				.isPremium(false)
+				.version(0L)
+				.build();
+	}
+}
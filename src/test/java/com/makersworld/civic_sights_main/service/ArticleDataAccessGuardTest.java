@@ -0,0 +1,52 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.makersworld.civic_sights_main.config.DataAccessGuardProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 쓰기 대체 저장은 DB에 반영되지 않은 것이 확실한 실패에서만 사용하는지 검증
+ */
+class ArticleDataAccessGuardTest {
+
+	private final ArticleDataAccessGuard guard = new ArticleDataAccessGuard(CircuitBreakerRegistry.ofDefaults(),
+			new DataAccessGuardProperties(), mock(PlatformTransactionManager.class));
+
+	@Test
+	void writeFallsBackWhenNoConnectionCanBeObtained() {
+		assertThat(guard.executeWrite(failing(new CannotCreateTransactionException("no connection")), () -> "fallback"))
+				.isEqualTo("fallback");
+		assertThat(guard.executeWrite(failing(new DataAccessResourceFailureException("Unable to acquire JDBC Connection",
+				new SQLTransientConnectionException("Connection is not available, request timed out"))), () -> "fallback"))
+				.isEqualTo("fallback");
+	}
+
+	@Test
+	void writeFailuresWithUnknownOutcomeAreRejected() {
+		assertThatThrownBy(() -> guard.executeWrite(failing(new CannotAcquireLockException("deadlock")), () -> "fallback"))
+				.isInstanceOf(DatabaseUnavailableException.class);
+		assertThatThrownBy(() -> guard.executeWrite(failing(new QueryTimeoutException("timeout")), () -> "fallback"))
+				.isInstanceOf(DatabaseUnavailableException.class);
+		assertThatThrownBy(() -> guard.executeWrite(
+				failing(new DataAccessResourceFailureException("Communications link failure during commit")), () -> "fallback"))
+				.isInstanceOf(DatabaseUnavailableException.class);
+	}
+
+	private static Supplier<String> failing(RuntimeException failure) {
+		return () -> {
+			throw failure;
+		};
+	}
+}
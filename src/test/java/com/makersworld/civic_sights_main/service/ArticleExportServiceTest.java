@@ -0,0 +1,230 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.makersworld.civic_sights_main.config.ExportProperties;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.CompressedTextConverter;
+import com.makersworld.civic_sights_main.service.ArticleExportService.ExportFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 내장 H2(MySQL 모드)로 내보내기 조건 / NDJSON 출력 / 본문 복원 / 커서 정리 검증
+ */
+class ArticleExportServiceTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+	private static final CompressedTextConverter BODY_CONVERTER = new CompressedTextConverter();
+	private static final String LONG_BODY = "기본소득 실험의 사회적 효과 분석. ".repeat(100);
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+			.findAndAddModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+
+	private EmbeddedDatabase database;
+	private RecordingDataSource dataSource;
+	private ArticleExportService service;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.setName(UUID.randomUUID() + ";MODE=MySQL")
+				.build();
+		JdbcTemplate jdbc = new JdbcTemplate(database);
+		jdbc.execute("CREATE TABLE news_articles (id BIGINT PRIMARY KEY, title VARCHAR(500) NOT NULL, "
+				+ "main_img VARCHAR(1000), author VARCHAR(100) NOT NULL, create_date TIMESTAMP(6) NOT NULL, "
+				+ "update_date TIMESTAMP(6) NOT NULL, category VARCHAR(32) NOT NULL, is_premium BOOLEAN NOT NULL)");
+		jdbc.execute("CREATE TABLE news_article_contents (article_id BIGINT PRIMARY KEY, body BLOB NOT NULL)");
+		insert(jdbc, 1, Category.BASIC_INCOME, false, BASE, "짧은 본문");
+		insert(jdbc, 2, Category.MEGATRENDS, true, BASE.plusDays(1), LONG_BODY);
+		insert(jdbc, 3, Category.BASIC_INCOME, true, BASE.plusDays(2), null);
+		// create_date가 같으면 id 순
+		insert(jdbc, 4, Category.CIVIC_ENGAGEMENT, false, BASE.plusDays(2), "동률");
+
+		ExportProperties properties = new ExportProperties();
+		properties.setFetchSize(2);
+		properties.setFlushEvery(1);
+		dataSource = new RecordingDataSource(database);
+		service = new ArticleExportService(new JdbcTemplate(dataSource), objectMapper, properties,
+				mock(ArticleDataAccessGuard.class));
+	}
+
+	@AfterEach
+	void shutdown() {
+		database.shutdown();
+	}
+
+	@Test
+	void noFilterExportsEveryArticleWithoutWhereClause() throws IOException {
+		List<JsonNode> lines = export(new ExportFilter(null, null, null, null));
+
+		assertThat(lines).extracting(line -> line.get("id").asLong()).containsExactly(1L, 2L, 3L, 4L);
+		assertThat(dataSource.sql).singleElement().asString()
+				.doesNotContain("WHERE")
+				.endsWith(" ORDER BY a.create_date, a.id");
+	}
+
+	@Test
+	void eachFilterAddsItsOwnCondition() throws IOException {
+		assertThat(ids(new ExportFilter(Category.BASIC_INCOME, null, null, null))).containsExactly(1L, 3L);
+		assertThat(dataSource.lastSql()).contains(" WHERE a.category = ? ORDER BY");
+
+		assertThat(ids(new ExportFilter(null, true, null, null))).containsExactly(2L, 3L);
+		assertThat(dataSource.lastSql()).contains(" WHERE a.is_premium = ? ORDER BY");
+
+		assertThat(ids(new ExportFilter(null, null, BASE.plusDays(1), null))).containsExactly(2L, 3L, 4L);
+		assertThat(dataSource.lastSql()).contains(" WHERE a.create_date >= ? ORDER BY");
+
+		// to는 포함하지 않음
+		assertThat(ids(new ExportFilter(null, null, null, BASE.plusDays(2)))).containsExactly(1L, 2L);
+		assertThat(dataSource.lastSql()).contains(" WHERE a.create_date < ? ORDER BY");
+	}
+
+	@Test
+	void filtersAreCombinedWithAnd() throws IOException {
+		assertThat(ids(new ExportFilter(Category.BASIC_INCOME, true, BASE, BASE.plusDays(3)))).containsExactly(3L);
+		assertThat(dataSource.lastSql()).contains(
+				" WHERE a.category = ? AND a.is_premium = ? AND a.create_date >= ? AND a.create_date < ? ORDER BY");
+	}
+
+	@Test
+	void eachArticleIsWrittenAsOneLine() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long written = service.export(new ExportFilter(null, null, null, null), out);
+
+		String ndjson = out.toString(StandardCharsets.UTF_8);
+		assertThat(written).isEqualTo(4);
+		assertThat(ndjson).endsWith("\n");
+		assertThat(ndjson.split("\n")).hasSize(4).allSatisfy(line -> {
+			JsonNode article = objectMapper.readTree(line);
+			assertThat(article.get("title").asText()).startsWith("article-");
+			assertThat(article.get("category").asText()).isNotBlank();
+		});
+	}
+
+	@Test
+	void rawAndCompressedBodiesAreDecoded() throws IOException {
+		List<JsonNode> lines = export(new ExportFilter(null, null, null, BASE.plusDays(2)));
+
+		assertThat(lines.get(0).get("content").asText()).isEqualTo("짧은 본문");
+		assertThat(lines.get(1).get("content").asText()).isEqualTo(LONG_BODY);
+		assertThat(lines.get(1).get("isPremium").asBoolean()).isTrue();
+	}
+
+	@Test
+	void articlesWithoutBodyAreExportedWithNullContent() throws IOException {
+		List<JsonNode> lines = export(new ExportFilter(Category.BASIC_INCOME, true, null, null));
+
+		assertThat(lines).singleElement().satisfies(line -> assertThat(line.get("content").isNull()).isTrue());
+	}
+
+	@Test
+	void clientDisconnectClosesTheCursor() throws SQLException {
+		OutputStream disconnecting = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+		};
+
+		assertThatThrownBy(() -> service.export(new ExportFilter(null, null, null, null), disconnecting))
+				.isInstanceOf(IOException.class)
+				.hasMessage("Broken pipe");
+		assertThat(dataSource.statements).singleElement().satisfies(statement -> assertThat(statement.isClosed()).isTrue());
+		assertThat(dataSource.connections).singleElement().satisfies(connection -> assertThat(connection.isClosed()).isTrue());
+	}
+
+	private List<Long> ids(ExportFilter filter) throws IOException {
+		return export(filter).stream().map(line -> line.get("id").asLong()).toList();
+	}
+
+	private List<JsonNode> export(ExportFilter filter) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.export(filter, out);
+		List<JsonNode> lines = new ArrayList<>();
+		for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+			if (!line.isEmpty()) {
+				lines.add(objectMapper.readTree(line));
+			}
+		}
+		return lines;
+	}
+
+	private static void insert(JdbcTemplate jdbc, long id, Category category, boolean isPremium,
+							   LocalDateTime createDate, String body) {
+		jdbc.update("INSERT INTO news_articles VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+				id, "article-" + id, null, "tester", Timestamp.valueOf(createDate), Timestamp.valueOf(createDate),
+				category.name(), isPremium);
+		if (body != null) {
+			jdbc.update("INSERT INTO news_article_contents VALUES (?, ?)", id, BODY_CONVERTER.convertToDatabaseColumn(body));
+		}
+	}
+
+	/**
+	 * 실행한 SQL과 만든 커넥션 / 문장을 기록하는 DataSource
+	 */
+	private static final class RecordingDataSource extends DelegatingDataSource {
+
+		private final List<String> sql = new ArrayList<>();
+		private final List<PreparedStatement> statements = new ArrayList<>();
+		private final List<Connection> connections = new ArrayList<>();
+
+		private RecordingDataSource(EmbeddedDatabase target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			Connection connection = super.getConnection();
+			connections.add(connection);
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+					(proxy, method, args) -> {
+						try {
+							Object result = method.invoke(connection, args);
+							if (method.getName().equals("prepareStatement")) {
+								sql.add((String) args[0]);
+								statements.add((PreparedStatement) result);
+							}
+							return result;
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					});
+		}
+
+		private String lastSql() {
+			return sql.get(sql.size() - 1);
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.makersworld.civic_sights_main.config.DegradedStoreProperties;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DegradedArticleStoreTest {
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+			.findAndAddModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+
+	@TempDir
+	Path tempDir;
+
+	private DegradedStoreProperties properties;
+	private DegradedArticleStore store;
+
+	@BeforeEach
+	void setUp() {
+		properties = new DegradedStoreProperties();
+		properties.setJournalPath(tempDir.resolve("journal.ndjson"));
+		store = newStore();
+	}
+
+	@Test
+	void createdArticlesGetDistinctProvisionalIdsAfterDeletes() {
+		NewsArticle first = store.create(article("first", Category.MEGATRENDS, false));
+		store.delete(first.getId());
+		NewsArticle second = store.create(article("second", Category.MEGATRENDS, false));
+
+		assertThat(DegradedArticleStore.isProvisional(first.getId())).isTrue();
+		assertThat(second.getId()).isNotEqualTo(first.getId());
+		assertThat(store.get(first.getId())).isEmpty();
+	}
+
+	@Test
+	void indexesFollowCategoryAndPremiumChanges() {
+		NewsArticle article = store.create(article("moved", Category.BASIC_INCOME, false));
+		store.update(article.getId(), changed -> {
+			changed.setCategory(Category.MEGATRENDS);
+			changed.setIsPremium(true);
+		});
+
+		assertThat(ids(store.after(Category.BASIC_INCOME, null, null, 10))).doesNotContain(article.getId());
+		assertThat(ids(store.after(Category.MEGATRENDS, null, null, 10))).first().isEqualTo(article.getId());
+		assertThat(ids(store.after(null, true, null, 10))).first().isEqualTo(article.getId());
+		// 샘플 3건 + 생성 1건
+		assertThat(store.page(null, null, PageRequest.of(0, 2)).getTotalElements()).isEqualTo(4);
+	}
+
+	@Test
+	void journalRestoresPendingArticlesAfterRestart() {
+		NewsArticle kept = store.create(article("kept", Category.CIVIC_ENGAGEMENT, true));
+		NewsArticle removed = store.create(article("removed", Category.CIVIC_ENGAGEMENT, true));
+		store.delete(removed.getId());
+
+		DegradedArticleStore restarted = newStore();
+
+		assertThat(restarted.pending()).extracting(NewsArticle::getId).containsExactly(kept.getId());
+		assertThat(restarted.create(article("next", Category.MEGATRENDS, false)).getId())
+				.isNotIn(kept.getId(), removed.getId());
+	}
+
+	@Test
+	void replayedArticlesLeaveStoreAndJournal() throws Exception {
+		NewsArticle pending = store.create(article("pending", Category.MEGATRENDS, false));
+		AtomicLong databaseIds = new AtomicLong(100);
+
+		List<DegradedArticleStore.Replayed> replayed = store.replayBatch(10, batch -> batch.stream()
+				.map(article -> NewsArticle.builder().id(databaseIds.incrementAndGet()).title(article.getTitle()).build())
+				.toList());
+
+		assertThat(replayed).hasSize(1);
+		assertThat(replayed.get(0).provisional().getId()).isEqualTo(pending.getId());
+		assertThat(replayed.get(0).saved().getId()).isEqualTo(101L);
+		assertThat(store.hasPending()).isFalse();
+		assertThat(Files.exists(properties.getJournalPath())).isFalse();
+	}
+
+	@Test
+	void articlesAlreadyReplayedAndDeletedLeaveTheStore() {
+		NewsArticle pending = store.create(article("pending", Category.MEGATRENDS, false));
+
+		List<DegradedArticleStore.Replayed> replayed = store.replayBatch(10,
+				batch -> batch.stream().map(article -> (NewsArticle) null).toList());
+
+		assertThat(replayed).singleElement().satisfies(article -> {
+			assertThat(article.provisional().getId()).isEqualTo(pending.getId());
+			assertThat(article.saved()).isNull();
+		});
+		assertThat(store.hasPending()).isFalse();
+	}
+
+	@Test
+	void sampleArticlesAreReadOnlyAndNeverReplayed() {
+		long sampleId = DegradedArticleStore.SAMPLE_ID_BASE;
+
+		assertThat(DegradedArticleStore.isSample(sampleId)).isTrue();
+		assertThat(store.update(sampleId, changed -> changed.setTitle("changed"))).isEmpty();
+		assertThat(store.delete(sampleId)).isEmpty();
+		assertThat(store.get(sampleId)).get().extracting(NewsArticle::getTitle).isNotEqualTo("changed");
+		assertThat(store.hasPending()).isFalse();
+	}
+
+	@Test
+	void sampleDataIsSkippedWhenDisabled() {
+		assertThat(store.get(DegradedArticleStore.SAMPLE_ID_BASE)).isPresent();
+
+		properties.setSeedSampleData(false);
+
+		assertThat(newStore().get(DegradedArticleStore.SAMPLE_ID_BASE)).isEmpty();
+	}
+
+	private DegradedArticleStore newStore() {
+		DegradedArticleStore degradedStore = new DegradedArticleStore(objectMapper, properties);
+		degradedStore.initialize();
+		return degradedStore;
+	}
+
+	private static NewsArticle article(String title, Category category, boolean isPremium) {
+		return NewsArticle.builder()
+				.title(title)
+				.author("tester")
+				.content("content")
+				.category(category)
+				.isPremium(isPremium)
+				.build();
+	}
+
+	private static List<Long> ids(List<NewsArticleSummary> summaries) {
+		return summaries.stream().map(NewsArticleSummary::id).toList();
+	}
+}
@@ -0,0 +1,105 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.makersworld.civic_sights_main.config.FrontPageProperties;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import com.makersworld.civic_sights_main.model.NewsArticleSummary;
+import com.makersworld.civic_sights_main.repository.NewsArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 첫 페이지 스냅샷의 메모리 반영과 백그라운드 재구성 검증 (모든 버킷이 같은 DB 결과를 보는 단순화된 구성)
+ */
+class FrontPageSnapshotsTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 8, 12, 0);
+
+	// DB의 최신순 목록
+	private final List<NewsArticleSummary> rows = new ArrayList<>();
+	private final NewsArticleRepository repository = mock(NewsArticleRepository.class,
+			invocation -> new SliceImpl<>(List.copyOf(rows)));
+	private final ArticleCounterRegistry counters = mock(ArticleCounterRegistry.class);
+	private final List<Runnable> rebuilds = new ArrayList<>();
+	private FrontPageSnapshots snapshots;
+
+	@BeforeEach
+	void setUp() {
+		FrontPageProperties properties = new FrontPageProperties();
+		properties.setSize(3);
+		when(counters.total(any(), any())).thenReturn(OptionalLong.of(10));
+		snapshots = new FrontPageSnapshots(repository, counters, properties, rebuilds::add);
+		rows.addAll(List.of(summary(3L), summary(2L), summary(1L)));
+		snapshots.rebuildAll();
+		clearInvocations(repository);
+	}
+
+	@Test
+	void changesAreAppliedWithoutQueryingOnTheWriterThread() {
+		snapshots.onArticleChanged(ArticleChangedEvent.created(article(4L)));
+
+		assertThat(ids(snapshots.firstPage(null, null, PageRequest.of(0, 3)))).containsExactly(4L, 3L, 2L);
+		verifyNoInteractions(repository);
+		assertThat(rebuilds).hasSize(1);
+	}
+
+	@Test
+	void removalFromFullSnapshotServesOnlyWhatItStillKnowsUntilRebuilt() {
+		snapshots.onArticleChanged(ArticleChangedEvent.deleted(summary(2L)));
+
+		assertThat(snapshots.firstPage(null, null, PageRequest.of(0, 3))).isEmpty();
+		assertThat(ids(snapshots.firstPage(null, null, PageRequest.of(0, 2)))).containsExactly(3L, 1L);
+
+		rows.remove(1);
+		rows.add(summary(0L));
+		rebuilds.forEach(Runnable::run);
+
+		assertThat(ids(snapshots.firstPage(null, null, PageRequest.of(0, 3)))).containsExactly(3L, 1L, 0L);
+	}
+
+	@Test
+	void rebuildsRequestedWhileOneIsPendingAreCoalesced() {
+		snapshots.onArticleChanged(ArticleChangedEvent.created(article(4L)));
+		snapshots.onArticlesCreated(new ArticlesCreatedEvent(List.of(article(5L), article(6L))));
+
+		assertThat(rebuilds).hasSize(1);
+		assertThat(ids(snapshots.firstPage(null, null, PageRequest.of(0, 3)))).containsExactly(6L, 5L, 4L);
+	}
+
+	private static List<Long> ids(Optional<Page<NewsArticleSummary>> page) {
+		return page.orElseThrow().getContent().stream().map(NewsArticleSummary::id).toList();
+	}
+
+	private static NewsArticleSummary summary(Long id) {
+		return NewsArticleSummary.from(article(id));
+	}
+
+	private static NewsArticle article(Long id) {
+		return NewsArticle.builder()
+				.id(id)
+				.title("title " + id)
+				.author("author")
+				.createDate(NOW.plusMinutes(id))
+				.updateDate(NOW.plusMinutes(id))
+				.category(Category.MEGATRENDS)
+				.isPremium(false)
+				.version(0L)
+				.build();
+	}
+}
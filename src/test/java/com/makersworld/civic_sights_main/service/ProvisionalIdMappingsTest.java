@@ -0,0 +1,117 @@
+package com.makersworld.civic_sights_main.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.makersworld.civic_sights_main.config.DataAccessGuardProperties;
+import com.makersworld.civic_sights_main.config.DegradedStoreProperties;
+import com.makersworld.civic_sights_main.model.Category;
+import com.makersworld.civic_sights_main.model.NewsArticle;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 내장 H2로 임시 ID 매핑의 기록 / 조회 / 만료 삭제 검증
+ */
+class ProvisionalIdMappingsTest {
+
+	private static final long PROVISIONAL_ID = DegradedArticleStore.PROVISIONAL_ID_BASE + 42;
+
+	@TempDir
+	Path tempDir;
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbc;
+	private TransactionTemplate transactionTemplate;
+	private DegradedStoreProperties properties;
+	private DegradedArticleStore degradedStore;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.setName(UUID.randomUUID() + ";MODE=MySQL")
+				.build();
+		jdbc = new JdbcTemplate(database);
+		jdbc.execute("CREATE TABLE provisional_article_ids (provisional_id BIGINT PRIMARY KEY, "
+				+ "article_id BIGINT NOT NULL, created_at TIMESTAMP(6) NOT NULL)");
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+		properties = new DegradedStoreProperties();
+		properties.setJournalPath(tempDir.resolve("journal.ndjson"));
+		properties.setSeedSampleData(false);
+		degradedStore = new DegradedArticleStore(JsonMapper.builder().findAndAddModules().build(), properties);
+		degradedStore.initialize();
+	}
+
+	@AfterEach
+	void shutdown() {
+		database.shutdown();
+	}
+
+	@Test
+	void recordedMappingsResolveFromAFreshInstance() {
+		transactionTemplate.executeWithoutResult(status -> mappings().record(Map.of(PROVISIONAL_ID, 7L)));
+
+		ProvisionalIdMappings restarted = mappings();
+
+		assertThat(restarted.resolveId(PROVISIONAL_ID)).isEqualTo(7L);
+		assertThat(restarted.findAll(List.of(PROVISIONAL_ID, PROVISIONAL_ID + 1))).containsExactly(Map.entry(PROVISIONAL_ID, 7L));
+		assertThat(restarted.resolveId(PROVISIONAL_ID + 1)).isEqualTo(PROVISIONAL_ID + 1);
+		assertThat(restarted.resolveId(7L)).isEqualTo(7L);
+	}
+
+	@Test
+	void articlesStillPendingOnThisNodeKeepTheirProvisionalId() {
+		NewsArticle pending = degradedStore.create(NewsArticle.builder()
+				.title("pending")
+				.category(Category.MEGATRENDS)
+				.isPremium(false)
+				.build());
+
+		assertThat(mappings().resolveId(pending.getId())).isEqualTo(pending.getId());
+	}
+
+	@Test
+	void recordingRequiresTheReplayTransaction() {
+		assertThatThrownBy(() -> mappings().record(Map.of(PROVISIONAL_ID, 7L)))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void expiredMappingsArePurged() {
+		properties.setIdMappingRetention(Duration.ofDays(1));
+		jdbc.update("INSERT INTO provisional_article_ids VALUES (?, ?, ?)",
+				PROVISIONAL_ID, 7L, Timestamp.valueOf(LocalDateTime.now().minusDays(2)));
+		jdbc.update("INSERT INTO provisional_article_ids VALUES (?, ?, ?)",
+				PROVISIONAL_ID + 1, 8L, Timestamp.valueOf(LocalDateTime.now()));
+
+		mappings().purgeExpired();
+
+		assertThat(jdbc.queryForList("SELECT provisional_id FROM provisional_article_ids", Long.class))
+				.containsExactly(PROVISIONAL_ID + 1);
+	}
+
+	private ProvisionalIdMappings mappings() {
+		ArticleDataAccessGuard guard = new ArticleDataAccessGuard(CircuitBreakerRegistry.ofDefaults(),
+				new DataAccessGuardProperties(), new DataSourceTransactionManager(database));
+		return new ProvisionalIdMappings(jdbc, degradedStore, guard, properties);
+	}
+}